@@ -16,10 +16,13 @@ package org.linkki.core.binding;
 import static java.util.Objects.requireNonNull;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.stream.Stream;
 
@@ -29,14 +32,18 @@ import org.linkki.core.binding.descriptor.aspect.LinkkiAspectDefinition;
 import org.linkki.core.binding.descriptor.property.BoundProperty;
 import org.linkki.core.binding.dispatcher.PropertyDispatcher;
 import org.linkki.core.binding.dispatcher.PropertyDispatcherFactory;
+import org.linkki.core.binding.dispatcher.behavior.CachingPropertyBehaviorProvider;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehavior;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
+import org.linkki.core.binding.instrumentation.BindingInstrumentation;
+import org.linkki.core.binding.instrumentation.InstrumentingPropertyDispatcher;
 import org.linkki.core.binding.manager.BindingManager;
 import org.linkki.core.binding.manager.UiUpdateObserver;
 import org.linkki.core.binding.validation.message.MessageList;
 import org.linkki.core.binding.wrapper.ComponentWrapper;
 import org.linkki.core.defaults.columnbased.pmo.ContainerPmo;
 import org.linkki.core.pmo.ButtonPmo;
+import org.linkki.core.pmo.DependsOn;
 import org.linkki.core.pmo.PresentationModelObject;
 import org.linkki.core.uiframework.UiFramework;
 import org.linkki.util.handler.Handler;
@@ -55,12 +62,24 @@ public class BindingContext implements UiUpdateObserver {
 
     private final String name;
     private final PropertyBehaviorProvider behaviorProvider;
+    private final CachingPropertyBehaviorProvider cachingBehaviorProvider;
     private final Handler afterUpdateHandler;
     private final Handler afterModelChangedHandler;
     private final PropertyDispatcherFactory dispatcherFactory;
+    private final ModelChanges modelChanges;
 
     private final Map<Object, WeakReference<Binding>> bindings = new WeakHashMap<>();
 
+    /**
+     * Bindings that were not updated because their component was hidden by one of its parents.
+     */
+    private final Set<Binding> suspendedBindings = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /**
+     * Referenced by this context, as the UI framework only keeps a weak reference.
+     */
+    private final Handler resumeHandler = this::resumeBindings;
+
     private MessageList currentMessages = new MessageList();
 
     /**
@@ -155,12 +174,24 @@ public class BindingContext implements UiUpdateObserver {
      */
     protected BindingContext(String contextName, PropertyBehaviorProvider behaviorProvider,
             PropertyDispatcherFactory dispatcherFactory, Handler afterUpdateHandler, Handler afterModelChangedHandler) {
+        this(contextName, behaviorProvider, dispatcherFactory, afterUpdateHandler, afterModelChangedHandler,
+                new ModelChanges());
+    }
+
+    /**
+     * Creates a new binding context that shares the given {@link ModelChanges} with its parent.
+     */
+    BindingContext(String contextName, PropertyBehaviorProvider behaviorProvider,
+            PropertyDispatcherFactory dispatcherFactory, Handler afterUpdateHandler, Handler afterModelChangedHandler,
+            ModelChanges modelChanges) {
         this.name = requireNonNull(contextName, "contextName must not be null");
         this.behaviorProvider = requireNonNull(behaviorProvider, "behaviorProvider must not be null");
+        this.cachingBehaviorProvider = new CachingPropertyBehaviorProvider(behaviorProvider);
         this.afterUpdateHandler = requireNonNull(afterUpdateHandler, "afterUpdateHandler must not be null");
         this.afterModelChangedHandler = requireNonNull(afterModelChangedHandler,
                                                        "afterModelChangedHandler must not be null");
         this.dispatcherFactory = requireNonNull(dispatcherFactory, "dispatcherFactory must not be null");
+        this.modelChanges = requireNonNull(modelChanges, "modelChanges must not be null");
     }
 
     /**
@@ -302,18 +333,77 @@ public class BindingContext implements UiUpdateObserver {
      */
     @Override
     public void uiUpdated() {
-        updateBindings();
+        updateBindingsInstrumented();
     }
 
+    /**
+     * Updates all bindings that are affected by the changes made in the UI since the last update.
+     * If no changes were recorded, all bindings are updated.
+     * <p>
+     * Bindings of components that are {@link UiFramework#isHiddenByParent(Object, Handler) hidden by
+     * a parent}, like the content of an unselected tab sheet, are suspended. They are updated once
+     * the parent shows its content again.
+     * <p>
+     * The results of the {@link PropertyBehavior PropertyBehaviors} are evaluated at most once per
+     * binding and update.
+     * 
+     * @see DependsOn
+     */
     void updateBindings() {
-        getBindingStream().forEach(this::updateBinding);
+        cachingBehaviorProvider.startCycle();
+        getBindingStream()
+                .filter(modelChanges::requiresUpdate)
+                .forEach(this::updateOrSuspend);
+    }
+
+    private void updateOrSuspend(Binding binding) {
+        if (UiFramework.isHiddenByParent(binding.getBoundComponent(), resumeHandler)) {
+            suspendedBindings.add(binding);
+        } else {
+            suspendedBindings.remove(binding);
+            updateBinding(binding);
+        }
+    }
+
+    /**
+     * Catches up on the updates of suspended bindings that are no longer hidden.
+     */
+    private void resumeBindings() {
+        List<Binding> resumedBindings = new ArrayList<>(suspendedBindings);
+        suspendedBindings.clear();
+        cachingBehaviorProvider.startCycle();
+        resumedBindings.stream()
+                .filter(this::isBound)
+                .forEach(this::updateOrSuspend);
+    }
+
+    private boolean isBound(Binding binding) {
+        WeakReference<Binding> reference = bindings.get(binding.getBoundComponent());
+        return reference != null && reference.get() == binding;
+    }
+
+    /**
+     * Updates all bindings and reports the duration to the {@link BindingInstrumentation}.
+     */
+    private void updateBindingsInstrumented() {
+        BindingInstrumentation instrumentation = BindingInstrumentation.get();
+        long start = instrumentation.isEnabled() ? System.nanoTime() : 0;
+        updateBindings();
+        if (instrumentation.isEnabled()) {
+            instrumentation.bindingContextUpdated(this, System.nanoTime() - start);
+        }
     }
 
     /**
      * Updates the given binding that is either in the context, or is to be added to the context.
      */
     void updateBinding(Binding binding) {
+        BindingInstrumentation instrumentation = BindingInstrumentation.get();
+        long start = instrumentation.isEnabled() ? System.nanoTime() : 0;
         binding.updateFromPmo();
+        if (instrumentation.isEnabled()) {
+            instrumentation.bindingUpdated(binding, System.nanoTime() - start);
+        }
     }
 
     /**
@@ -329,7 +419,11 @@ public class BindingContext implements UiUpdateObserver {
      * @see #modelChanged()
      */
     public void updateUi() {
-        updateBindings();
+        try {
+            updateBindingsInstrumented();
+        } finally {
+            modelChanges.clear();
+        }
 
         // Notify handler that the UI was updated for this context and the messages in all
         // contexts should now be updated
@@ -344,6 +438,7 @@ public class BindingContext implements UiUpdateObserver {
      */
     public MessageList displayMessages(MessageList messages) {
         currentMessages = messages;
+        cachingBehaviorProvider.startCycle();
         return getBindingStream()
                 .map(binding -> binding.displayMessages(messages))
                 .flatMap(MessageList::stream)
@@ -431,7 +526,7 @@ public class BindingContext implements UiUpdateObserver {
             ComponentWrapper componentWrapper) {
         Binding elementBinding = createBinding(pmo, bindingDescriptor, componentWrapper);
         ContainerBinding containerBinding = new ContainerBinding(elementBinding, getBehaviorProvider(),
-                dispatcherFactory, this::modelChanged);
+                dispatcherFactory, this::modelChanged, modelChanges);
         add(containerBinding, componentWrapper);
         return containerBinding;
     }
@@ -469,10 +564,15 @@ public class BindingContext implements UiUpdateObserver {
     private ElementBinding createBinding(Object pmo,
             BindingDescriptor bindingDescriptor,
             ComponentWrapper componentWrapper) {
+        String pmoProperty = bindingDescriptor.getBoundProperty().getPmoProperty();
+        PropertyDispatcher propertyDispatcher = InstrumentingPropertyDispatcher.instrument(dispatcherFactory
+                .createDispatcherChain(pmo, bindingDescriptor.getBoundProperty(), cachingBehaviorProvider));
         return new ElementBinding(componentWrapper,
-                dispatcherFactory.createDispatcherChain(pmo, bindingDescriptor.getBoundProperty(),
-                                                        getBehaviorProvider()),
-                this::modelChanged,
+                propertyDispatcher,
+                () -> {
+                    modelChanges.record(pmo, pmoProperty);
+                    modelChanged();
+                },
                 bindingDescriptor.getAspectDefinitions(),
                 bindingDescriptor.getMessageHandler());
     }
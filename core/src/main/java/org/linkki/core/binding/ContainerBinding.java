@@ -19,6 +19,8 @@ import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
 import org.linkki.core.uiframework.UiFramework;
 import org.linkki.util.handler.Handler;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
 /**
  * A container binding represents a {@link Binding} that is itself a {@link BindingContext}. That
  * means it acts as a {@link Binding} within another {@link BindingContext} but also handles other
@@ -38,6 +40,13 @@ public class ContainerBinding extends BindingContext implements Binding {
 
     private final Handler modelChanged;
 
+    /**
+     * The {@link ModelChanges} of this container if they are not shared with a parent
+     * {@link BindingContext}, which would clear them after its update.
+     */
+    @CheckForNull
+    private final ModelChanges ownModelChanges;
+
     /**
      * Creates a new {@link ContainerBinding} that is able to create multiple child bindings.
      * 
@@ -51,10 +60,26 @@ public class ContainerBinding extends BindingContext implements Binding {
      */
     public ContainerBinding(Binding selfBinding, PropertyBehaviorProvider behaviorProvider,
             PropertyDispatcherFactory dispatcherFactory, Handler modelChanged) {
+        this(selfBinding, behaviorProvider, dispatcherFactory, modelChanged, new ModelChanges(), true);
+    }
+
+    /**
+     * Creates a new {@link ContainerBinding} that shares the given {@link ModelChanges} with the
+     * parent {@link BindingContext}.
+     */
+    ContainerBinding(Binding selfBinding, PropertyBehaviorProvider behaviorProvider,
+            PropertyDispatcherFactory dispatcherFactory, Handler modelChanged, ModelChanges modelChanges) {
+        this(selfBinding, behaviorProvider, dispatcherFactory, modelChanged, modelChanges, false);
+    }
+
+    private ContainerBinding(Binding selfBinding, PropertyBehaviorProvider behaviorProvider,
+            PropertyDispatcherFactory dispatcherFactory, Handler modelChanged, ModelChanges modelChanges,
+            boolean ownModelChanges) {
         super("container for " + selfBinding.getPmo().getClass().getSimpleName(),
-                behaviorProvider, dispatcherFactory, Handler.NOP_HANDLER, Handler.NOP_HANDLER);
+                behaviorProvider, dispatcherFactory, Handler.NOP_HANDLER, Handler.NOP_HANDLER, modelChanges);
         this.binding = selfBinding;
         this.modelChanged = modelChanged;
+        this.ownModelChanges = ownModelChanges ? modelChanges : null;
     }
 
     @Override
@@ -72,9 +97,15 @@ public class ContainerBinding extends BindingContext implements Binding {
      */
     @Override
     void updateBindings() {
-        binding.updateFromPmo();
-        if (UiFramework.isVisible(getBoundComponent())) {
-            super.updateBindings();
+        try {
+            binding.updateFromPmo();
+            if (UiFramework.isVisible(getBoundComponent())) {
+                super.updateBindings();
+            }
+        } finally {
+            if (ownModelChanges != null) {
+                ownModelChanges.clear();
+            }
         }
     }
 
@@ -0,0 +1,134 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.binding;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.linkki.core.binding.dispatcher.PropertyDispatcher;
+import org.linkki.core.pmo.DependsOn;
+import org.linkki.util.BeanUtils;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Collects the properties that were changed using the UI elements of a {@link BindingContext}
+ * since its last update. It is used to decide which bindings need to be updated according to the
+ * dependencies declared with {@link DependsOn @DependsOn}.
+ * <p>
+ * If no change was recorded, for example because the model was changed outside of the binding
+ * context, all bindings are updated.
+ * <p>
+ * An instance is shared by a {@link BindingContext} and all its {@link ContainerBinding
+ * ContainerBindings}, as a change in one of them may affect bindings in all of them.
+ */
+final class ModelChanges {
+
+    private static final ClassValue<Dependencies> DEPENDENCIES = new ClassValue<>() {
+
+        @Override
+        protected Dependencies computeValue(Class<?> pmoClass) {
+            return new Dependencies(pmoClass);
+        }
+
+    };
+
+    private final Map<Object, Set<String>> changedProperties = new IdentityHashMap<>();
+
+    /**
+     * Records that the given property of the given PMO was changed.
+     */
+    void record(Object pmo, String property) {
+        changedProperties.computeIfAbsent(pmo, p -> new HashSet<>()).add(property);
+    }
+
+    void clear() {
+        changedProperties.clear();
+    }
+
+    /**
+     * Returns whether the given binding needs to be updated because of the recorded changes.
+     * {@link ContainerBinding ContainerBindings} always need to be updated as they decide about
+     * their children themselves.
+     */
+    boolean requiresUpdate(Binding binding) {
+        if (changedProperties.isEmpty()) {
+            return true;
+        } else if (binding instanceof ElementBinding elementBinding) {
+            PropertyDispatcher propertyDispatcher = elementBinding.getPropertyDispatcher();
+            Object pmo = propertyDispatcher.getBoundObject();
+            return pmo == null || requiresUpdate(pmo, propertyDispatcher.getProperty());
+        } else {
+            return true;
+        }
+    }
+
+    private boolean requiresUpdate(Object pmo, String property) {
+        Optional<Set<String>> dependencies = DEPENDENCIES.get(pmo.getClass()).get(property);
+        if (dependencies.isEmpty()) {
+            return true;
+        }
+        Set<String> changedPmoProperties = changedProperties.get(pmo);
+        if (changedPmoProperties == null) {
+            return false;
+        }
+        Set<String> declaredProperties = dependencies.get();
+        return declaredProperties.isEmpty()
+                || changedPmoProperties.contains(property)
+                || changedPmoProperties.stream().anyMatch(declaredProperties::contains);
+    }
+
+    /**
+     * The {@link DependsOn @DependsOn} declarations of a PMO class, by property name.
+     */
+    private static final class Dependencies {
+
+        private final Map<String, Set<String>> byProperty = new HashMap<>();
+
+        @CheckForNull
+        private final Set<String> classDependencies;
+
+        Dependencies(Class<?> pmoClass) {
+            DependsOn classAnnotation = pmoClass.getAnnotation(DependsOn.class);
+            classDependencies = classAnnotation == null ? null : toSet(classAnnotation);
+            for (Method method : pmoClass.getMethods()) {
+                DependsOn annotation = method.getAnnotation(DependsOn.class);
+                if (annotation != null) {
+                    byProperty.put(BeanUtils.getPropertyName(method), toSet(annotation));
+                }
+            }
+        }
+
+        private static Set<String> toSet(DependsOn annotation) {
+            return new HashSet<>(Arrays.asList(annotation.value()));
+        }
+
+        /**
+         * Returns the declared dependencies of the given property or {@link Optional#empty()} if
+         * no dependencies are declared.
+         */
+        Optional<Set<String>> get(String property) {
+            return Optional.ofNullable(byProperty.getOrDefault(property, classDependencies));
+        }
+
+    }
+
+}
@@ -23,6 +23,7 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -57,6 +58,11 @@ public class AspectAnnotationReader {
 
     private static <UI_ANNOTATION extends Annotation> Stream<LinkkiAspectDefinition> createAspectDefinitionsStreamFrom(
             UI_ANNOTATION uiAnnotation) {
+        return getAspectDefinitionSuppliersFrom(uiAnnotation).map(Supplier::get);
+    }
+
+    private static <UI_ANNOTATION extends Annotation> Stream<Supplier<LinkkiAspectDefinition>> getAspectDefinitionSuppliersFrom(
+            UI_ANNOTATION uiAnnotation) {
         return LINKKI_ASPECT_ANNOTATION.findAllOn(uiAnnotation)
                 .map(t -> {
                     @SuppressWarnings("unchecked")
@@ -66,7 +72,7 @@ public class AspectAnnotationReader {
                     return creator;
                 })
                 .map(Classes::instantiate)
-                .map(c -> c.create(uiAnnotation));
+                .map(c -> () -> c.create(uiAnnotation));
     }
 
     /**
@@ -126,6 +132,56 @@ public class AspectAnnotationReader {
         return Stream.concat(componentDefAspects, additionalAspects).collect(Collectors.toList());
     }
 
+    /**
+     * Returns a {@link Supplier} that creates the same {@link LinkkiAspectDefinition
+     * LinkkiAspectDefinitions} as {@link #createAspectDefinitionsFor(Annotation, AnnotatedElement)}.
+     * The annotations are read and the {@link AspectDefinitionCreator AspectDefinitionCreators} are
+     * instantiated only once, but every call of the supplier creates new aspect definitions.
+     * 
+     * @param componentDefAnnotation the selected component definition annotation
+     * @param annotatedElement the annotated element that provides annotations with additional
+     *            aspects
+     * @return a supplier for new lists of the aspect definitions that are used for the field created
+     *         for the given annotation
+     * 
+     * @since 2.11.0
+     */
+    public static Supplier<List<LinkkiAspectDefinition>> getAspectDefinitionsSupplierFor(
+            Annotation componentDefAnnotation,
+            AnnotatedElement annotatedElement) {
+        Stream<Supplier<LinkkiAspectDefinition>> additionalAspects = getAllAnnotations(annotatedElement)
+                .filter(a -> !ComponentAnnotationReader.isComponentDefinition(a))
+                .flatMap(AspectAnnotationReader::getAspectDefinitionSuppliersFrom);
+        return toListSupplier(Stream.concat(getAspectDefinitionSuppliersFrom(componentDefAnnotation),
+                                            additionalAspects));
+    }
+
+    /**
+     * Returns a {@link Supplier} that creates the same {@link LinkkiAspectDefinition
+     * LinkkiAspectDefinitions} as {@link #createAspectDefinitionsFor(AnnotatedElement)}. The
+     * annotations are read and the {@link AspectDefinitionCreator AspectDefinitionCreators} are
+     * instantiated only once, but every call of the supplier creates new aspect definitions.
+     * 
+     * @param annotatedElement an element with annotations
+     * @return a supplier for new lists of the aspect definitions that apply to the given element's
+     *         annotations
+     * 
+     * @since 2.11.0
+     */
+    public static Supplier<List<LinkkiAspectDefinition>> getAspectDefinitionsSupplierFor(
+            AnnotatedElement annotatedElement) {
+        return toListSupplier(getAllAnnotations(annotatedElement)
+                .flatMap(AspectAnnotationReader::getAspectDefinitionSuppliersFrom));
+    }
+
+    private static Supplier<List<LinkkiAspectDefinition>> toListSupplier(
+            Stream<Supplier<LinkkiAspectDefinition>> aspectDefinitionSuppliers) {
+        List<Supplier<LinkkiAspectDefinition>> suppliers = aspectDefinitionSuppliers.toList();
+        return () -> suppliers.stream()
+                .map(Supplier::get)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Returns linkki annotations present on the given class, as well as annotations on superclasses
      * and interfaces marked with {@link InheritedAspect @InheritedAspect}. Only the first
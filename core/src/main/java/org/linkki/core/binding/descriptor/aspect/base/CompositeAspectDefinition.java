@@ -53,12 +53,25 @@ public class CompositeAspectDefinition implements LinkkiAspectDefinition {
         this.aspectDefinitions = aspectDefinitions;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The UI updaters of all supported aspect definitions are applied in the order of the aspect
+     * definitions. UI updaters that do nothing are left out so that the returned handler only
+     * retains the UI updaters that are actually needed.
+     */
     @Override
     public Handler createUiUpdater(PropertyDispatcher propertyDispatcher, ComponentWrapper componentWrapper) {
-        return aspectDefinitions.stream()
+        Handler[] uiUpdaters = aspectDefinitions.stream()
                 .filter(d -> d.supports(componentWrapper.getType()))
                 .map(lad -> lad.createUiUpdater(propertyDispatcher, componentWrapper))
-                .reduce(Handler.NOP_HANDLER, Handler::andThen);
+                .filter(uiUpdater -> uiUpdater != Handler.NOP_HANDLER)
+                .toArray(Handler[]::new);
+        return switch (uiUpdaters.length) {
+            case 0 -> Handler.NOP_HANDLER;
+            case 1 -> uiUpdaters[0];
+            default -> new CompositeUiUpdater(uiUpdaters);
+        };
     }
 
     @Override
@@ -91,4 +104,27 @@ public class CompositeAspectDefinition implements LinkkiAspectDefinition {
     public List<LinkkiAspectDefinition> getAspectDefinitions() {
         return Collections.unmodifiableList(aspectDefinitions);
     }
+
+    /**
+     * Applies several UI updaters one after another. In contrast to chaining the UI updaters using
+     * {@link Handler#andThen(Handler)}, which creates an additional handler for every UI updater,
+     * the UI updaters are kept in a single array.
+     */
+    private static final class CompositeUiUpdater implements Handler {
+
+        private final Handler[] uiUpdaters;
+
+        private CompositeUiUpdater(Handler[] uiUpdaters) {
+            this.uiUpdaters = uiUpdaters;
+        }
+
+        @Override
+        public void apply() {
+            for (Handler uiUpdater : uiUpdaters) {
+                uiUpdater.apply();
+            }
+        }
+
+    }
+
 }
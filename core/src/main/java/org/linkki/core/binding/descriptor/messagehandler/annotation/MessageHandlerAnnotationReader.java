@@ -16,6 +16,7 @@ package org.linkki.core.binding.descriptor.messagehandler.annotation;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
+import java.util.function.Supplier;
 
 import org.linkki.core.binding.descriptor.messagehandler.LinkkiMessageHandler;
 import org.linkki.core.binding.validation.handler.DefaultMessageHandler;
@@ -53,12 +54,37 @@ public class MessageHandlerAnnotationReader {
                 .orElse(DefaultMessageHandler.INSTANCE);
     }
 
+    /**
+     * Returns a {@link Supplier} that creates the same {@link LinkkiMessageHandler} as
+     * {@link #getMessageHandler(AnnotatedElement)}. The annotations are read and the
+     * {@link MessageHandlerCreator} is instantiated only once, but every call of the supplier
+     * creates a new message handler.
+     *
+     * @param annotatedElement The annotated element which configures the message handler
+     * @return A supplier for the configured message handler
+     *
+     * @since 2.11.0
+     */
+    public static Supplier<LinkkiMessageHandler> getMessageHandlerSupplier(AnnotatedElement annotatedElement) {
+        return LINKKI_MESSAGES_ANNOTATION
+                .findAnnotatedAnnotationsOn(annotatedElement)
+                .reduce(LINKKI_MESSAGES_ANNOTATION.onlyOneOn(annotatedElement))
+                .map(a -> createHandlerSupplier(a, annotatedElement))
+                .orElse(() -> DefaultMessageHandler.INSTANCE);
+    }
+
     private static <A extends Annotation> LinkkiMessageHandler createHandler(A annotation,
             AnnotatedElement annotatedElement) {
+        return createHandlerSupplier(annotation, annotatedElement).get();
+    }
+
+    private static <A extends Annotation> Supplier<LinkkiMessageHandler> createHandlerSupplier(A annotation,
+            AnnotatedElement annotatedElement) {
         @SuppressWarnings("unchecked")
         var creatorClass = (Class<? extends MessageHandlerCreator<A>>)annotation.annotationType()
                 .getAnnotation(LinkkiMessages.class).value();
-        return Classes.instantiate(creatorClass).create(annotation, annotatedElement);
+        MessageHandlerCreator<A> creator = Classes.instantiate(creatorClass);
+        return () -> creator.create(annotation, annotatedElement);
     }
 
 }
@@ -32,7 +32,7 @@ import org.linkki.util.reflection.accessor.MemberAccessors;
  * <ol>
  * <li>{@link BehaviorDependentDispatcher}</li>
  * <li>Custom dispatchers from
- * {@link #createCustomDispatchers(Object, BoundProperty, PropertyDispatcher)}</li>
+ * {@link #createCustomDispatchers(Object, BoundProperty, PropertyDispatcher, PropertyBehaviorProvider)}</li>
  * <li>{@link StaticValueDispatcher}</li>
  * <li>{@link ReflectionPropertyDispatcher} for PMO</li>
  * <li>{@link ReflectionPropertyDispatcher} for model object if it exists</li>
@@ -41,6 +41,19 @@ import org.linkki.util.reflection.accessor.MemberAccessors;
  */
 public class PropertyDispatcherFactory {
 
+    /**
+     * Creates the dispatcher chain for the given bound property.
+     * <p>
+     * A {@link org.linkki.core.binding.BindingContext BindingContext} passes a
+     * {@link org.linkki.core.binding.dispatcher.behavior.CachingPropertyBehaviorProvider
+     * CachingPropertyBehaviorProvider} that wraps its configured provider. The configured provider
+     * is available from
+     * {@link org.linkki.core.binding.dispatcher.behavior.CachingPropertyBehaviorProvider#getWrappedProvider()}.
+     *
+     * @param pmo the PMO the dispatcher is responsible for
+     * @param boundProperty the {@link BoundProperty} of the bound UI element
+     * @param behaviorProvider the {@link PropertyBehaviorProvider} of the binding context
+     */
     public PropertyDispatcher createDispatcherChain(Object pmo,
             BoundProperty boundProperty,
             PropertyBehaviorProvider behaviorProvider) {
@@ -55,7 +68,7 @@ public class PropertyDispatcherFactory {
         ExceptionPropertyDispatcher exceptionDispatcher = newExceptionDispatcher(pmo, modelObjectName, pmoPropertyName);
         ReflectionPropertyDispatcher reflectionDispatcher = newReflectionDispatcher(pmo, pmoPropertyName, modelObjectName, modelPropertyName, exceptionDispatcher);
         StaticValueDispatcher staticValueDispatcher = new StaticValueDispatcher(reflectionDispatcher);
-        PropertyDispatcher customDispatchers = createCustomDispatchers(pmo, boundProperty, staticValueDispatcher);
+        PropertyDispatcher customDispatchers = createCustomDispatchers(pmo, boundProperty, staticValueDispatcher, behaviorProvider);
         return new BehaviorDependentDispatcher(customDispatchers, behaviorProvider);
         // @formatter:on
     }
@@ -82,6 +95,32 @@ public class PropertyDispatcherFactory {
         return standardDispatchers;
     }
 
+    /**
+     * Subclasses may override to add custom dispatchers that need the {@link PropertyBehaviorProvider}
+     * of the binding context. If the provider is a
+     * {@link org.linkki.core.binding.dispatcher.behavior.CachingPropertyBehaviorProvider
+     * CachingPropertyBehaviorProvider}, its {@link
+     * org.linkki.core.binding.dispatcher.behavior.CachingPropertyBehaviorProvider#getCycle() cycle}
+     * can be used to cache values for one update.
+     * <p>
+     * The default implementation calls
+     * {@link #createCustomDispatchers(Object, BoundProperty, PropertyDispatcher)}.
+     *
+     * @param pmo the PMO the dispatcher is responsible for
+     * @param boundProperty the {@link BoundProperty} of the bound UI element
+     * @param standardDispatchers the previously created dispatcher chain from
+     *            {@link #createDispatcherChain(Object, BoundProperty, PropertyBehaviorProvider)}
+     * @param behaviorProvider the {@link PropertyBehaviorProvider} of the binding context
+     * 
+     * @since 2.11.0
+     */
+    protected PropertyDispatcher createCustomDispatchers(Object pmo,
+            BoundProperty boundProperty,
+            PropertyDispatcher standardDispatchers,
+            PropertyBehaviorProvider behaviorProvider) {
+        return createCustomDispatchers(pmo, boundProperty, standardDispatchers);
+    }
+
     private ReflectionPropertyDispatcher newReflectionDispatcher(Object pmo,
             String pmoPropertyName,
             String modelObjectName,
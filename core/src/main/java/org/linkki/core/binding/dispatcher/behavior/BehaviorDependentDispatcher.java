@@ -15,6 +15,7 @@ package org.linkki.core.binding.dispatcher.behavior;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
 import org.linkki.core.binding.descriptor.aspect.Aspect;
@@ -25,6 +26,7 @@ import org.linkki.core.binding.validation.message.MessageList;
 import org.linkki.core.defaults.ui.aspects.VisibleAspectDefinition;
 import org.linkki.util.function.TriPredicate;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
@@ -41,26 +43,47 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  * <p>
  * In other words behaviors normally return <code>true</code>, but can veto an aspect, by returning
  * <code>false</code>, if they desire to change the behavior.
+ * <p>
+ * If the provider is a {@link CachingPropertyBehaviorProvider}, the results are cached per aspect
+ * and bound object until the provider starts a new cycle.
  */
 public class BehaviorDependentDispatcher extends AbstractPropertyDispatcherDecorator {
 
+    private static final int VISIBLE = 1;
+    private static final int WRITABLE = 1 << 1;
+    private static final int SHOW_MESSAGES = 1 << 2;
+
     private PropertyBehaviorProvider provider;
 
+    @CheckForNull
+    private final CachedConsensus cachedConsensus;
+
     public BehaviorDependentDispatcher(PropertyDispatcher wrappedDispatcher,
             PropertyBehaviorProvider provider) {
         super(wrappedDispatcher);
         this.provider = requireNonNull(provider, "provider must not be null");
+        if (provider instanceof CachingPropertyBehaviorProvider cachingProvider) {
+            this.cachedConsensus = new CachedConsensus(cachingProvider);
+        } else {
+            this.cachedConsensus = null;
+        }
     }
 
     /**
      * Checks whether the given property shows validation messages (as defined by the
      * {@link PropertyBehavior behaviors}). If it shows messages, returns the messages returned by
      * the wrapped dispatcher. If it hides messages, returns an empty message list.
+     * <p>
+     * The behaviors are only asked if the wrapped dispatcher returns any messages, as most
+     * properties do not have messages.
      */
     @Override
     public MessageList getMessages(MessageList messageList) {
-        if (isConsensus(forBoundObjectAndProperty(PropertyBehavior::isShowValidationMessages))) {
-            return super.getMessages(messageList);
+        Predicate<PropertyBehavior> showMessages = forBoundObjectAndProperty(
+                                                                          PropertyBehavior::isShowValidationMessages);
+        MessageList messages = super.getMessages(messageList);
+        if (messages.isEmpty() || isConsensus(SHOW_MESSAGES, showMessages)) {
+            return messages;
         } else {
             return new MessageList();
         }
@@ -75,6 +98,16 @@ public class BehaviorDependentDispatcher extends AbstractPropertyDispatcherDecor
         return b -> triPredicate.test(b, boundObject, property);
     }
 
+    private boolean isConsensus(int aspect, Predicate<PropertyBehavior> aspectIsTrue) {
+        CachedConsensus cache = cachedConsensus;
+        if (cache == null) {
+            return isConsensus(aspectIsTrue);
+        } else {
+            return cache.get(aspect, requireNonNull(getBoundObject(), "boundObject must not be null"),
+                             () -> isConsensus(aspectIsTrue));
+        }
+    }
+
     /**
      * Returns <code>true</code> if all behaviors return <code>true</code> for the given aspect
      * (e.g. isVisible()), <code>false</code> if at least one returns <code>false</code> (logical
@@ -101,7 +134,7 @@ public class BehaviorDependentDispatcher extends AbstractPropertyDispatcherDecor
     @Override
     public <T> T pull(Aspect<T> aspect) {
         if (aspect.getName().equals(VisibleAspectDefinition.NAME) &&
-                !isConsensus(forBoundObjectAndProperty(PropertyBehavior::isVisible))) {
+                !isConsensus(VISIBLE, forBoundObjectAndProperty(PropertyBehavior::isVisible))) {
             return (T)Boolean.FALSE;
         } else {
             return super.pull(aspect);
@@ -111,11 +144,50 @@ public class BehaviorDependentDispatcher extends AbstractPropertyDispatcherDecor
     @Override
     public <T> boolean isPushable(Aspect<T> aspect) {
         if (aspect.getName().equals(LinkkiAspectDefinition.VALUE_ASPECT_NAME)
-                && !isConsensus(forBoundObjectAndProperty(PropertyBehavior::isWritable))) {
+                && !isConsensus(WRITABLE, forBoundObjectAndProperty(PropertyBehavior::isWritable))) {
             return false;
         } else {
             return super.isPushable(aspect);
         }
     }
 
+    /**
+     * The consensus of the behaviors for the {@link #VISIBLE}, {@link #WRITABLE} and
+     * {@link #SHOW_MESSAGES} aspects, cached for the bound object and the cycle of the
+     * {@link CachingPropertyBehaviorProvider} they were evaluated in. The results of all aspects are
+     * kept as bits of a single instance to keep the memory footprint of a binding small.
+     */
+    private static final class CachedConsensus {
+
+        private final CachingPropertyBehaviorProvider provider;
+
+        @CheckForNull
+        private Object boundObject;
+        private int cycle;
+        private int evaluatedAspects;
+        private int consensusAspects;
+
+        CachedConsensus(CachingPropertyBehaviorProvider provider) {
+            this.provider = provider;
+        }
+
+        boolean get(int aspect, Object currentBoundObject, BooleanSupplier evaluation) {
+            int currentCycle = provider.getBehaviorCycle();
+            if (boundObject != currentBoundObject || cycle != currentCycle) {
+                boundObject = currentBoundObject;
+                cycle = currentCycle;
+                evaluatedAspects = 0;
+                consensusAspects = 0;
+            }
+            if ((evaluatedAspects & aspect) == 0) {
+                if (evaluation.getAsBoolean()) {
+                    consensusAspects |= aspect;
+                }
+                evaluatedAspects |= aspect;
+            }
+            return (consensusAspects & aspect) != 0;
+        }
+
+    }
+
 }
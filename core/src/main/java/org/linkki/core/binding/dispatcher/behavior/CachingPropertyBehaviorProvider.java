@@ -0,0 +1,87 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.binding.dispatcher.behavior;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+
+/**
+ * A {@link PropertyBehaviorProvider} that allows {@link BehaviorDependentDispatcher
+ * BehaviorDependentDispatchers} to cache the results of its {@link PropertyBehavior behaviors}.
+ * <p>
+ * The results are cached until the next {@link #startCycle() cycle} starts. A
+ * {@link org.linkki.core.binding.BindingContext BindingContext} starts a new cycle whenever it
+ * updates its bindings or displays messages. If the wrapped provider is
+ * {@link PropertyBehaviorProvider#isStatic() static}, the results are cached as long as the bound
+ * object does not change.
+ *
+ * @since 2.11.0
+ */
+public final class CachingPropertyBehaviorProvider implements PropertyBehaviorProvider {
+
+    private final PropertyBehaviorProvider wrappedProvider;
+
+    private int cycle;
+
+    public CachingPropertyBehaviorProvider(PropertyBehaviorProvider wrappedProvider) {
+        this.wrappedProvider = requireNonNull(wrappedProvider, "wrappedProvider must not be null");
+    }
+
+    public PropertyBehaviorProvider getWrappedProvider() {
+        return wrappedProvider;
+    }
+
+    @Override
+    public Collection<PropertyBehavior> getBehaviors() {
+        return wrappedProvider.getBehaviors();
+    }
+
+    @Override
+    public boolean isStatic() {
+        return wrappedProvider.isStatic();
+    }
+
+    /**
+     * Starts a new cycle. Results cached in previous cycles are not used anymore, unless the
+     * wrapped provider is {@link PropertyBehaviorProvider#isStatic() static}.
+     */
+    public void startCycle() {
+        cycle++;
+    }
+
+    /**
+     * Returns the number of the current cycle. Dispatchers can use it to cache other values that do
+     * not change during one update, regardless of whether the wrapped provider is
+     * {@link PropertyBehaviorProvider#isStatic() static}.
+     */
+    public int getCycle() {
+        return cycle;
+    }
+
+    /**
+     * Returns the cycle for the results of the {@link PropertyBehavior behaviors}, which is the
+     * same for all results that can be cached together.
+     */
+    int getBehaviorCycle() {
+        return isStatic() ? 0 : cycle;
+    }
+
+    @Override
+    public String toString() {
+        return "CachingPropertyBehaviorProvider [" + wrappedProvider + "]";
+    }
+
+}
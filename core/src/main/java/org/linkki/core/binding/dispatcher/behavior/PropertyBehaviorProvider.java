@@ -35,6 +35,20 @@ public interface PropertyBehaviorProvider {
      */
     Collection<PropertyBehavior> getBehaviors();
 
+    /**
+     * Returns whether the {@link #getBehaviors() behaviors} of this provider always return the same
+     * result for the same bound object and property. The results of static behaviors are evaluated
+     * only once per binding and bound object instead of once per UI update.
+     * <p>
+     * The default implementation returns <code>false</code>.
+     *
+     * @see #staticWith(PropertyBehavior...)
+     * @since 2.11.0
+     */
+    default boolean isStatic() {
+        return false;
+    }
+
     /**
      * Creates a new {@link PropertyBehaviorProvider} that returns the given behaviors.
      * 
@@ -45,6 +59,31 @@ public interface PropertyBehaviorProvider {
         return () -> behaviorsList;
     }
 
+    /**
+     * Creates a new {@link PropertyBehaviorProvider} that returns the given behaviors and is
+     * {@link #isStatic() static}. Use this only for behaviors whose results depend on nothing but
+     * the bound object and property.
+     *
+     * @return a new static {@link PropertyBehaviorProvider} that returns the given behaviors
+     * @since 2.11.0
+     */
+    public static PropertyBehaviorProvider staticWith(@NonNull PropertyBehavior... behaviors) {
+        List<PropertyBehavior> behaviorsList = Arrays.asList(behaviors);
+        return new PropertyBehaviorProvider() {
+
+            @Override
+            public Collection<PropertyBehavior> getBehaviors() {
+                return behaviorsList;
+            }
+
+            @Override
+            public boolean isStatic() {
+                return true;
+            }
+
+        };
+    }
+
     /**
      * Creates a new {@link PropertyBehaviorProvider} that returns this
      * {@link PropertyBehaviorProvider}'s {@link PropertyBehavior PropertyBehaviors} followed by the
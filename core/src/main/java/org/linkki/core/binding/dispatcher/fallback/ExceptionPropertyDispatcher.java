@@ -17,7 +17,6 @@ import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
 
 import java.text.MessageFormat;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -38,8 +37,8 @@ import edu.umd.cs.findbugs.annotations.CheckForNull;
  */
 public final class ExceptionPropertyDispatcher implements PropertyDispatcher {
 
-    private final List<Object> objects = new ArrayList<>();
-    private String property;
+    private final List<Object> objects;
+    private final String property;
 
     /**
      * @param property The name of the property
@@ -47,7 +46,7 @@ public final class ExceptionPropertyDispatcher implements PropertyDispatcher {
      */
     public ExceptionPropertyDispatcher(String property, Object... objects) {
         this.property = requireNonNull(property, "property must not be null");
-        this.objects.addAll(Arrays.asList(objects));
+        this.objects = Arrays.asList(objects.clone());
     }
 
     @Override
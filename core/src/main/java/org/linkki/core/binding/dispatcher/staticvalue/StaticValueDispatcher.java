@@ -13,18 +13,35 @@
  */
 package org.linkki.core.binding.dispatcher.staticvalue;
 
+import java.util.Arrays;
+import java.util.Locale;
+
 import org.apache.commons.lang3.StringUtils;
 import org.linkki.core.binding.descriptor.aspect.Aspect;
 import org.linkki.core.binding.descriptor.aspect.LinkkiAspectDefinition;
 import org.linkki.core.binding.dispatcher.AbstractPropertyDispatcherDecorator;
 import org.linkki.core.binding.dispatcher.PropertyDispatcher;
+import org.linkki.core.uiframework.UiFramework;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
  * This dispatcher returns the static value of an {@link Aspect} if it has a value. If no value
  * exists for the given property the wrapped dispatcher is accessed for a value.
+ * <p>
+ * Static {@link String} values are translated using the {@link StaticValueNlsService}. The
+ * translation is resolved once per aspect and only resolved again if the
+ * {@link UiFramework#getLocale() locale} has changed.
  */
 public class StaticValueDispatcher extends AbstractPropertyDispatcherDecorator {
 
+    /**
+     * The translated values by aspect. A binding only has a few aspects with static values, so a
+     * small array that is searched linearly needs less memory than a map.
+     */
+    @CheckForNull
+    private TranslatedValue[] translatedValues;
+
     /**
      * Creating a new {@link StaticValueDispatcher} passing the wrapped dispatcher that should be
      * decorated by this {@link StaticValueDispatcher}
@@ -44,10 +61,8 @@ public class StaticValueDispatcher extends AbstractPropertyDispatcherDecorator {
         if (aspect.isValuePresent()) {
             T staticValue = aspect.getValue();
             Object boundObject = getBoundObject();
-            if (staticValue instanceof String && boundObject != null) {
-                Class<?> pmoClass = getTypeForKey(boundObject);
-                staticValue = (T)StaticValueNlsService.getInstance()
-                        .getString(pmoClass, getProperty(), aspect.getName(), (String)staticValue);
+            if (staticValue instanceof String staticString && boundObject != null) {
+                staticValue = (T)getTranslatedValue(aspect.getName(), staticString, getTypeForKey(boundObject));
             }
             if (LinkkiAspectDefinition.DERIVED_BY_LINKKI.equals(staticValue)) {
                 return (T)StringUtils.capitalize(getProperty());
@@ -58,8 +73,52 @@ public class StaticValueDispatcher extends AbstractPropertyDispatcherDecorator {
         }
     }
 
+    private String getTranslatedValue(String aspectName, String staticValue, Class<?> pmoClass) {
+        Locale locale = UiFramework.getLocale();
+        TranslatedValue[] values = translatedValues;
+        int index = indexOf(values, aspectName);
+        if (index >= 0 && values[index].isValidFor(staticValue, pmoClass, locale)) {
+            return values[index].value();
+        }
+        TranslatedValue translatedValue = new TranslatedValue(aspectName, staticValue, pmoClass, locale,
+                StaticValueNlsService.getInstance().getString(pmoClass, getProperty(), aspectName, staticValue));
+        if (values == null) {
+            translatedValues = new TranslatedValue[] { translatedValue };
+        } else if (index >= 0) {
+            values[index] = translatedValue;
+        } else {
+            values = Arrays.copyOf(values, values.length + 1);
+            values[values.length - 1] = translatedValue;
+            translatedValues = values;
+        }
+        return translatedValue.value();
+    }
+
+    private static int indexOf(@CheckForNull TranslatedValue[] values, String aspectName) {
+        if (values != null) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i].aspectName().equals(aspectName)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
     private Class<?> getTypeForKey(Object boundObject) {
         return boundObject instanceof Class ? (Class<?>)boundObject : boundObject.getClass();
     }
 
-}
\ No newline at end of file
+    /**
+     * The translation of the static value of an aspect for a PMO class and a locale.
+     */
+    private record TranslatedValue(String aspectName, String staticValue, Class<?> pmoClass, Locale locale,
+            String value) {
+
+        boolean isValidFor(String otherStaticValue, Class<?> otherPmoClass, Locale otherLocale) {
+            return staticValue.equals(otherStaticValue) && pmoClass == otherPmoClass && locale.equals(otherLocale);
+        }
+
+    }
+
+}
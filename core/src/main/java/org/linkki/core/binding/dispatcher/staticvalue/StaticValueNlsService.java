@@ -17,20 +17,17 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.linkki.core.binding.descriptor.aspect.annotation.AspectAnnotationReader;
 import org.linkki.core.nls.NlsService;
 import org.linkki.core.uiframework.UiFramework;
 
-import edu.umd.cs.findbugs.annotations.NonNull;
-
 /**
  * Service for Native Language Support for presentation model objects. This class should only be
  * used internally.
@@ -48,7 +45,7 @@ public class StaticValueNlsService {
      */
     private static final String DEFAULT_PMO_BUNDLE_NAME = "linkki-messages";
     private static final StaticValueNlsService INSTANCE = new StaticValueNlsService();
-    private final Map<CacheKey, String> nlsStringCache = new ConcurrentSkipListMap<>();
+    private final Map<CacheKey, String> nlsStringCache = new ConcurrentHashMap<>();
 
     /**
      * Creates a {@link StaticValueNlsService} using the "linkki-messages" appended to the given pmo
@@ -131,19 +128,12 @@ public class StaticValueNlsService {
                 .flatMap($ -> getString(cacheKey, CacheKey::getFallbackPropertyKey));
     }
 
+    /**
+     * The key of a cached string. PMO classes are compared by identity, so classes with the same
+     * simple name in different packages get their own entries.
+     */
     /* private */ record CacheKey(Class<?> pmoClass, String propertyName, String aspectName, String fallbackValue,
-            Locale locale)
-            implements Comparable<CacheKey> {
-
-        @Override
-        public int compareTo(@NonNull CacheKey other) {
-            return Comparator.comparing((CacheKey o) -> o.pmoClass.getSimpleName())
-                    .thenComparing(CacheKey::propertyName)
-                    .thenComparing(CacheKey::aspectName)
-                    .thenComparing(cacheKey -> cacheKey.locale.toString())
-                    .thenComparing(CacheKey::fallbackValue)
-                    .compare(this, other);
-        }
+            Locale locale) {
 
         private CacheKey forClass(Class<?> clazz) {
             return new CacheKey(clazz, propertyName, aspectName, fallbackValue, locale);
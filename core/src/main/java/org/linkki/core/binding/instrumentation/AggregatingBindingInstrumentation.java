@@ -0,0 +1,194 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.binding.instrumentation;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.Validate;
+import org.linkki.core.binding.Binding;
+import org.linkki.core.binding.BindingContext;
+import org.linkki.core.binding.descriptor.aspect.Aspect;
+import org.linkki.core.binding.dispatcher.PropertyDispatcher;
+import org.linkki.core.binding.manager.BindingManager;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * A {@link BindingInstrumentation} that aggregates all durations in {@link DurationHistogram
+ * DurationHistograms}. Additionally, the durations of the pulled aspects are aggregated per class
+ * of the bound object, property and aspect, so that the {@link #getSlowestAspects(int) slowest
+ * getters} can be found.
+ * <p>
+ * To use it, register it in a file
+ * <code>META-INF/services/org.linkki.core.binding.instrumentation.BindingInstrumentation</code> and
+ * read the statistics from {@link BindingInstrumentation#get()}, for example in a monitoring
+ * endpoint:
+ *
+ * <pre>
+ * <code>
+ * if (BindingInstrumentation.get() instanceof AggregatingBindingInstrumentation statistics) {
+ *     statistics.getSlowestAspects(10).forEach(aspect -&gt; LOGGER.info(aspect.toString()));
+ * }
+ * </code>
+ * </pre>
+ *
+ * @since 2.11.0
+ */
+public class AggregatingBindingInstrumentation implements BindingInstrumentation {
+
+    private final DurationHistogram bindingContextUpdates = new DurationHistogram();
+    private final DurationHistogram bindingUpdates = new DurationHistogram();
+    private final DurationHistogram aspectPulls = new DurationHistogram();
+    private final DurationHistogram validations = new DurationHistogram();
+    private final DurationHistogram messageDisplays = new DurationHistogram();
+
+    private final Map<AspectKey, AspectStatistics> aspectStatistics = new ConcurrentHashMap<>();
+
+    @Override
+    public void bindingContextUpdated(BindingContext bindingContext, long durationNanos) {
+        bindingContextUpdates.record(durationNanos);
+    }
+
+    @Override
+    public void bindingUpdated(Binding binding, long durationNanos) {
+        bindingUpdates.record(durationNanos);
+    }
+
+    @Override
+    public void aspectPulled(PropertyDispatcher propertyDispatcher, Aspect<?> aspect, long durationNanos) {
+        aspectPulls.record(durationNanos);
+        Object boundObject = propertyDispatcher.getBoundObject();
+        AspectKey key = new AspectKey(boundObject == null ? null : boundObject.getClass(),
+                propertyDispatcher.getProperty(), aspect.getName());
+        aspectStatistics.computeIfAbsent(key, AspectStatistics::new).durations().record(durationNanos);
+    }
+
+    @Override
+    public void validated(BindingManager bindingManager, long durationNanos) {
+        validations.record(durationNanos);
+    }
+
+    @Override
+    public void messagesDisplayed(BindingManager bindingManager, long durationNanos) {
+        messageDisplays.record(durationNanos);
+    }
+
+    /**
+     * Returns the durations of the updates of whole {@link BindingContext binding contexts}.
+     */
+    public DurationHistogram getBindingContextUpdates() {
+        return bindingContextUpdates;
+    }
+
+    /**
+     * Returns the durations of the updates of single {@link Binding bindings}.
+     */
+    public DurationHistogram getBindingUpdates() {
+        return bindingUpdates;
+    }
+
+    /**
+     * Returns the durations of all pulled {@link Aspect aspects}.
+     */
+    public DurationHistogram getAspectPulls() {
+        return aspectPulls;
+    }
+
+    /**
+     * Returns the durations of the validations of the {@link BindingManager binding managers}.
+     */
+    public DurationHistogram getValidations() {
+        return validations;
+    }
+
+    /**
+     * Returns the durations of the display of the messages by the {@link BindingManager binding
+     * managers}.
+     */
+    public DurationHistogram getMessageDisplays() {
+        return messageDisplays;
+    }
+
+    /**
+     * Returns the statistics of the aspects with the longest {@link DurationHistogram#getMaxNanos()
+     * maximum duration}, the slowest first. Aspects with the same maximum duration are sorted by
+     * their {@link DurationHistogram#getTotalNanos() total duration}.
+     *
+     * @param limit the maximum number of returned aspects
+     */
+    public List<AspectStatistics> getSlowestAspects(int limit) {
+        Validate.isTrue(limit >= 0, "limit must not be negative");
+        return aspectStatistics.values().stream()
+                .sorted(Comparator.comparingLong((AspectStatistics s) -> s.durations().getMaxNanos())
+                        .thenComparingLong(s -> s.durations().getTotalNanos())
+                        .reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Removes all recorded durations.
+     */
+    public void reset() {
+        bindingContextUpdates.reset();
+        bindingUpdates.reset();
+        aspectPulls.reset();
+        validations.reset();
+        messageDisplays.reset();
+        aspectStatistics.clear();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName()
+                + " [bindingContextUpdates: " + bindingContextUpdates
+                + ", bindingUpdates: " + bindingUpdates
+                + ", aspectPulls: " + aspectPulls
+                + ", validations: " + validations
+                + ", messageDisplays: " + messageDisplays + "]";
+    }
+
+    private record AspectKey(@CheckForNull Class<?> boundObjectClass, String property, String aspectName) {
+        // key of the aspect statistics
+    }
+
+    /**
+     * The durations of the pulls of one aspect of a property of a class.
+     *
+     * @param boundObjectClass the class of the bound object, <code>null</code> if the bound object
+     *            was <code>null</code>
+     * @param property the name of the property
+     * @param aspectName the name of the aspect
+     * @param durations the durations of the pulls
+     */
+    public record AspectStatistics(@CheckForNull Class<?> boundObjectClass, String property, String aspectName,
+            DurationHistogram durations) {
+
+        private AspectStatistics(AspectKey key) {
+            this(key.boundObjectClass(), key.property(), key.aspectName(), new DurationHistogram());
+        }
+
+        @Override
+        public String toString() {
+            return (boundObjectClass == null ? "null" : boundObjectClass.getName())
+                    + "#" + property + "[" + aspectName + "]: " + durations;
+        }
+
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.binding.instrumentation;
+
+import org.linkki.core.binding.Binding;
+import org.linkki.core.binding.BindingContext;
+import org.linkki.core.binding.descriptor.aspect.Aspect;
+import org.linkki.core.binding.dispatcher.PropertyDispatcher;
+import org.linkki.core.binding.manager.BindingManager;
+import org.linkki.util.service.Services;
+
+/**
+ * Service interface to measure where the time of a UI update is spent. The instrumentation is
+ * notified about the duration of
+ * <ul>
+ * <li>every {@link BindingContext#updateUi() update of a binding context},</li>
+ * <li>every update of a single {@link Binding},</li>
+ * <li>every {@link PropertyDispatcher#pull(Aspect) pull of an aspect} and</li>
+ * <li>the validation and the display of the messages by a {@link BindingManager}.</li>
+ * </ul>
+ * The durations are measured using {@link System#nanoTime()}. The durations of nested events are
+ * contained in the durations of the enclosing events, for example the pulls of the aspects of a
+ * binding are part of the update of the binding.
+ * <p>
+ * An implementation can be registered using the {@link java.util.ServiceLoader} mechanism, for
+ * example the {@link AggregatingBindingInstrumentation}. At most one implementation may be
+ * registered. Without a registered implementation, a no-op instrumentation is used that is
+ * {@link #isEnabled() disabled}, so that no durations are measured at all.
+ * <p>
+ * The instrumentation is shared by all sessions. Implementations must therefore be thread-safe and
+ * should return quickly as they are called for every aspect of every binding. They must not keep
+ * references to the given bindings, binding contexts, dispatchers or binding managers as this
+ * would prevent them from being garbage collected.
+ *
+ * @since 2.11.0
+ */
+public interface BindingInstrumentation {
+
+    /**
+     * Returns the {@link BindingInstrumentation} that is registered using the
+     * {@link java.util.ServiceLoader} mechanism, or a disabled no-op instrumentation if none is
+     * registered.
+     * 
+     * @implNote The instrumentation is found once via
+     *           {@link Services#getOrDefault(Class, java.util.function.Supplier)} and stored in a
+     *           constant.
+     */
+    static BindingInstrumentation get() {
+        return BindingInstrumentationHolder.INSTANCE;
+    }
+
+    /**
+     * Returns whether this instrumentation should be notified at all. If it returns
+     * <code>false</code>, no durations are measured.
+     * <p>
+     * The result may change at runtime, for example to switch the instrumentation on only while a
+     * problem is analyzed. It is checked for every event, so bindings that were created while the
+     * instrumentation was disabled are measured as soon as it is enabled.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Called after all bindings of a {@link BindingContext} were updated in
+     * {@link BindingContext#updateUi()} or {@link BindingContext#uiUpdated()}.
+     *
+     * @param bindingContext the binding context that was updated
+     * @param durationNanos the duration of the update in nanoseconds
+     */
+    default void bindingContextUpdated(BindingContext bindingContext, long durationNanos) {
+        // does nothing by default
+    }
+
+    /**
+     * Called after a {@link Binding} was updated by its {@link BindingContext}.
+     *
+     * @param binding the binding that was updated
+     * @param durationNanos the duration of {@link Binding#updateFromPmo()} in nanoseconds
+     */
+    default void bindingUpdated(Binding binding, long durationNanos) {
+        // does nothing by default
+    }
+
+    /**
+     * Called after the value of an {@link Aspect} was pulled from the {@link PropertyDispatcher} of
+     * a binding.
+     *
+     * @param propertyDispatcher the dispatcher that provides the
+     *            {@link PropertyDispatcher#getBoundObject() bound object} and the
+     *            {@link PropertyDispatcher#getProperty() property}
+     * @param aspect the aspect that was pulled
+     * @param durationNanos the duration of {@link PropertyDispatcher#pull(Aspect)} in nanoseconds
+     */
+    default void aspectPulled(PropertyDispatcher propertyDispatcher, Aspect<?> aspect, long durationNanos) {
+        // does nothing by default
+    }
+
+    /**
+     * Called after the {@link BindingManager} got the messages from its validation service. In case
+     * of an {@link org.linkki.core.binding.validation.AsyncValidation asynchronous validation}, this
+     * method is called from the thread that runs the validation.
+     *
+     * @param bindingManager the binding manager that validated
+     * @param durationNanos the duration of the validation in nanoseconds
+     */
+    default void validated(BindingManager bindingManager, long durationNanos) {
+        // does nothing by default
+    }
+
+    /**
+     * Called after the {@link BindingManager} displayed the messages in all its binding contexts.
+     *
+     * @param bindingManager the binding manager that displayed the messages
+     * @param durationNanos the duration of the display of the messages in nanoseconds
+     */
+    default void messagesDisplayed(BindingManager bindingManager, long durationNanos) {
+        // does nothing by default
+    }
+
+}
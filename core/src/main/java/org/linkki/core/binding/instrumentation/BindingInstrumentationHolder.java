@@ -0,0 +1,32 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.binding.instrumentation;
+
+import org.linkki.util.service.Services;
+
+/**
+ * Holds the {@link BindingInstrumentation} in a constant, so that the JIT compiler can inline the
+ * calls of the no-op instrumentation and remove the instrumentation code completely.
+ */
+final class BindingInstrumentationHolder {
+
+    static final BindingInstrumentation INSTANCE = Services.getOrDefault(BindingInstrumentation.class,
+                                                                         NoOpBindingInstrumentation::new);
+
+    private BindingInstrumentationHolder() {
+        // constant holder
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.binding.instrumentation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A thread-safe histogram of durations in nanoseconds. The durations are counted in buckets whose
+ * upper bounds are powers of two, so that recording a duration needs neither locks nor allocations.
+ * {@link #getPercentileNanos(double) Percentiles} are therefore approximations that are at most
+ * twice the exact value.
+ *
+ * @since 2.11.0
+ */
+public final class DurationHistogram {
+
+    private static final int BUCKETS = Long.SIZE;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records the given duration. Negative durations are recorded as 0.
+     */
+    public void record(long durationNanos) {
+        long duration = Math.max(0, durationNanos);
+        bucketCounts.incrementAndGet(bucketOf(duration));
+        count.increment();
+        totalNanos.add(duration);
+        maxNanos.accumulate(duration);
+    }
+
+    /**
+     * Returns the number of recorded durations.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of all recorded durations in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Returns the longest recorded duration in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the mean of the recorded durations in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getMeanNanos() {
+        long currentCount = getCount();
+        return currentCount == 0 ? 0 : getTotalNanos() / currentCount;
+    }
+
+    /**
+     * Returns an upper bound of the given percentile of the recorded durations in nanoseconds, or 0
+     * if nothing was recorded. The returned value is the upper bound of the bucket that contains
+     * the percentile, but never more than the {@link #getMaxNanos() longest duration}.
+     *
+     * @param percentile the percentile between 0 and 100, for example 99 for the 99th percentile
+     */
+    public long getPercentileNanos(double percentile) {
+        Validate.inclusiveBetween(0.0, 100.0, percentile, "percentile must be between 0 and 100");
+        long[] counts = new long[BUCKETS];
+        long recorded = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = bucketCounts.get(i);
+            recorded += counts[i];
+        }
+        if (recorded == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long)Math.ceil(recorded * percentile / 100));
+        long cumulated = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulated += counts[i];
+            if (cumulated >= rank) {
+                return Math.min(upperBoundOf(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Removes all recorded durations. Durations that are recorded concurrently may be partially
+     * lost.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            bucketCounts.set(i, 0);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /* private */ static int bucketOf(long durationNanos) {
+        return Long.SIZE - Long.numberOfLeadingZeros(durationNanos);
+    }
+
+    private static long upperBoundOf(int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + getCount()
+                + ", mean=" + TimeUnit.NANOSECONDS.toMicros(getMeanNanos()) + "us"
+                + ", p99=" + TimeUnit.NANOSECONDS.toMicros(getPercentileNanos(99)) + "us"
+                + ", max=" + TimeUnit.NANOSECONDS.toMicros(getMaxNanos()) + "us";
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.binding.instrumentation;
+
+import static java.util.Objects.requireNonNull;
+
+import org.linkki.core.binding.descriptor.aspect.Aspect;
+import org.linkki.core.binding.dispatcher.AbstractPropertyDispatcherDecorator;
+import org.linkki.core.binding.dispatcher.PropertyDispatcher;
+
+/**
+ * {@link AbstractPropertyDispatcherDecorator DispatcherDecorator} that measures the duration of
+ * every {@link #pull(Aspect) pull} and reports it to a {@link BindingInstrumentation}.
+ * <p>
+ * The dispatcher is added on top of the dispatcher chain of every binding if a
+ * {@link BindingInstrumentation} is registered. As {@link BindingInstrumentation#isEnabled()} may
+ * change at runtime, it is checked on every pull and the duration is only measured while the
+ * instrumentation is enabled.
+ *
+ * @since 2.11.0
+ */
+public final class InstrumentingPropertyDispatcher extends AbstractPropertyDispatcherDecorator {
+
+    private final BindingInstrumentation instrumentation;
+
+    public InstrumentingPropertyDispatcher(PropertyDispatcher wrappedDispatcher,
+            BindingInstrumentation instrumentation) {
+        super(wrappedDispatcher);
+        this.instrumentation = requireNonNull(instrumentation, "instrumentation must not be null");
+    }
+
+    /**
+     * Wraps the given dispatcher in an {@link InstrumentingPropertyDispatcher} if a
+     * {@link BindingInstrumentation} is registered, and returns it unchanged otherwise.
+     */
+    public static PropertyDispatcher instrument(PropertyDispatcher wrappedDispatcher) {
+        return instrument(wrappedDispatcher, BindingInstrumentation.get());
+    }
+
+    /* private */ static PropertyDispatcher instrument(PropertyDispatcher wrappedDispatcher,
+            BindingInstrumentation instrumentation) {
+        if (instrumentation instanceof NoOpBindingInstrumentation) {
+            return wrappedDispatcher;
+        } else {
+            return new InstrumentingPropertyDispatcher(wrappedDispatcher, instrumentation);
+        }
+    }
+
+    @Override
+    public <T> T pull(Aspect<T> aspect) {
+        if (!instrumentation.isEnabled()) {
+            return super.pull(aspect);
+        }
+        long start = System.nanoTime();
+        T value = super.pull(aspect);
+        instrumentation.aspectPulled(this, aspect, System.nanoTime() - start);
+        return value;
+    }
+
+}
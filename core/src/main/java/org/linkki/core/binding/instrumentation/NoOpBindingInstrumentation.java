@@ -0,0 +1,28 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.binding.instrumentation;
+
+/**
+ * The {@link BindingInstrumentation} that is used if no other instrumentation is registered. It is
+ * {@link #isEnabled() disabled} and ignores all events.
+ */
+final class NoOpBindingInstrumentation implements BindingInstrumentation {
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+}
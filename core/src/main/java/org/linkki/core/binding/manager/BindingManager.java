@@ -23,9 +23,13 @@ import org.apache.commons.lang3.Validate;
 import org.linkki.core.binding.BindingContext;
 import org.linkki.core.binding.BindingContext.BindingContextBuilder;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
+import org.linkki.core.binding.instrumentation.BindingInstrumentation;
+import org.linkki.core.binding.validation.AsyncValidation;
 import org.linkki.core.binding.validation.ValidationService;
+import org.linkki.core.binding.validation.message.IndexedMessageList;
 import org.linkki.core.binding.validation.message.MessageList;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.OverrideMustInvoke;
 
 /**
@@ -39,6 +43,9 @@ public abstract class BindingManager {
 
     private final ValidationService validationService;
 
+    @CheckForNull
+    private AsyncValidation asyncValidation;
+
     public BindingManager(ValidationService validationService) {
         this.validationService = requireNonNull(validationService, "validationService must not be null");
     }
@@ -204,24 +211,65 @@ public abstract class BindingManager {
      * The {@link UiUpdateObserver}s are then notified by {@link #notifyUiUpdateObservers()}.
      * <p>
      * Current messages are retrieved from the validation service and are forwarded to all
-     * registered binding contexts using {@link #updateMessages(MessageList)}.
+     * registered binding contexts using {@link #updateMessages(MessageList)}. If an
+     * {@link #setAsyncValidation(AsyncValidation) asynchronous validation} is set, the messages are
+     * retrieved in the background and forwarded when the validation has finished.
      * <p>
      * All overriding methods should call {@link #notifyUiUpdateObservers()} to notify registered
      * {@link UiUpdateObserver}s properly.
      */
     public void afterUpdateUi() {
         notifyUiUpdateObservers();
-        updateMessages(validationService.getFilteredMessages().sortBySeverity());
+        AsyncValidation currentAsyncValidation = asyncValidation;
+        if (currentAsyncValidation == null) {
+            updateMessages(getMessages());
+        } else {
+            currentAsyncValidation.validate(this::getMessages, this::updateMessages);
+        }
+    }
+
+    private MessageList getMessages() {
+        BindingInstrumentation instrumentation = BindingInstrumentation.get();
+        long start = instrumentation.isEnabled() ? System.nanoTime() : 0;
+        MessageList messages = validationService.getFilteredMessages().sortBySeverity();
+        if (instrumentation.isEnabled()) {
+            instrumentation.validated(this, System.nanoTime() - start);
+        }
+        return messages;
+    }
+
+    /**
+     * Sets the {@link AsyncValidation} that is used to call the {@link ValidationService} in the
+     * background after UI updates. If it is <code>null</code>, the validation service is called
+     * synchronously, which is the default.
+     * <p>
+     * Note that the messages are not up to date directly after {@link #afterUpdateUi()}, so
+     * asynchronous validation should not be used if the messages are needed immediately, for
+     * example to decide whether a dialog can be closed.
+     *
+     * @since 2.11.0
+     */
+    public void setAsyncValidation(@CheckForNull AsyncValidation asyncValidation) {
+        this.asyncValidation = asyncValidation;
     }
 
     /**
      * Uses the given messages to update all registered binding contexts. Can be overridden in
      * subclasses to notify further observers about the new messages.
+     * <p>
+     * The messages are passed to the binding contexts as an {@link IndexedMessageList}, so that
+     * every binding can look up its messages without searching the whole list.
      */
     @OverrideMustInvoke
     protected void updateMessages(MessageList messages) {
         requireNonNull(messages, "messages must not be null");
-        contextsByName.values().forEach(bc -> bc.displayMessages(messages));
+        BindingInstrumentation instrumentation = BindingInstrumentation.get();
+        long start = instrumentation.isEnabled() ? System.nanoTime() : 0;
+        IndexedMessageList indexedMessages = IndexedMessageList.of(messages);
+        contextsByName.values().forEach(bc -> bc.displayMessages(indexedMessages));
+        if (instrumentation.isEnabled()) {
+            instrumentation.messagesDisplayed(this, System.nanoTime() - start);
+        }
     }
 
     /**
@@ -0,0 +1,169 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.binding.validation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.linkki.core.binding.validation.message.MessageList;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Runs the validation of a {@link org.linkki.core.binding.manager.BindingManager BindingManager} in
+ * the background, so that a slow {@link ValidationService} does not delay the response to a user
+ * interaction.
+ * <ul>
+ * <li>The validation is run using the given {@link Executor}.</li>
+ * <li>Validations that are requested while another validation is running are coalesced: only the
+ * latest of them is run once the running validation has finished.</li>
+ * <li>Results of validations that were started before the latest request are discarded.</li>
+ * <li>The result is passed to the given UI access, which has to run it in the context of the UI,
+ * for example using Vaadin's {@code UI#access}. If the validation fails, the exception or error is
+ * thrown there. Later validations are run regardless.</li>
+ * </ul>
+ * As the {@link ValidationService} is called in a background thread, it must not depend on state
+ * that is bound to the request thread, like the current UI or session, and must be able to read
+ * the model while it may be changed by the UI.
+ *
+ * @see org.linkki.core.binding.manager.BindingManager#setAsyncValidation(AsyncValidation)
+ * @since 2.11.0
+ */
+public final class AsyncValidation {
+
+    private final Executor executor;
+    private final Consumer<Runnable> uiAccess;
+
+    private final Object lock = new Object();
+
+    private long latestRequestId;
+    private boolean running;
+
+    @CheckForNull
+    private Request pendingRequest;
+
+    /**
+     * Creates an {@link AsyncValidation}.
+     *
+     * @param executor the {@link Executor} that runs the validation
+     * @param uiAccess runs the given {@link Runnable} in the context of the UI
+     */
+    public AsyncValidation(Executor executor, Consumer<Runnable> uiAccess) {
+        this.executor = requireNonNull(executor, "executor must not be null");
+        this.uiAccess = requireNonNull(uiAccess, "uiAccess must not be null");
+    }
+
+    /**
+     * Requests a validation. The messages returned by the given validation are passed to the given
+     * result handler in the context of the UI, unless another validation was requested in the
+     * meantime.
+     *
+     * @param validation returns the validation messages, called in the background
+     * @param resultHandler receives the messages, called in the context of the UI
+     */
+    public void validate(Supplier<MessageList> validation, Consumer<MessageList> resultHandler) {
+        requireNonNull(validation, "validation must not be null");
+        requireNonNull(resultHandler, "resultHandler must not be null");
+        Request request;
+        synchronized (lock) {
+            request = new Request(++latestRequestId, validation, resultHandler);
+            if (running) {
+                pendingRequest = request;
+                return;
+            }
+            running = true;
+        }
+        execute(request);
+    }
+
+    private void execute(Request request) {
+        try {
+            executor.execute(() -> run(request));
+            // CSOFF: IllegalCatch
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                running = false;
+                pendingRequest = null;
+            }
+            throw e;
+        }
+        // CSON: IllegalCatch
+    }
+
+    private void run(Request request) {
+        Runnable result = () -> {
+            // no result if the validation could not be run at all
+        };
+        try {
+            result = request.validate();
+        } finally {
+            Request nextRequest;
+            synchronized (lock) {
+                nextRequest = pendingRequest;
+                pendingRequest = null;
+                running = nextRequest != null;
+            }
+            if (nextRequest == null) {
+                passResult(request, result);
+            } else {
+                // the result is already outdated
+                execute(nextRequest);
+            }
+        }
+    }
+
+    private void passResult(Request request, Runnable result) {
+        uiAccess.accept(() -> {
+            if (isLatest(request)) {
+                result.run();
+            }
+        });
+    }
+
+    private boolean isLatest(Request request) {
+        synchronized (lock) {
+            return request.id() == latestRequestId;
+        }
+    }
+
+    private record Request(long id, Supplier<MessageList> validation, Consumer<MessageList> resultHandler) {
+
+        /**
+         * Runs the validation and returns a {@link Runnable} that passes the result to the result
+         * handler or throws the exception or error of the validation.
+         */
+        Runnable validate() {
+            try {
+                MessageList messages = validation.get();
+                return () -> resultHandler.accept(messages);
+                // CSOFF: IllegalCatch
+            } catch (RuntimeException e) {
+                return () -> {
+                    throw e;
+                };
+            } catch (Error e) {
+                return () -> {
+                    throw e;
+                };
+            }
+            // CSON: IllegalCatch
+        }
+
+    }
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.linkki.core.binding.validation.message;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * A {@link MessageList} that indexes its {@link Message messages} by their
+ * {@link Message#getInvalidObjectProperties() invalid objects and properties} and by their
+ * {@link Message#getCode() codes}.
+ * <p>
+ * {@link MessageList#getMessagesFor(Object, String, int)} has to check every message of the list.
+ * When the messages for many objects are requested from the same list, as it is done when
+ * displaying the messages in all bindings of a page, this list builds an index on the first
+ * request and answers all further requests from the index. Objects are looked up by identity. Only
+ * the invalid objects whose class overrides {@link Object#equals(Object)} are additionally compared
+ * using {@link Object#equals(Object)}, so the result is the same as that of
+ * {@link MessageList#getMessagesFor(Object, String, int)} and {@link Object#hashCode()} is not used.
+ * In the same way, {@link #getMessageByCode(String)} is answered from
+ * an index, as it is called for every binding to find the
+ * {@link org.linkki.core.binding.validation.ValidationService#FATAL_ERROR_MESSAGE_CODE fatal
+ * error}.
+ * <p>
+ * The index is discarded whenever the list is modified.
+ *
+ * @since 2.11.0
+ */
+public class IndexedMessageList extends MessageList {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ClassValue<Boolean> OVERRIDES_EQUALS = new ClassValue<>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    };
+
+    @CheckForNull
+    private transient ObjectIndex index;
+
+    @CheckForNull
+    private transient Map<String, Message> firstMessageByCode;
+
+    /**
+     * Creates an indexed message list that contains the given {@link Message message(s)}.
+     *
+     * @see MessageList#MessageList(Message...)
+     */
+    public IndexedMessageList(Message... messages) {
+        super(messages);
+    }
+
+    /**
+     * Returns the given {@link MessageList} if it is already an {@link IndexedMessageList},
+     * otherwise a new {@link IndexedMessageList} containing the same messages.
+     */
+    public static IndexedMessageList of(MessageList messages) {
+        Objects.requireNonNull(messages, "messages must not be null");
+        if (messages instanceof IndexedMessageList indexedMessages) {
+            return indexedMessages;
+        } else {
+            IndexedMessageList indexedMessages = new IndexedMessageList();
+            indexedMessages.add(messages);
+            return indexedMessages;
+        }
+    }
+
+    @Override
+    public void add(Message message) {
+        super.add(message);
+        invalidateIndex();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        invalidateIndex();
+    }
+
+    @Override
+    public Iterator<Message> iterator() {
+        Iterator<Message> iterator = super.iterator();
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Message next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                invalidateIndex();
+            }
+
+        };
+    }
+
+    private void invalidateIndex() {
+        index = null;
+        firstMessageByCode = null;
+    }
+
+    @Override
+    public Optional<Message> getMessageByCode(@CheckForNull String code) {
+        Map<String, Message> result = firstMessageByCode;
+        if (result == null) {
+            result = new HashMap<>();
+            for (Message message : this) {
+                result.putIfAbsent(message.getCode(), message);
+            }
+            firstMessageByCode = result;
+        }
+        return Optional.ofNullable(result.get(code));
+    }
+
+    @Override
+    public MessageList getMessagesFor(Object object, @CheckForNull String property, int index) {
+        Objects.requireNonNull(object, "object must not be null");
+
+        List<ObjectMessages> matchingObjects = getIndex().find(object);
+        if (matchingObjects.isEmpty()) {
+            return new MessageList();
+        } else if (matchingObjects.size() > 1) {
+            // messages for several equal objects have to be merged in the order of the list
+            return super.getMessagesFor(object, property, index);
+        }
+        ObjectMessages objectMessages = matchingObjects.get(0);
+        if (StringUtils.isBlank(property)) {
+            return objectMessages.getAll();
+        } else {
+            return objectMessages.get(property, index);
+        }
+    }
+
+    private ObjectIndex getIndex() {
+        ObjectIndex result = index;
+        if (result == null) {
+            result = new ObjectIndex();
+            for (Message message : this) {
+                for (ObjectProperty objectProperty : message.getInvalidObjectProperties()) {
+                    result.add(message, objectProperty);
+                }
+            }
+            index = result;
+        }
+        return result;
+    }
+
+    private static boolean overridesEquals(Object object) {
+        return OVERRIDES_EQUALS.get(object.getClass());
+    }
+
+    /**
+     * The messages of all invalid objects by identity. Objects that override
+     * {@link Object#equals(Object)} are kept in a list as well, as they may be equal to other
+     * objects.
+     */
+    private static class ObjectIndex {
+
+        private final Map<Object, ObjectMessages> messagesByObject = new IdentityHashMap<>();
+        private final List<Object> objectsWithEquals = new ArrayList<>();
+
+        void add(Message message, ObjectProperty objectProperty) {
+            messagesByObject.computeIfAbsent(objectProperty.getObject(), this::createObjectMessages)
+                    .add(message, objectProperty);
+        }
+
+        private ObjectMessages createObjectMessages(Object object) {
+            if (overridesEquals(object)) {
+                objectsWithEquals.add(object);
+            }
+            return new ObjectMessages();
+        }
+
+        /**
+         * Returns the messages of all invalid objects that are equal to the given object.
+         */
+        List<ObjectMessages> find(Object object) {
+            ObjectMessages identical = messagesByObject.get(object);
+            if (objectsWithEquals.isEmpty()) {
+                return identical == null ? List.of() : List.of(identical);
+            }
+            List<ObjectMessages> result = new ArrayList<>(1);
+            if (identical != null && !overridesEquals(object)) {
+                result.add(identical);
+            }
+            for (Object objectWithEquals : objectsWithEquals) {
+                if (objectWithEquals.equals(object)) {
+                    result.add(messagesByObject.get(objectWithEquals));
+                }
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * The messages for a single invalid object, in the order of the list.
+     */
+    private static class ObjectMessages {
+
+        private final List<Message> messages = new ArrayList<>();
+        private final Map<String, List<PropertyMessage>> messagesByProperty = new HashMap<>();
+
+        void add(Message message, ObjectProperty objectProperty) {
+            if (messages.isEmpty() || messages.get(messages.size() - 1) != message) {
+                messages.add(message);
+            }
+            String property = objectProperty.getProperty();
+            if (property != null) {
+                messagesByProperty.computeIfAbsent(property, p -> new ArrayList<>())
+                        .add(new PropertyMessage(message, objectProperty.getIndex()));
+            }
+        }
+
+        MessageList getAll() {
+            return messages.stream().collect(MessageList.collector());
+        }
+
+        MessageList get(String property, int index) {
+            MessageList result = new MessageList();
+            Message last = null;
+            for (PropertyMessage propertyMessage : messagesByProperty.getOrDefault(property, List.of())) {
+                if (propertyMessage.message() != last && (index < 0 || propertyMessage.index() == index)) {
+                    last = propertyMessage.message();
+                    result.add(last);
+                }
+            }
+            return result;
+        }
+
+    }
+
+    private record PropertyMessage(Message message, int index) {
+    }
+
+}
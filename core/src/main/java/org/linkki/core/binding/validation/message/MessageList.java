@@ -377,10 +377,10 @@ public class MessageList implements Serializable, Iterable<Message> {
         if (this == obj) {
             return true;
         }
-        if ((obj == null) || (getClass() != obj.getClass())) {
+        // an IndexedMessageList only differs in how messages are looked up
+        if (!(obj instanceof MessageList other)) {
             return false;
         }
-        MessageList other = (MessageList)obj;
         return Objects.equals(messages, other.messages);
     }
 
@@ -123,4 +123,22 @@ public interface ContainerPmo<ROW> {
     default boolean isHierarchical() {
         return HierarchicalRowPmo.class.isAssignableFrom(getItemPmoClass());
     }
+
+    /**
+     * Returns whether the child rows of a {@link #isHierarchical() hierarchical} container are read
+     * lazily. If so, {@link HierarchicalRowPmo#getChildRows()} is only called for rows that are
+     * expanded, and on every UI update only the children of expanded rows are checked for
+     * changes. This is useful for large hierarchies of which only small parts are expanded.
+     * <p>
+     * Note that utilities that work on the displayed hierarchy, such as expanding all rows up to a
+     * given level, only know about the rows that have been read.
+     * 
+     * @implNote The default implementation returns <code>false</code>, so the whole hierarchy is
+     *           read on every UI update.
+     * 
+     * @since 2.11.0
+     */
+    default boolean isHierarchyLazy() {
+        return false;
+    }
 }
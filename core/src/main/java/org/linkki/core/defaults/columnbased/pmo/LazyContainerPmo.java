@@ -0,0 +1,118 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.defaults.columnbased.pmo;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * A {@link ContainerPmo} whose items are not provided as a complete list but are fetched page by
+ * page. A table bound to a {@link LazyContainerPmo} only requests the rows that are actually
+ * displayed, so the item PMOs and their bindings only have to be created for those rows. This is
+ * useful for large result lists, for example search results with many thousand entries.
+ * <p>
+ * The table reads the {@link #getItemCount() number of items} and then
+ * {@link #getItems(int, int, List) fetches} ranges of items as needed. The rows are refreshed
+ * whenever the {@link #getItemsVersion() version} of the items changes.
+ * 
+ * @param <ROW> a PMO class annotated with linkki annotations for fields and/or table columns
+ * 
+ * @implSpec Lazy containers do not support hierarchical tables.
+ * 
+ * @since 2.11.0
+ */
+public interface LazyContainerPmo<ROW> extends ContainerPmo<ROW> {
+
+    /**
+     * Returns the total number of items in the container.
+     */
+    int getItemCount();
+
+    /**
+     * Returns the items in the given range. The returned list must not contain more than
+     * {@code limit} items.
+     * 
+     * @param offset the index of the first item to return
+     * @param limit the maximum number of items to return
+     * @param sortHints the requested sort order, with the most significant hint first. The
+     *            {@link SortHint#property() property} of a hint is the name of the sorted column,
+     *            that is the PMO property of the column. The list is empty if no sort order is
+     *            requested.
+     */
+    List<ROW> getItems(int offset, int limit, List<SortHint> sortHints);
+
+    /**
+     * Items of a {@link LazyContainerPmo} are fetched using {@link #getItems(int, int, List)}. The
+     * complete list of items is not needed by the table, this method therefore returns an empty
+     * list.
+     */
+    @Override
+    default List<ROW> getItems() {
+        return List.of();
+    }
+
+    /**
+     * Returns an object identifying the current content of the container. The rows of the table
+     * are fetched again whenever the returned value is no longer {@link Object#equals(Object)
+     * equal} to the one returned before.
+     * 
+     * @implNote The default implementation returns the {@link #getItemCount() number of items}.
+     *           If the items may change without changing their number, for example because
+     *           another filter is applied, this method should be overridden to return a value
+     *           that reflects that change, such as the filter criteria or a modification counter.
+     *           As it is called on every UI update, the implementation should be cheap.
+     */
+    default Object getItemsVersion() {
+        return getItemCount();
+    }
+
+    /**
+     * Returns whether {@link #getItemCount()} returns the exact number of items. If the number is
+     * not known in advance, for example because the items are read from a stream, it is only used
+     * as an estimate. The table then fetches further items while the user scrolls, until
+     * {@link #getItems(int, int, List)} returns fewer items than requested.
+     * <p>
+     * The value is read once when the table is created.
+     * 
+     * @implNote The default implementation returns <code>true</code>.
+     */
+    default boolean isItemCountExact() {
+        return true;
+    }
+
+    /**
+     * Lazy containers are never hierarchical.
+     */
+    @Override
+    default boolean isHierarchical() {
+        return false;
+    }
+
+    /**
+     * A requested sort order for one property.
+     * 
+     * @param property the name of the sorted property
+     * @param ascending {@code true} for ascending, {@code false} for descending order
+     */
+    record SortHint(String property, boolean ascending) {
+
+        public SortHint {
+            requireNonNull(property, "property must not be null");
+        }
+
+    }
+
+}
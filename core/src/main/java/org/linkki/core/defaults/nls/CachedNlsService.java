@@ -0,0 +1,164 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.linkki.core.defaults.nls;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.linkki.core.nls.NlsService;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * {@link NlsService} that reads every {@link ResourceBundle} only once per locale. The strings of a
+ * bundle are copied to an immutable map that is shared by all sessions. The bundles are resolved in
+ * the same way as in {@link DefaultNlsService}.
+ * <p>
+ * The strings are cached for the {@link ResourceBundle#getLocale() locale of the bundle} that is
+ * found, so their number is limited by the bundles on the class path. All requested locales that
+ * resolve to the same bundle share its strings. Only the resolved locale is remembered for a
+ * limited number of requested locales.
+ * <p>
+ * This is the service returned by {@link NlsService#get()}. The bundles can be
+ * {@link #preload(Collection, Collection) preloaded} when the application starts. During
+ * development, {@link #reload()} reads changed bundles again.
+ * 
+ * @since 2.11.0
+ */
+public final class CachedNlsService implements NlsService {
+
+    private static final CachedNlsService INSTANCE = new CachedNlsService();
+
+    /**
+     * The maximum number of requested locales whose resolved locale is remembered. Locales usually
+     * come from the browser, so there is no upper limit to the number of different locales.
+     */
+    private static final int MAX_RESOLVED_LOCALES = 256;
+
+    private final Map<ResolvedBundleKey, Map<String, String>> bundles = new ConcurrentHashMap<>();
+
+    private final Map<BundleKey, ResolvedBundleKey> resolvedKeys = new ConcurrentHashMap<>();
+
+    private CachedNlsService() {
+        // singleton
+    }
+
+    /**
+     * Returns the instance of {@link CachedNlsService} that is shared by all sessions.
+     */
+    public static CachedNlsService getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Optional<String> getString(String bundleName, String key, Locale locale) {
+        requireNonNull(bundleName, "bundleName must be not null");
+        requireNonNull(key, "key must be not null");
+        requireNonNull(locale, "locale must be not null");
+        return Optional.ofNullable(getStrings(bundleName, locale).get(key));
+    }
+
+    /**
+     * Reads the given bundles for all given locales, so that the first request does not have to
+     * read them.
+     * 
+     * @param bundleNames the names of the bundles as used in
+     *            {@link #getString(String, String, Locale)}
+     * @param locales the locales that are used in the application
+     */
+    public void preload(Collection<String> bundleNames, Collection<Locale> locales) {
+        requireNonNull(bundleNames, "bundleNames must not be null");
+        requireNonNull(locales, "locales must not be null");
+        bundleNames.forEach(bundleName -> locales.forEach(locale -> getStrings(bundleName, locale)));
+    }
+
+    /**
+     * Discards all bundles that have been read so far and clears the cache of
+     * {@link ResourceBundle}, so that changed bundles are read again on the next request. This is
+     * intended for development.
+     * <p>
+     * Note that texts that are cached elsewhere, for example the labels of PMO classes, are not
+     * updated.
+     */
+    public void reload() {
+        ResourceBundle.clearCache(DefaultNlsService.class.getClassLoader());
+        resolvedKeys.clear();
+        bundles.clear();
+    }
+
+    /* private */ Map<String, String> getStrings(String bundleName, Locale locale) {
+        var key = new BundleKey(bundleName, locale, Locale.getDefault());
+        ResolvedBundleKey resolvedKey = resolvedKeys.get(key);
+        if (resolvedKey != null) {
+            Map<String, String> strings = bundles.get(resolvedKey);
+            if (strings != null) {
+                return strings;
+            }
+        }
+        return readStrings(key);
+    }
+
+    private Map<String, String> readStrings(BundleKey key) {
+        Optional<ResourceBundle> bundle = findResourceBundle(key);
+        var resolvedKey = new ResolvedBundleKey(key.bundleName(), bundle.map(ResourceBundle::getLocale).orElse(null));
+        if (resolvedKeys.size() >= MAX_RESOLVED_LOCALES) {
+            resolvedKeys.clear();
+        }
+        resolvedKeys.put(key, resolvedKey);
+        return bundles.computeIfAbsent(resolvedKey, k -> bundle.map(CachedNlsService::readStrings)
+                .orElseGet(Collections::emptyMap));
+    }
+
+    private static Optional<ResourceBundle> findResourceBundle(BundleKey key) {
+        try {
+            return Optional.of(DefaultNlsService.getResourceBundle(key.bundleName(), key.locale()));
+        } catch (MissingResourceException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Map<String, String> readStrings(ResourceBundle bundle) {
+        var strings = new HashMap<String, String>();
+        bundle.keySet().forEach(k -> {
+            if (bundle.getObject(k) instanceof String value) {
+                strings.put(k, value);
+            }
+        });
+        return Map.copyOf(strings);
+    }
+
+    /**
+     * The bundle that is found for a locale also depends on the {@link Locale#getDefault() default
+     * locale}.
+     */
+    private record BundleKey(String bundleName, Locale locale, Locale defaultLocale) {
+    }
+
+    /**
+     * The {@link ResourceBundle#getLocale() locale of the bundle} that was found, or {@code null} if
+     * there is no bundle with the name.
+     */
+    private record ResolvedBundleKey(String bundleName, @CheckForNull Locale locale) {
+    }
+
+}
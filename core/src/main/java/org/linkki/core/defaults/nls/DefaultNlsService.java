@@ -43,7 +43,7 @@ public class DefaultNlsService implements NlsService {
      *         {@link Locale#ROOT} if none is found for the given locale, it's language or the
      *         {@link Locale#getDefault() default Locale}
      */
-    private ResourceBundle getResourceBundle(String resource, Locale locale) {
+    /* private */ static ResourceBundle getResourceBundle(String resource, Locale locale) {
         ResourceBundle bundle = ResourceBundle.getBundle(resource, locale);
         Locale bundleLocale = bundle.getLocale();
         if (!bundleLocale.equals(locale) && !locale.equals(Locale.getDefault())
@@ -18,7 +18,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Locale;
 import java.util.Optional;
 
-import org.linkki.core.defaults.nls.DefaultNlsService;
+import org.linkki.core.defaults.nls.CachedNlsService;
 import org.linkki.core.uiframework.UiFramework;
 
 /**
@@ -97,9 +97,11 @@ public interface NlsService {
 
     /**
      * @return the {@link NlsService} implementation for the current context.
+     * 
+     * @see CachedNlsService
      */
     static NlsService get() {
-        return new DefaultNlsService();
+        return CachedNlsService.getInstance();
     }
 
 }
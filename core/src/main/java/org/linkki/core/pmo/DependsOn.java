@@ -0,0 +1,62 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.pmo;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.linkki.core.binding.BindingContext;
+
+/**
+ * Declares that the UI elements of a presentation model object only depend on properties of the
+ * same presentation model object. When a value is changed in the UI, the {@link BindingContext}
+ * then only updates the elements whose declared properties have been changed instead of updating
+ * all elements in the context.
+ * <p>
+ * The annotation can be placed on
+ * <ul>
+ * <li>a method of a PMO: the UI element of this method is only updated if one of the given
+ * properties of the same PMO instance has been changed. If no property is given, it is updated if
+ * any property of the same PMO instance has been changed.</li>
+ * <li>a PMO class: the declaration applies to all UI elements of the PMO that are not annotated
+ * themselves.</li>
+ * </ul>
+ * A UI element is always updated if its own property has been changed. UI elements of PMOs without
+ * this annotation are always updated.
+ * <p>
+ * Only changes that are made using a UI element of the binding context are tracked. All
+ * {@link BindingContext#modelChanged() model changes} that are triggered by other means, as well
+ * as {@link BindingContext#updateUi()}, still update all elements.
+ * 
+ * @implNote The dependencies have to be declared carefully as a UI element that depends on
+ *           properties of another PMO or on the model state changed by a button of another PMO
+ *           is not updated. If such a button exists, it should call
+ *           {@link BindingContext#modelChanged()} to update all elements.
+ * 
+ * @since 2.11.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface DependsOn {
+
+    /**
+     * The names of the properties of the same PMO the UI element depends on. If empty, the element
+     * depends on all properties of the PMO.
+     */
+    String[] value() default {};
+
+}
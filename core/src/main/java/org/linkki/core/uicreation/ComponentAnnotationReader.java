@@ -19,6 +19,7 @@ import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -100,6 +101,19 @@ public final class ComponentAnnotationReader {
     public static <A extends Annotation> LinkkiComponentDefinition getComponentDefinition(
             A annotation,
             AnnotatedElement annotatedElement) {
+        return getComponentDefinitionSupplier(annotation, annotatedElement).get();
+    }
+
+    /**
+     * Returns a {@link Supplier} that creates a new {@link LinkkiComponentDefinition} from the
+     * given annotation on every call. The {@link ComponentDefinitionCreator} is only instantiated
+     * once.
+     *
+     * @see #getComponentDefinition(Annotation, AnnotatedElement)
+     */
+    static <A extends Annotation> Supplier<LinkkiComponentDefinition> getComponentDefinitionSupplier(
+            A annotation,
+            AnnotatedElement annotatedElement) {
         LinkkiComponent linkkiComponent = LINKKI_COMPONENT_ANNOTATION.findOn(annotation)
                 .orElseThrow(LINKKI_COMPONENT_ANNOTATION
                         .missingAnnotation(annotation, annotatedElement, ComponentAnnotationReader.class.getSimpleName()
@@ -107,7 +121,8 @@ public final class ComponentAnnotationReader {
         @SuppressWarnings("unchecked")
         Class<ComponentDefinitionCreator<A>> creatorClass = (Class<ComponentDefinitionCreator<A>>)linkkiComponent
                 .value();
-        return Classes.instantiate(creatorClass).create(annotation, annotatedElement);
+        ComponentDefinitionCreator<A> creator = Classes.instantiate(creatorClass);
+        return () -> creator.create(annotation, annotatedElement);
     }
 
     /**
@@ -127,10 +142,21 @@ public final class ComponentAnnotationReader {
      *             annotations that could create one
      */
     public static Optional<LinkkiComponentDefinition> findComponentDefinition(AnnotatedElement annotatedElement) {
+        return findComponentDefinitionSupplier(annotatedElement).map(Supplier::get);
+    }
+
+    /**
+     * Returns a {@link Supplier} that creates a new {@link LinkkiComponentDefinition} on every call
+     * if a component definition annotation is found on the given element.
+     *
+     * @see #findComponentDefinition(AnnotatedElement)
+     */
+    static Optional<Supplier<LinkkiComponentDefinition>> findComponentDefinitionSupplier(
+            AnnotatedElement annotatedElement) {
         return LINKKI_COMPONENT_ANNOTATION
                 .findAnnotatedAnnotationsOn(annotatedElement)
                 .reduce(LINKKI_COMPONENT_ANNOTATION.onlyOneOn(annotatedElement))
-                .map(annotation -> getComponentDefinition(annotation, annotatedElement));
+                .map(annotation -> getComponentDefinitionSupplier(annotation, annotatedElement));
     }
 
     /**
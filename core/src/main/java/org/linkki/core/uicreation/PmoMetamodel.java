@@ -0,0 +1,308 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.uicreation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.linkki.core.binding.descriptor.BindingDescriptor;
+import org.linkki.core.binding.descriptor.aspect.LinkkiAspectDefinition;
+import org.linkki.core.binding.descriptor.aspect.annotation.AspectAnnotationReader;
+import org.linkki.core.binding.descriptor.messagehandler.LinkkiMessageHandler;
+import org.linkki.core.binding.descriptor.messagehandler.annotation.MessageHandlerAnnotationReader;
+import org.linkki.core.binding.descriptor.property.BoundProperty;
+import org.linkki.core.binding.descriptor.property.annotation.BoundPropertyAnnotationReader;
+import org.linkki.core.binding.uicreation.LinkkiComponent;
+import org.linkki.core.binding.uicreation.LinkkiComponentDefinition;
+import org.linkki.core.uicreation.layout.LayoutAnnotationReader;
+import org.linkki.core.uicreation.layout.LinkkiLayoutDefinition;
+import org.linkki.util.reflection.MetaAnnotation;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * The metamodel of a presentation model object class. It holds all information that
+ * {@link UiCreator} reads from the annotations of a PMO class and its methods, i.e. the
+ * {@link BindingDescriptor BindingDescriptors}, {@link LinkkiComponentDefinition
+ * LinkkiComponentDefinitions} and {@link LinkkiLayoutDefinition LinkkiLayoutDefinitions}.
+ * <p>
+ * As this information only depends on the PMO class, the annotations are read and the creators
+ * are instantiated once per class and reused for every PMO instance. The metamodel is attached to
+ * the PMO class using a {@link ClassValue} and therefore does not prevent the class from being
+ * unloaded.
+ *
+ * @implNote Aspect definitions, message handlers and component definitions are created anew for
+ *           every binding, so they may hold state that is specific to a single binding. The
+ *           {@link LinkkiLayoutDefinition LinkkiLayoutDefinitions} are shared by all PMO
+ *           instances of the same class.
+ *
+ * @since 2.11.0
+ */
+public final class PmoMetamodel {
+
+    private static final MetaAnnotation<LinkkiComponent> LINKKI_COMPONENT_ANNOTATION = MetaAnnotation
+            .of(LinkkiComponent.class);
+
+    private static final ClassValue<PmoMetamodel> METAMODELS = new ClassValue<>() {
+
+        @Override
+        protected PmoMetamodel computeValue(Class<?> pmoClass) {
+            return new PmoMetamodel(pmoClass);
+        }
+
+    };
+
+    private final Class<?> pmoClass;
+
+    private final Map<Method, MethodDefinition> methods = new ConcurrentHashMap<>();
+
+    @CheckForNull
+    private volatile List<Method> componentDefinitionMethods;
+
+    @CheckForNull
+    private volatile Supplier<BindingDescriptor> classBindingDescriptorSupplier;
+
+    @CheckForNull
+    private volatile ElementDefinition classDefinition;
+
+    private PmoMetamodel(Class<?> pmoClass) {
+        this.pmoClass = requireNonNull(pmoClass, "pmoClass must not be null");
+    }
+
+    /**
+     * Returns the {@link PmoMetamodel} of the given PMO class.
+     */
+    public static PmoMetamodel of(Class<?> pmoClass) {
+        return METAMODELS.get(requireNonNull(pmoClass, "pmoClass must not be null"));
+    }
+
+    /**
+     * Returns the class this metamodel describes.
+     */
+    public Class<?> getPmoClass() {
+        return pmoClass;
+    }
+
+    /**
+     * Returns all methods of the PMO class with a component definition, sorted by their position.
+     *
+     * @see ComponentAnnotationReader#getComponentDefinitionMethods(Class)
+     */
+    public Stream<Method> getComponentDefinitionMethods() {
+        List<Method> result = componentDefinitionMethods;
+        if (result == null) {
+            result = ComponentAnnotationReader.getComponentDefinitionMethods(pmoClass).toList();
+            componentDefinitionMethods = result;
+        }
+        return result.stream();
+    }
+
+    /**
+     * Returns the {@link ElementDefinition} for the given method of the PMO class. If the method is
+     * annotated with more than one component definition annotation (dynamic fields), the given PMO
+     * instance is used to select the active one.
+     *
+     * @param method a method of the PMO class with a component definition
+     * @param pmo the PMO instance, used to select the active annotation of a dynamic field
+     *
+     * @see ComponentAnnotationReader#getComponentDefinitionAnnotation(java.lang.reflect.AnnotatedElement,
+     *      Object)
+     */
+    public ElementDefinition getElementDefinition(Method method, Object pmo) {
+        return getMethodDefinition(method).getElementDefinition(pmo);
+    }
+
+    /**
+     * Returns the {@link MethodDefinition} for the given method of the PMO class. It can be kept to
+     * create the {@link ElementDefinition ElementDefinitions} for many PMO instances without
+     * looking up the method again, for example for all cells of a table column.
+     *
+     * @param method a method of the PMO class with a component definition
+     */
+    public MethodDefinition getMethodDefinition(Method method) {
+        return methods.computeIfAbsent(method, MethodDefinition::new);
+    }
+
+    /**
+     * Returns the {@link ElementDefinition} that is defined by the class level annotations of the
+     * PMO class.
+     *
+     * @throws IllegalArgumentException if there is no {@link LinkkiComponentDefinition} defined on
+     *             the PMO class
+     */
+    public ElementDefinition getClassDefinition() {
+        ElementDefinition result = classDefinition;
+        if (result == null) {
+            result = new ElementDefinition(getClassBindingDescriptorSupplier(),
+                    ComponentAnnotationReader.findComponentDefinitionSupplier(pmoClass)
+                            .orElseThrow(() -> new IllegalArgumentException(
+                                    "No " + LinkkiComponentDefinition.class.getSimpleName()
+                                            + " was found on " + pmoClass + ".")),
+                    LayoutAnnotationReader.findLayoutDefinition(pmoClass));
+            classDefinition = result;
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new {@link BindingDescriptor} for the class level annotations of the PMO class.
+     *
+     * @see BindingDescriptor#forPmoClass(Class)
+     */
+    public BindingDescriptor createClassBindingDescriptor() {
+        return getClassBindingDescriptorSupplier().get();
+    }
+
+    private Supplier<BindingDescriptor> getClassBindingDescriptorSupplier() {
+        Supplier<BindingDescriptor> result = classBindingDescriptorSupplier;
+        if (result == null) {
+            var boundProperty = BoundPropertyAnnotationReader.findBoundProperty(pmoClass)
+                    .orElseGet(BoundProperty::empty);
+            result = bindingDescriptorSupplier(boundProperty,
+                                               AspectAnnotationReader.getAspectDefinitionsSupplierFor(pmoClass),
+                                               MessageHandlerAnnotationReader.getMessageHandlerSupplier(pmoClass));
+            classBindingDescriptorSupplier = result;
+        }
+        return result;
+    }
+
+    private static Supplier<BindingDescriptor> bindingDescriptorSupplier(BoundProperty boundProperty,
+            Supplier<List<LinkkiAspectDefinition>> aspectDefinitionsSupplier,
+            Supplier<LinkkiMessageHandler> messageHandlerSupplier) {
+        return () -> new BindingDescriptor(boundProperty, aspectDefinitionsSupplier.get(),
+                messageHandlerSupplier.get());
+    }
+
+    @Override
+    public String toString() {
+        return "PmoMetamodel [" + pmoClass.getName() + "]";
+    }
+
+    /**
+     * The cached information of one method of a PMO class. For a method with a single component
+     * definition annotation, the {@link ElementDefinition} is the same for all PMO instances. For a
+     * dynamic field, it depends on the annotation that is selected by the PMO instance.
+     */
+    public static final class MethodDefinition {
+
+        private final Method method;
+        private final List<Annotation> componentAnnotations;
+        private final Map<Class<? extends Annotation>, ElementDefinition> elementDefinitions =
+                new ConcurrentHashMap<>(2);
+
+        @CheckForNull
+        private volatile ElementDefinition staticElementDefinition;
+
+        MethodDefinition(Method method) {
+            this.method = requireNonNull(method, "method must not be null");
+            this.componentAnnotations = LINKKI_COMPONENT_ANNOTATION.findAnnotatedAnnotationsOn(method).toList();
+        }
+
+        public Method getMethod() {
+            return method;
+        }
+
+        /**
+         * Returns whether the method has more than one component definition annotation, so that the
+         * {@link ElementDefinition} depends on the PMO instance.
+         */
+        public boolean isDynamic() {
+            return componentAnnotations.size() > 1;
+        }
+
+        /**
+         * Returns the {@link ElementDefinition} for the given PMO instance. The PMO is only used if
+         * the method {@link #isDynamic() is dynamic}.
+         */
+        public ElementDefinition getElementDefinition(Object pmo) {
+            if (isDynamic()) {
+                Annotation annotation = ComponentAnnotationReader.getComponentDefinitionAnnotation(method, pmo);
+                return elementDefinitions.computeIfAbsent(annotation.annotationType(),
+                                                          type -> createElementDefinition(annotation));
+            } else {
+                ElementDefinition result = staticElementDefinition;
+                if (result == null) {
+                    result = createElementDefinition(ComponentAnnotationReader
+                            .getComponentDefinitionAnnotation(method, pmo));
+                    staticElementDefinition = result;
+                }
+                return result;
+            }
+        }
+
+        private ElementDefinition createElementDefinition(Annotation annotation) {
+            var bindingDescriptorSupplier = bindingDescriptorSupplier(
+                    BoundPropertyAnnotationReader.getBoundProperty(annotation, method),
+                    AspectAnnotationReader.getAspectDefinitionsSupplierFor(annotation, method),
+                    MessageHandlerAnnotationReader.getMessageHandlerSupplier(method));
+            return new ElementDefinition(bindingDescriptorSupplier,
+                    ComponentAnnotationReader.getComponentDefinitionSupplier(annotation, method),
+                    LayoutAnnotationReader.findLayoutDefinition(method));
+        }
+
+    }
+
+    /**
+     * Everything that is needed to create and bind a UI element for a PMO: the
+     * {@link BindingDescriptor}, the {@link LinkkiComponentDefinition} and an optional
+     * {@link LinkkiLayoutDefinition}.
+     */
+    public static final class ElementDefinition {
+
+        private final Supplier<BindingDescriptor> bindingDescriptorSupplier;
+        private final Supplier<LinkkiComponentDefinition> componentDefinitionSupplier;
+        private final Optional<LinkkiLayoutDefinition> layoutDefinition;
+
+        ElementDefinition(Supplier<BindingDescriptor> bindingDescriptorSupplier,
+                Supplier<LinkkiComponentDefinition> componentDefinitionSupplier,
+                Optional<LinkkiLayoutDefinition> layoutDefinition) {
+            this.bindingDescriptorSupplier = requireNonNull(bindingDescriptorSupplier,
+                                                            "bindingDescriptorSupplier must not be null");
+            this.componentDefinitionSupplier = requireNonNull(componentDefinitionSupplier,
+                                                              "componentDefinitionSupplier must not be null");
+            this.layoutDefinition = requireNonNull(layoutDefinition, "layoutDefinition must not be null");
+        }
+
+        /**
+         * Creates a new {@link BindingDescriptor} with new aspect definitions and a new message
+         * handler, so that they are not shared between bindings.
+         */
+        public BindingDescriptor createBindingDescriptor() {
+            return bindingDescriptorSupplier.get();
+        }
+
+        /**
+         * Creates a new {@link LinkkiComponentDefinition}, as a {@link ComponentDefinitionCreator}
+         * may already create the component when creating the definition.
+         */
+        public LinkkiComponentDefinition createComponentDefinition() {
+            return componentDefinitionSupplier.get();
+        }
+
+        public Optional<LinkkiLayoutDefinition> getLayoutDefinition() {
+            return layoutDefinition;
+        }
+
+    }
+
+}
@@ -16,9 +16,9 @@ package org.linkki.core.uicreation;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.linkki.core.binding.BindingContext;
@@ -33,6 +33,7 @@ import org.linkki.core.binding.uicreation.LinkkiComponentDefinition;
 import org.linkki.core.binding.wrapper.ComponentWrapper;
 import org.linkki.core.binding.wrapper.ComponentWrapperFactory;
 import org.linkki.core.defaults.section.Sections;
+import org.linkki.core.uicreation.PmoMetamodel.ElementDefinition;
 import org.linkki.core.uicreation.layout.LayoutAnnotationReader;
 import org.linkki.core.uicreation.layout.LinkkiLayout;
 import org.linkki.core.uicreation.layout.LinkkiLayoutDefinition;
@@ -90,8 +91,10 @@ public class UiCreator {
     public static <C, W extends ComponentWrapper> Stream<W> createUiElements(Object pmo,
             BindingContext bindingContext,
             Function<C, W> componentWrapperCreator) {
-        return ComponentAnnotationReader.getComponentDefinitionMethods(pmo.getClass())
-                .map(m -> createUiElement(m, pmo, bindingContext, componentWrapperCreator));
+        List<W> uiElements = PmoMetamodel.of(pmo.getClass()).getComponentDefinitionMethods()
+                .map(m -> createUiElement(m, pmo, bindingContext, componentWrapperCreator))
+                .toList();
+        return uiElements.stream();
     }
 
     /**
@@ -122,17 +125,39 @@ public class UiCreator {
             Object pmo,
             BindingContext bindingContext,
             Function<C, W> componentWrapperCreator) {
+        return createUiElement(PmoMetamodel.of(pmo.getClass()).getElementDefinition(method, pmo),
+                               pmo, bindingContext, componentWrapperCreator);
+    }
 
-        Annotation componentDefAnnotation = ComponentAnnotationReader
-                .getComponentDefinitionAnnotation(method, pmo);
-        var bindingDescriptor = BindingDescriptor.forMethod(method, componentDefAnnotation);
-
+    /**
+     * Creates and binds a UI element for the given {@link ElementDefinition}. In contrast to
+     * {@link #createUiElement(Method, Object, BindingContext, Function)}, the annotations of the
+     * method do not need to be looked up again. This is useful when creating many elements from the
+     * same method, for example the cells of a table column, using a
+     * {@link PmoMetamodel.MethodDefinition} that was resolved once.
+     *
+     * @param <C> the UI component class created by the {@link LinkkiComponentDefinition} and
+     *            handed to the {@code componentWrapperCreator}
+     * @param <W> the {@link ComponentWrapper} class created by the {@code componentWrapperCreator}
+     * @param elementDefinition the definition of the element, see
+     *            {@link PmoMetamodel#getElementDefinition(Method, Object)}
+     * @param pmo the PMO that contains the UI element annotations
+     * @param bindingContext a {@link BindingContext} that is used to register the bindings for the
+     *            created UI elements
+     * @param componentWrapperCreator a function that wraps the given component in an appropriate
+     *            {@link ComponentWrapper} for the binding
+     * @return the created {@link ComponentWrapper}
+     * @since 2.11.0
+     */
+    public static <C, W extends ComponentWrapper> W createUiElement(ElementDefinition elementDefinition,
+            Object pmo,
+            BindingContext bindingContext,
+            Function<C, W> componentWrapperCreator) {
         return createComponent(pmo, bindingContext,
-                               bindingDescriptor,
-                               ComponentAnnotationReader
-                                       .getComponentDefinition(componentDefAnnotation, method),
+                               elementDefinition.createBindingDescriptor(),
+                               elementDefinition.createComponentDefinition(),
                                componentWrapperCreator,
-                               LayoutAnnotationReader.findLayoutDefinition(method));
+                               elementDefinition.getLayoutDefinition());
     }
 
     /**
@@ -198,12 +223,13 @@ public class UiCreator {
      */
     public static ComponentWrapper createComponent(Object pmo,
             BindingContext bindingContext) {
-        Class<?> pmoClass = pmo.getClass();
+        var classDefinition = PmoMetamodel.of(pmo.getClass()).getClassDefinition();
         return createComponent(pmo,
                                bindingContext,
-                               ComponentAnnotationReader.findComponentDefinition(pmoClass)
-                                       .orElseThrow(noDefinitionFound(LinkkiComponentDefinition.class, pmoClass)),
-                               LayoutAnnotationReader.findLayoutDefinition(pmoClass));
+                               classDefinition.createBindingDescriptor(),
+                               classDefinition.createComponentDefinition(),
+                               COMPONENT_WRAPPER_FACTORY::createComponentWrapper,
+                               classDefinition.getLayoutDefinition());
     }
 
     /**
@@ -255,7 +281,7 @@ public class UiCreator {
             LinkkiComponentDefinition componentDefinition,
             Function<C, W> componentWrapperCreator,
             Optional<LinkkiLayoutDefinition> layoutDefinition) {
-        var bindingDescriptor = BindingDescriptor.forPmoClass(pmo.getClass());
+        var bindingDescriptor = PmoMetamodel.of(pmo.getClass()).createClassBindingDescriptor();
         return createComponent(pmo,
                                bindingContext,
                                bindingDescriptor,
@@ -315,10 +341,4 @@ public class UiCreator {
                 : boundProperty.getPmoProperty();
     }
 
-    private static Supplier<? extends IllegalArgumentException> noDefinitionFound(Class<?> definitionClass,
-            AnnotatedElement annotatedElement) {
-        return () -> new IllegalArgumentException("No " + definitionClass.getSimpleName()
-                + " was found on " + annotatedElement + ".");
-    }
-
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import java.util.Locale;
 import java.util.stream.Stream;
 
 import org.linkki.core.binding.wrapper.ComponentWrapperFactory;
+import org.linkki.util.handler.Handler;
 import org.linkki.util.service.Services;
 
 /**
@@ -85,4 +86,19 @@ public final class UiFramework {
         return get().isVisible(uiComponent);
     }
 
+    /**
+     * Returns whether the given UI component is hidden by a parent that hides its whole content,
+     * like an unselected tab sheet or a closed section. If so, the given handler is applied when
+     * the parent shows its content again.
+     *
+     * @param uiComponent the component that should be updated
+     * @param onShow the {@link Handler} that should be applied when the component is shown
+     * @return <code>true</code> if the component is hidden by one of its parents
+     * @see UiFrameworkExtension#isHiddenByParent(Object, Handler)
+     * @since 2.11.0
+     */
+    public static boolean isHiddenByParent(Object uiComponent, Handler onShow) {
+        return get().isHiddenByParent(uiComponent, onShow);
+    }
+
 }
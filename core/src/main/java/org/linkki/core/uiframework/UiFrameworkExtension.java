@@ -18,6 +18,7 @@ import java.util.Locale;
 import java.util.stream.Stream;
 
 import org.linkki.core.binding.wrapper.ComponentWrapperFactory;
+import org.linkki.util.handler.Handler;
 
 /**
  * Service interface for the abstraction of UI framework specific code. Instances should be accessed
@@ -57,4 +58,25 @@ public interface UiFrameworkExtension {
      */
     boolean isVisible(Object uiComponent);
 
+    /**
+     * Returns whether the given UI component is hidden by a parent that hides its whole content,
+     * like an unselected tab sheet or a closed section. The bindings of such components are not
+     * updated until the parent shows its content again.
+     * <p>
+     * If the component is hidden, the given handler is applied once when the parent shows its
+     * content again. The handler is only weakly referenced, so the caller has to keep a reference
+     * to it.
+     * <p>
+     * The default implementation returns <code>false</code>, so all components are always
+     * updated.
+     *
+     * @param uiComponent the component that should be updated
+     * @param onShow the {@link Handler} that should be applied when the component is shown
+     * @return <code>true</code> if the component is hidden by one of its parents
+     * @since 2.11.0
+     */
+    default boolean isHiddenByParent(Object uiComponent, Handler onShow) {
+        return false;
+    }
+
 }
@@ -30,6 +30,7 @@ import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -40,6 +41,7 @@ import org.linkki.core.binding.descriptor.aspect.base.TestComponentClickAspectDe
 import org.linkki.core.binding.descriptor.property.BoundProperty;
 import org.linkki.core.binding.dispatcher.PropertyDispatcher;
 import org.linkki.core.binding.dispatcher.PropertyDispatcherFactory;
+import org.linkki.core.binding.dispatcher.behavior.CachingPropertyBehaviorProvider;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehavior;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
 import org.linkki.core.binding.dispatcher.fallback.ExceptionPropertyDispatcher;
@@ -58,6 +60,7 @@ import org.linkki.core.defaults.nls.TestUiLayoutComponent;
 import org.linkki.core.defaults.ui.aspects.EnabledAspectDefinition;
 import org.linkki.core.defaults.ui.aspects.types.EnabledType;
 import org.linkki.core.pmo.ButtonPmo;
+import org.linkki.core.pmo.DependsOn;
 import org.linkki.core.pmo.PresentationModelObject;
 import org.linkki.util.handler.Handler;
 
@@ -420,6 +423,30 @@ class BindingContextTest {
         assertThat(createDispatcherChainCalled.get()).isTrue();
     }
 
+    @Test
+    void testBind_DispatcherFactoryGetsCachingProviderOfConfiguredProvider() {
+        PropertyBehaviorProvider configuredProvider = PropertyBehaviorProvider.with(PropertyBehavior.visible(() -> true));
+        List<PropertyBehaviorProvider> providers = new ArrayList<>();
+        PropertyDispatcherFactory dispatcherFactory = new PropertyDispatcherFactory() {
+            @Override
+            public PropertyDispatcher createDispatcherChain(Object pmo,
+                    BoundProperty boundProperty,
+                    PropertyBehaviorProvider behaviorProvider) {
+                providers.add(behaviorProvider);
+                return super.createDispatcherChain(pmo, boundProperty, behaviorProvider);
+            }
+        };
+        BindingContext context = new BindingContextBuilder().propertyBehaviorProvider(configuredProvider)
+                .propertyDispatcherFactory(dispatcherFactory)
+                .build();
+
+        context.bind(new TestButtonPmo(), enabledBindingDescriptor, new TestComponentWrapper(new TestUiComponent()));
+
+        assertThat(providers).singleElement()
+                .isInstanceOfSatisfying(CachingPropertyBehaviorProvider.class,
+                                        p -> assertThat(p.getWrappedProvider()).isSameAs(configuredProvider));
+    }
+
     @Test
     void testModelChanged_BothHandlersShouldBeCalled() {
         AtomicBoolean afterModelChangedHandlerCalled = new AtomicBoolean(false);
@@ -461,6 +488,101 @@ class BindingContextTest {
         assertThatThrownBy(() -> builder.afterModelChangedHandler(null)).isInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    void testModelChanged_OnlyDependentBindingsAreUpdated() {
+        BindingContext context = new BindingContext();
+        DependsOnPmo pmo = new DependsOnPmo();
+        DependsOnPmo otherPmo = new DependsOnPmo();
+        UndeclaredPmo undeclaredPmo = new UndeclaredPmo();
+        TestUiComponent button = bindClick(context, pmo, "action");
+        Collection<TestUiComponent> components = new ArrayList<>();
+        components.add(bindEnabled(context, pmo, "dependent"));
+        components.add(bindEnabled(context, pmo, "independent"));
+        components.add(bindEnabled(context, pmo, "classLevel"));
+        components.add(bindEnabled(context, otherPmo, "dependent"));
+        components.add(bindEnabled(context, undeclaredPmo, "undeclared"));
+        pmo.getUpdates().clear();
+        otherPmo.getUpdates().clear();
+        undeclaredPmo.getUpdates().clear();
+
+        button.click();
+
+        assertThat(pmo.getUpdates()).containsExactlyInAnyOrder("dependent", "classLevel");
+        assertThat(otherPmo.getUpdates()).isEmpty();
+        assertThat(undeclaredPmo.getUpdates()).containsExactly("undeclared");
+        assertThat(components).hasSize(5);
+    }
+
+    @Test
+    void testModelChanged_AllBindingsAreUpdatedWithoutRecordedChange() {
+        BindingContext context = new BindingContext();
+        DependsOnPmo pmo = new DependsOnPmo();
+        TestUiComponent button = bindClick(context, pmo, "action");
+        TestUiComponent dependent = bindEnabled(context, pmo, "dependent");
+        TestUiComponent independent = bindEnabled(context, pmo, "independent");
+        button.click();
+        pmo.getUpdates().clear();
+
+        context.modelChanged();
+
+        assertThat(pmo.getUpdates()).containsExactlyInAnyOrder("dependent", "independent");
+        assertThat(dependent).isNotSameAs(independent);
+    }
+
+    @Test
+    void testModelChanged_ChangesAreSharedWithContainerBindings() {
+        BindingContext context = new BindingContext();
+        DependsOnPmo pmo = new DependsOnPmo();
+        TestUiLayoutComponent layout = new TestUiLayoutComponent();
+        ContainerBinding containerBinding = context.bindContainer(pmo, new BindingDescriptor(BoundProperty.empty()),
+                                                                  new TestComponentWrapper(layout));
+        TestUiComponent button = bindClick(containerBinding, pmo, "action");
+        TestUiComponent dependent = bindEnabled(context, pmo, "dependent");
+        TestUiComponent independent = bindEnabled(containerBinding, pmo, "independent");
+        pmo.getUpdates().clear();
+
+        button.click();
+
+        assertThat(pmo.getUpdates()).containsExactly("dependent");
+        assertThat(dependent).isNotSameAs(independent);
+    }
+
+    @Test
+    void testModelChanged_ContainerBindingWithOwnChanges() {
+        BindingContext context = new BindingContext();
+        DependsOnPmo pmo = new DependsOnPmo();
+        TestUiLayoutComponent layout = new TestUiLayoutComponent();
+        ContainerBinding containerBinding = new ContainerBinding(createBinding(context, new TestPmo(), layout),
+                PropertyBehaviorProvider.NO_BEHAVIOR_PROVIDER, new PropertyDispatcherFactory(), context::modelChanged);
+        context.add(containerBinding, new TestComponentWrapper(layout));
+        TestUiComponent button = bindClick(containerBinding, pmo, "action");
+        bindEnabled(containerBinding, pmo, "independent");
+        pmo.getUpdates().clear();
+        button.click();
+        assertThat(pmo.getUpdates()).isEmpty();
+
+        context.modelChanged();
+
+        assertThat(pmo.getUpdates())
+                .as("The changes recorded by the container must not filter later updates")
+                .containsExactly("independent");
+    }
+
+    private TestUiComponent bindClick(BindingContext context, Object pmo, String property) {
+        TestUiComponent component = new TestUiComponent();
+        context.bind(pmo, new BindingDescriptor(BoundProperty.of(property), new TestComponentClickAspectDefinition()),
+                     new TestComponentWrapper(component));
+        return component;
+    }
+
+    private TestUiComponent bindEnabled(BindingContext context, Object pmo, String property) {
+        TestUiComponent component = new TestUiComponent();
+        context.bind(pmo, new BindingDescriptor(BoundProperty.of(property),
+                new EnabledAspectDefinition(EnabledType.DYNAMIC)),
+                     new TestComponentWrapper(component));
+        return component;
+    }
+
     private WeakReference<TestUiComponent> setupBindingForWeakRefTest(BindingContext context,
             ReferenceQueue<TestUiComponent> referenceQueue) {
         TestButtonPmo buttonPmo = new TestButtonPmo();
@@ -499,4 +621,59 @@ class BindingContextTest {
         }
     }
 
+    @DependsOn
+    public static class DependsOnPmo {
+
+        private final List<String> updates = new ArrayList<>();
+
+        public List<String> getUpdates() {
+            return updates;
+        }
+
+        public void actionOnClick() {
+            // does nothing
+        }
+
+        @DependsOn("action")
+        public void dependent() {
+            // does nothing
+        }
+
+        public boolean isDependentEnabled() {
+            updates.add("dependent");
+            return true;
+        }
+
+        @DependsOn("action2")
+        public void independent() {
+            // does nothing
+        }
+
+        public boolean isIndependentEnabled() {
+            updates.add("independent");
+            return true;
+        }
+
+        public boolean isClassLevelEnabled() {
+            updates.add("classLevel");
+            return true;
+        }
+
+    }
+
+    public static class UndeclaredPmo {
+
+        private final List<String> updates = new ArrayList<>();
+
+        public List<String> getUpdates() {
+            return updates;
+        }
+
+        public boolean isUndeclaredEnabled() {
+            updates.add("undeclared");
+            return true;
+        }
+
+    }
+
 }
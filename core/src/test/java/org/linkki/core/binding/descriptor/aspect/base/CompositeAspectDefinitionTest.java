@@ -14,8 +14,12 @@
 
 package org.linkki.core.binding.descriptor.aspect.base;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,6 +32,7 @@ import org.linkki.core.binding.dispatcher.PropertyDispatcher;
 import org.linkki.core.binding.wrapper.ComponentWrapper;
 import org.linkki.core.binding.wrapper.WrapperType;
 import org.linkki.util.handler.Handler;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -88,6 +93,29 @@ public class CompositeAspectDefinitionTest {
         verify(aspect3).createUiUpdater(propertyDispatcher, componentWrapper);
     }
 
+    @Test
+    public void testCreateUiUpdater_AppliesUiUpdatersInOrder() {
+        CompositeAspectDefinition composite = new CompositeAspectDefinition(aspect3, aspect2NotSupported, aspect1);
+
+        composite.createUiUpdater(propertyDispatcher, componentWrapper).apply();
+
+        InOrder inOrder = inOrder(updater1, updater3);
+        inOrder.verify(updater3).apply();
+        inOrder.verify(updater1).apply();
+    }
+
+    @Test
+    public void testCreateUiUpdater_LeavesOutNopHandlers() {
+        when(aspect3.createUiUpdater(propertyDispatcher, componentWrapper)).thenReturn(Handler.NOP_HANDLER);
+
+        assertThat(new CompositeAspectDefinition(aspect1, aspect3).createUiUpdater(propertyDispatcher,
+                                                                                   componentWrapper),
+                   is(sameInstance(updater1)));
+        assertThat(new CompositeAspectDefinition(aspect2NotSupported, aspect3).createUiUpdater(propertyDispatcher,
+                                                                                               componentWrapper),
+                   is(sameInstance(Handler.NOP_HANDLER)));
+    }
+
     @Test
     public void testInitModelUpdate() {
         CompositeAspectDefinition composite = new CompositeAspectDefinition(aspect1, aspect2NotSupported, aspect3);
@@ -15,6 +15,7 @@ package org.linkki.core.binding.dispatcher;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
@@ -26,6 +27,7 @@ import org.linkki.core.binding.TestModelObject;
 import org.linkki.core.binding.TestPmo;
 import org.linkki.core.binding.descriptor.aspect.Aspect;
 import org.linkki.core.binding.descriptor.property.BoundProperty;
+import org.linkki.core.binding.dispatcher.behavior.CachingPropertyBehaviorProvider;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
 import org.linkki.core.pmo.ModelObject;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -172,6 +174,29 @@ class PropertyDispatcherFactoryTest {
                                        PropertyBehaviorProvider.NO_BEHAVIOR_PROVIDER));
     }
 
+    @Test
+    void testCreateDispatcherChain_CustomDispatchersWithBehaviorProvider() {
+        var behaviorProvider = new CachingPropertyBehaviorProvider(PropertyBehaviorProvider.NO_BEHAVIOR_PROVIDER);
+        var customDispatcherProvider = new PropertyBehaviorProvider[1];
+        propertyDispatcherFactory = new PropertyDispatcherFactory() {
+            @Override
+            protected PropertyDispatcher createCustomDispatchers(@SuppressWarnings("hiding") Object pmo,
+                    BoundProperty boundProperty,
+                    PropertyDispatcher standardDispatchers,
+                    PropertyBehaviorProvider provider) {
+                customDispatcherProvider[0] = provider;
+                return super.createCustomDispatchers(pmo, boundProperty, standardDispatchers, provider);
+            }
+        };
+
+        PropertyDispatcher dispatcher = propertyDispatcherFactory
+                .createDispatcherChain(pmo, BoundProperty.of("value").withModelAttribute("foo"), behaviorProvider);
+        pmo.setValue(ANY_VALUE);
+
+        assertThat(customDispatcherProvider[0], is(sameInstance(behaviorProvider)));
+        assertThat(dispatcher.pull(Aspect.of("")), is(ANY_VALUE));
+    }
+
     private static class PmoWithModelObjectField {
 
         @ModelObject
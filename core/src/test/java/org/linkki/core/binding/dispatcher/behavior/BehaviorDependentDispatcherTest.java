@@ -17,6 +17,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.linkki.core.matcher.MessageMatchers.emptyMessageList;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -116,6 +119,19 @@ public class BehaviorDependentDispatcherTest {
         assertThat(behaviorDispatcher.getMessages(messageList), is(emptyMessageList()));
     }
 
+    @Test
+    public void testGetMessages_BehaviorsNotAskedWithoutMessages() {
+        behaviorDispatcher = new BehaviorDependentDispatcher(wrappedDispatcher,
+                PropertyBehaviorProvider.with(PropertyBehavior.showValidationMessages(() -> {
+                    throw new AssertionError("must not be asked without messages");
+                })));
+
+        MessageList messageList = new MessageList(Message.builder("Foo", Severity.ERROR)
+                .invalidObject(new ObjectProperty(new Object(), "prop")).code("4711").create());
+
+        assertThat(behaviorDispatcher.getMessages(messageList), is(emptyMessageList()));
+    }
+
     @Test
     public void testIsPushable_IgnoreOtherAspect() {
         behaviorDispatcher = new BehaviorDependentDispatcher(new TestPropertyDispatcher(),
@@ -136,6 +152,72 @@ public class BehaviorDependentDispatcherTest {
         assertThat(pushable, is(false));
     }
 
+    @Test
+    public void testCachingProvider_EvaluatedOncePerCycle() {
+        var visible = new AtomicBoolean(true);
+        var evaluations = new AtomicInteger();
+        var provider = new CachingPropertyBehaviorProvider(PropertyBehaviorProvider
+                .with(PropertyBehavior.visible(() -> {
+                    evaluations.incrementAndGet();
+                    return visible.get();
+                })));
+        behaviorDispatcher = new BehaviorDependentDispatcher(wrappedDispatcher, provider);
+
+        assertThat(behaviorDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME)), is(true));
+        visible.set(false);
+        assertThat(behaviorDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME)), is(true));
+        assertThat(evaluations.get(), is(1));
+
+        provider.startCycle();
+
+        assertThat(behaviorDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME)), is(false));
+        assertThat(evaluations.get(), is(2));
+    }
+
+    @Test
+    public void testCachingProvider_AspectsCachedSeparately() {
+        var provider = new CachingPropertyBehaviorProvider(PropertyBehaviorProvider
+                .with(PropertyBehavior.readOnly()));
+        behaviorDispatcher = new BehaviorDependentDispatcher(wrappedDispatcher, provider);
+
+        assertThat(behaviorDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME)), is(true));
+        assertThat(behaviorDispatcher.isPushable(Aspect.of("")), is(false));
+    }
+
+    @Test
+    public void testCachingProvider_BoundObjectChanged() {
+        var evaluations = new AtomicInteger();
+        var provider = new CachingPropertyBehaviorProvider(PropertyBehaviorProvider
+                .staticWith(new PropertyBehavior() {
+                    @Override
+                    public boolean isVisible(Object boundObject, String property) {
+                        evaluations.incrementAndGet();
+                        return true;
+                    }
+                }));
+        behaviorDispatcher = new BehaviorDependentDispatcher(wrappedDispatcher, provider);
+
+        behaviorDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME));
+        wrappedDispatcher.setBoundObject(new Object());
+        behaviorDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME));
+
+        assertThat(evaluations.get(), is(2));
+    }
+
+    @Test
+    public void testCachingProvider_StaticProviderCachedOverCycles() {
+        var evaluations = new AtomicInteger();
+        var provider = new CachingPropertyBehaviorProvider(PropertyBehaviorProvider
+                .staticWith(PropertyBehavior.visible(() -> evaluations.incrementAndGet() < 0)));
+        behaviorDispatcher = new BehaviorDependentDispatcher(wrappedDispatcher, provider);
+
+        assertThat(behaviorDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME)), is(false));
+        provider.startCycle();
+        assertThat(behaviorDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME)), is(false));
+
+        assertThat(evaluations.get(), is(1));
+    }
+
     private static class TestPropertyDispatcher extends AbstractPropertyDispatcherDecorator {
 
         @CheckForNull
@@ -16,6 +16,7 @@ package org.linkki.core.binding.dispatcher.behavior;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 
 import org.junit.jupiter.api.Test;
 
@@ -29,6 +30,15 @@ public class PropertyBehaviorProviderTest {
         PropertyBehaviorProvider propertyBehaviorProvider = PropertyBehaviorProvider.with(readOnly, invisible);
 
         assertThat(propertyBehaviorProvider.getBehaviors(), contains(readOnly, invisible));
+        assertThat(propertyBehaviorProvider.isStatic(), is(false));
+    }
+
+    @Test
+    public void testStaticWith() {
+        PropertyBehaviorProvider propertyBehaviorProvider = PropertyBehaviorProvider.staticWith(readOnly, invisible);
+
+        assertThat(propertyBehaviorProvider.getBehaviors(), contains(readOnly, invisible));
+        assertThat(propertyBehaviorProvider.isStatic(), is(true));
     }
 
     @Test
@@ -16,10 +16,12 @@ package org.linkki.core.binding.dispatcher.staticvalue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -34,6 +36,8 @@ import org.linkki.core.defaults.section.annotations.TestUIField;
 import org.linkki.core.defaults.ui.aspects.EnabledAspectDefinition;
 import org.linkki.core.defaults.ui.aspects.types.EnabledType;
 import org.linkki.core.uicreation.ComponentAnnotationReader;
+import org.linkki.core.uiframework.TestUiFramework;
+import org.linkki.core.uiframework.UiFramework;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -90,6 +94,28 @@ public class StaticValueDispatcherTest {
         verify(fallbackDispatcher).pull(dynamicAspect);
     }
 
+    @Test
+    public void testPull_Translated() {
+        Locale defaultLocale = UiFramework.getLocale();
+        try {
+            TestUiFramework.get().setUiLocale(Locale.ENGLISH);
+            when(fallbackDispatcher.getBoundObject()).thenReturn(StaticValueNlsServiceTest.class);
+            when(fallbackDispatcher.getProperty()).thenReturn("test");
+            var staticValueDispatcher = new StaticValueDispatcher(fallbackDispatcher);
+            Aspect<String> label = Aspect.of("", "foo");
+
+            assertThat(staticValueDispatcher.pull(label), is("no aspect"));
+            assertThat(staticValueDispatcher.pull(label), is("no aspect"));
+            verify(fallbackDispatcher, times(1)).getProperty();
+
+            TestUiFramework.get().setUiLocale(Locale.GERMAN);
+            assertThat(staticValueDispatcher.pull(label), is("Kein Aspekt"));
+            verify(fallbackDispatcher, times(2)).getProperty();
+        } finally {
+            TestUiFramework.get().setUiLocale(defaultLocale);
+        }
+    }
+
     private <T> T pull(String property, Aspect<T> aspect) {
         @NonNull
         StaticValueDispatcher staticValueDispatcher = staticValueDispatchers.get(property);
@@ -0,0 +1,111 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.binding.instrumentation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.Binding;
+import org.linkki.core.binding.BindingContext;
+import org.linkki.core.binding.TestPmo;
+import org.linkki.core.binding.descriptor.aspect.Aspect;
+import org.linkki.core.binding.dispatcher.PropertyDispatcher;
+import org.linkki.core.binding.manager.BindingManager;
+import org.linkki.core.binding.manager.DefaultBindingManager;
+import org.linkki.core.defaults.ui.aspects.EnabledAspectDefinition;
+import org.linkki.core.defaults.ui.aspects.VisibleAspectDefinition;
+
+class AggregatingBindingInstrumentationTest {
+
+    @Test
+    void testEvents() {
+        var instrumentation = new AggregatingBindingInstrumentation();
+        BindingManager bindingManager = new DefaultBindingManager();
+
+        instrumentation.bindingContextUpdated(new BindingContext(), 1_000);
+        instrumentation.bindingUpdated(mock(Binding.class), 200);
+        instrumentation.bindingUpdated(mock(Binding.class), 300);
+        instrumentation.validated(bindingManager, 400);
+        instrumentation.messagesDisplayed(bindingManager, 500);
+
+        assertThat(instrumentation.getBindingContextUpdates().getTotalNanos(), is(1_000L));
+        assertThat(instrumentation.getBindingUpdates().getCount(), is(2L));
+        assertThat(instrumentation.getBindingUpdates().getTotalNanos(), is(500L));
+        assertThat(instrumentation.getValidations().getTotalNanos(), is(400L));
+        assertThat(instrumentation.getMessageDisplays().getTotalNanos(), is(500L));
+    }
+
+    @Test
+    void testAspectPulled() {
+        var instrumentation = new AggregatingBindingInstrumentation();
+        PropertyDispatcher dispatcher = mockDispatcher(new TestPmo(), TestPmo.PROPERTY_VALUE);
+
+        instrumentation.aspectPulled(dispatcher, Aspect.of(EnabledAspectDefinition.NAME), 100);
+        instrumentation.aspectPulled(dispatcher, Aspect.of(EnabledAspectDefinition.NAME), 300);
+        instrumentation.aspectPulled(dispatcher, Aspect.of(VisibleAspectDefinition.NAME), 50);
+
+        assertThat(instrumentation.getAspectPulls().getCount(), is(3L));
+        var slowestAspect = instrumentation.getSlowestAspects(1).get(0);
+        assertThat(slowestAspect.boundObjectClass(), is(TestPmo.class));
+        assertThat(slowestAspect.property(), is(TestPmo.PROPERTY_VALUE));
+        assertThat(slowestAspect.aspectName(), is(EnabledAspectDefinition.NAME));
+        assertThat(slowestAspect.durations().getCount(), is(2L));
+        assertThat(slowestAspect.durations().getMaxNanos(), is(300L));
+    }
+
+    @Test
+    void testGetSlowestAspects() {
+        var instrumentation = new AggregatingBindingInstrumentation();
+        PropertyDispatcher valueDispatcher = mockDispatcher(new TestPmo(), TestPmo.PROPERTY_VALUE);
+        PropertyDispatcher enumDispatcher = mockDispatcher(new TestPmo(), TestPmo.PROPERTY_ENUM_VALUE);
+        PropertyDispatcher nullDispatcher = mockDispatcher(null, "foo");
+
+        instrumentation.aspectPulled(valueDispatcher, Aspect.of(VisibleAspectDefinition.NAME), 200);
+        instrumentation.aspectPulled(enumDispatcher, Aspect.of(VisibleAspectDefinition.NAME), 5_000);
+        instrumentation.aspectPulled(nullDispatcher, Aspect.of(VisibleAspectDefinition.NAME), 1_000);
+
+        assertThat(instrumentation.getSlowestAspects(2).stream()
+                .map(AggregatingBindingInstrumentation.AspectStatistics::property)
+                .toList(), contains(TestPmo.PROPERTY_ENUM_VALUE, "foo"));
+        assertThat(instrumentation.getSlowestAspects(5).size(), is(3));
+    }
+
+    @Test
+    void testReset() {
+        var instrumentation = new AggregatingBindingInstrumentation();
+        instrumentation.bindingUpdated(mock(Binding.class), 200);
+        instrumentation.aspectPulled(mockDispatcher(new TestPmo(), TestPmo.PROPERTY_VALUE),
+                                     Aspect.of(VisibleAspectDefinition.NAME), 100);
+
+        instrumentation.reset();
+
+        assertThat(instrumentation.getBindingUpdates().getCount(), is(0L));
+        assertThat(instrumentation.getAspectPulls().getCount(), is(0L));
+        assertThat(instrumentation.getSlowestAspects(10), is(empty()));
+    }
+
+    private static PropertyDispatcher mockDispatcher(Object boundObject, String property) {
+        PropertyDispatcher dispatcher = mock(PropertyDispatcher.class);
+        when(dispatcher.getBoundObject()).thenReturn(boundObject);
+        when(dispatcher.getProperty()).thenReturn(property);
+        return dispatcher;
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.binding.instrumentation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.BindingContext;
+import org.linkki.core.binding.ElementBinding;
+import org.linkki.core.binding.TestPmo;
+import org.linkki.core.binding.descriptor.BindingDescriptor;
+import org.linkki.core.binding.descriptor.aspect.Aspect;
+import org.linkki.core.binding.descriptor.property.BoundProperty;
+import org.linkki.core.binding.dispatcher.PropertyDispatcher;
+import org.linkki.core.binding.dispatcher.PropertyDispatcherFactory;
+import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
+import org.linkki.core.binding.dispatcher.fallback.ExceptionPropertyDispatcher;
+import org.linkki.core.defaults.nls.TestComponentWrapper;
+import org.linkki.core.defaults.nls.TestUiComponent;
+import org.linkki.core.defaults.ui.aspects.EnabledAspectDefinition;
+import org.linkki.core.defaults.ui.aspects.types.EnabledType;
+
+class BindingInstrumentationTest {
+
+    private final BindingDescriptor enabledBindingDescriptor = new BindingDescriptor(
+            BoundProperty.of(TestPmo.PROPERTY_VALUE), new EnabledAspectDefinition(EnabledType.DYNAMIC));
+
+    @Test
+    void testGet_NotRegistered() {
+        assertThat(BindingInstrumentation.get(), is(instanceOf(NoOpBindingInstrumentation.class)));
+    }
+
+    @Test
+    void testNoOpBindingInstrumentation_Disabled() {
+        assertThat(new NoOpBindingInstrumentation().isEnabled(), is(false));
+    }
+
+    @Test
+    void testInstrument_NoOp() {
+        var dispatcher = new ExceptionPropertyDispatcher(TestPmo.PROPERTY_VALUE);
+
+        assertThat(InstrumentingPropertyDispatcher.instrument(dispatcher, new NoOpBindingInstrumentation()),
+                   is(sameInstance(dispatcher)));
+    }
+
+    @Test
+    void testInstrument_NotRegistered() {
+        var dispatcher = new ExceptionPropertyDispatcher(TestPmo.PROPERTY_VALUE);
+
+        assertThat(InstrumentingPropertyDispatcher.instrument(dispatcher), is(sameInstance(dispatcher)));
+    }
+
+    @Test
+    void testBind_NotInstrumentedWithoutRegistration() {
+        var bindingContext = new BindingContext();
+
+        var binding = (ElementBinding)bindingContext.bind(new TestPmo(), enabledBindingDescriptor,
+                                                          new TestComponentWrapper(new TestUiComponent()));
+
+        assertThat(binding.getPropertyDispatcher(), is(not(instanceOf(InstrumentingPropertyDispatcher.class))));
+    }
+
+    @Test
+    void testPull() {
+        var instrumentation = new AggregatingBindingInstrumentation();
+        var dispatcher = createInstrumentedDispatcher(instrumentation);
+
+        dispatcher.pull(Aspect.of(EnabledAspectDefinition.NAME));
+
+        assertThat(dispatcher, is(instanceOf(InstrumentingPropertyDispatcher.class)));
+        assertThat(instrumentation.getAspectPulls().getCount(), is(1L));
+        var aspect = instrumentation.getSlowestAspects(1).get(0);
+        assertThat(aspect.boundObjectClass(), is(TestPmo.class));
+        assertThat(aspect.property(), is(TestPmo.PROPERTY_VALUE));
+        assertThat(aspect.aspectName(), is(EnabledAspectDefinition.NAME));
+        assertThat(instrumentation.getAspectPulls().getTotalNanos(), is(greaterThan(0L)));
+    }
+
+    @Test
+    void testPull_Disabled() {
+        var instrumentation = new AggregatingBindingInstrumentation() {
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+        };
+        var dispatcher = createInstrumentedDispatcher(instrumentation);
+
+        dispatcher.pull(Aspect.of(EnabledAspectDefinition.NAME));
+
+        assertThat(instrumentation.getAspectPulls().getCount(), is(0L));
+    }
+
+    private static PropertyDispatcher createInstrumentedDispatcher(BindingInstrumentation instrumentation) {
+        var dispatcher = new PropertyDispatcherFactory()
+                .createDispatcherChain(new TestPmo(), BoundProperty.of(TestPmo.PROPERTY_VALUE),
+                                       PropertyBehaviorProvider.NO_BEHAVIOR_PROVIDER);
+        return InstrumentingPropertyDispatcher.instrument(dispatcher, instrumentation);
+    }
+
+}
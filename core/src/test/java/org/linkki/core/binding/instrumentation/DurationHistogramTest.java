@@ -0,0 +1,89 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.binding.instrumentation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class DurationHistogramTest {
+
+    @Test
+    void testRecord() {
+        var histogram = new DurationHistogram();
+
+        histogram.record(100);
+        histogram.record(300);
+        histogram.record(-5);
+
+        assertThat(histogram.getCount(), is(3L));
+        assertThat(histogram.getTotalNanos(), is(400L));
+        assertThat(histogram.getMaxNanos(), is(300L));
+        assertThat(histogram.getMeanNanos(), is(133L));
+    }
+
+    @Test
+    void testGetPercentileNanos() {
+        var histogram = new DurationHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(5_000);
+
+        assertThat(histogram.getPercentileNanos(50), is(127L));
+        assertThat(histogram.getPercentileNanos(99), is(127L));
+        assertThat(histogram.getPercentileNanos(100), is(5_000L));
+        assertThat(histogram.getPercentileNanos(0), is(127L));
+    }
+
+    @Test
+    void testGetPercentileNanos_Empty() {
+        assertThat(new DurationHistogram().getPercentileNanos(99), is(0L));
+    }
+
+    @Test
+    void testGetPercentileNanos_Invalid() {
+        var histogram = new DurationHistogram();
+
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(101));
+    }
+
+    @Test
+    void testBucketOf() {
+        assertThat(DurationHistogram.bucketOf(0), is(0));
+        assertThat(DurationHistogram.bucketOf(1), is(1));
+        assertThat(DurationHistogram.bucketOf(2), is(2));
+        assertThat(DurationHistogram.bucketOf(3), is(2));
+        assertThat(DurationHistogram.bucketOf(4), is(3));
+        assertThat(DurationHistogram.bucketOf(Long.MAX_VALUE), is(63));
+    }
+
+    @Test
+    void testReset() {
+        var histogram = new DurationHistogram();
+        histogram.record(100);
+
+        histogram.reset();
+
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getTotalNanos(), is(0L));
+        assertThat(histogram.getMaxNanos(), is(0L));
+        assertThat(histogram.getPercentileNanos(50), is(0L));
+    }
+
+}
@@ -19,14 +19,19 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.linkki.core.binding.Binding;
 import org.linkki.core.binding.BindingContext;
 import org.linkki.core.binding.BindingContext.BindingContextBuilder;
 import org.linkki.core.binding.dispatcher.PropertyDispatcherFactory;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
+import org.linkki.core.binding.validation.AsyncValidation;
 import org.linkki.core.binding.validation.ValidationDisplayState;
 import org.linkki.core.binding.validation.ValidationService;
+import org.linkki.core.binding.validation.message.IndexedMessageList;
 import org.linkki.core.binding.validation.message.Message;
 import org.linkki.core.binding.validation.message.MessageList;
 import org.linkki.core.binding.validation.message.Severity;
@@ -59,6 +64,41 @@ class BindingManagerTest {
         assertThat(context.messages).isEqualTo(sortedMessageList);
     }
 
+    @Test
+    void testUpdateMessages_SameIndexedMessageListForAllContexts() {
+        MessageList messages = new MessageList(Message.newError("e1", "E1"));
+        TestBindingManager bindingManager = new TestBindingManager(() -> messages);
+        TestBindingContext context1 = bindingManager.getContext("foo");
+        TestBindingContext context2 = bindingManager.getContext("bar");
+
+        bindingManager.updateMessages(messages);
+
+        assertThat(context1.messages).isInstanceOf(IndexedMessageList.class)
+                .isEqualTo(messages)
+                .isSameAs(context2.messages);
+    }
+
+    @Test
+    void testAfterUpdateUi_AsyncValidation() {
+        MessageList messages = new MessageList(Message.newWarning("w1", "W1"), Message.newError("e1", "E1"));
+        TestBindingManager bindingManager = new TestBindingManager(() -> messages);
+        TestBindingContext context = bindingManager.getContext("foo");
+        List<Runnable> backgroundTasks = new ArrayList<>();
+        List<Runnable> uiTasks = new ArrayList<>();
+        bindingManager.setAsyncValidation(new AsyncValidation(backgroundTasks::add, uiTasks::add));
+
+        bindingManager.afterUpdateUi();
+
+        assertThat(context.messages).isNull();
+
+        backgroundTasks.forEach(Runnable::run);
+        assertThat(context.messages).isNull();
+
+        uiTasks.forEach(Runnable::run);
+        assertThat(context.messages).isEqualTo(new MessageList(Message.newError("e1", "E1"),
+                Message.newWarning("w1", "W1")));
+    }
+
     @Test
     void testAfterUpdateUi_filtersMessages() {
         Message e1 = Message.newError("e1", "E1");
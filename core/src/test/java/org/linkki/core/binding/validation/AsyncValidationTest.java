@@ -0,0 +1,155 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.binding.validation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.validation.message.Message;
+import org.linkki.core.binding.validation.message.MessageList;
+
+class AsyncValidationTest {
+
+    private final Deque<Runnable> backgroundTasks = new ArrayDeque<>();
+    private final Deque<Runnable> uiTasks = new ArrayDeque<>();
+    private final List<MessageList> results = new ArrayList<>();
+
+    private final AsyncValidation asyncValidation = new AsyncValidation(backgroundTasks::add, uiTasks::add);
+
+    @Test
+    void testValidate() {
+        MessageList messages = messages("m1");
+
+        asyncValidation.validate(() -> messages, results::add);
+
+        assertThat(results, is(empty()));
+        runAll(backgroundTasks);
+        assertThat(results, is(empty()));
+        runAll(uiTasks);
+        assertThat(results, contains(messages));
+    }
+
+    @Test
+    void testValidate_CoalescesRequestsWhileRunning() {
+        List<String> validations = new ArrayList<>();
+        asyncValidation.validate(() -> validate(validations, "m1"), results::add);
+        asyncValidation.validate(() -> validate(validations, "m2"), results::add);
+        asyncValidation.validate(() -> validate(validations, "m3"), results::add);
+
+        assertThat(backgroundTasks, hasSize(1));
+        runAll(backgroundTasks);
+        runAll(uiTasks);
+
+        assertThat(validations, contains("m1", "m3"));
+        assertThat(results, contains(messages("m3")));
+    }
+
+    @Test
+    void testValidate_DiscardsStaleResult() {
+        asyncValidation.validate(() -> messages("m1"), results::add);
+        runAll(backgroundTasks);
+
+        asyncValidation.validate(() -> messages("m2"), results::add);
+        runAll(uiTasks);
+        assertThat(results, is(empty()));
+
+        runAll(backgroundTasks);
+        runAll(uiTasks);
+        assertThat(results, contains(messages("m2")));
+    }
+
+    @Test
+    void testValidate_ExceptionIsThrownInUi() {
+        asyncValidation.validate(() -> {
+            throw new IllegalStateException("validation failed");
+        }, results::add);
+        runAll(backgroundTasks);
+
+        assertThrows(IllegalStateException.class, () -> runAll(uiTasks));
+
+        asyncValidation.validate(() -> messages("m1"), results::add);
+        runAll(backgroundTasks);
+        runAll(uiTasks);
+        assertThat(results, contains(messages("m1")));
+    }
+
+    @Test
+    void testValidate_ErrorIsThrownInUi() {
+        asyncValidation.validate(() -> {
+            throw new AssertionError("validation failed");
+        }, results::add);
+        runAll(backgroundTasks);
+
+        assertThrows(AssertionError.class, () -> runAll(uiTasks));
+
+        asyncValidation.validate(() -> messages("m1"), results::add);
+        assertThat(backgroundTasks, hasSize(1));
+        runAll(backgroundTasks);
+        runAll(uiTasks);
+        assertThat(results, contains(messages("m1")));
+    }
+
+    @Test
+    void testValidate_ErrorWhileRequestIsPending() {
+        asyncValidation.validate(() -> {
+            throw new StackOverflowError();
+        }, results::add);
+        asyncValidation.validate(() -> messages("m2"), results::add);
+
+        runAll(backgroundTasks);
+        runAll(uiTasks);
+
+        assertThat(results, contains(messages("m2")));
+    }
+
+    @Test
+    void testValidate_ExecutorRejects() {
+        AsyncValidation rejectingValidation = new AsyncValidation(command -> {
+            throw new RejectedExecutionException();
+        }, uiTasks::add);
+
+        assertThrows(RejectedExecutionException.class,
+                     () -> rejectingValidation.validate(() -> messages("m1"), results::add));
+        assertThrows(RejectedExecutionException.class,
+                     () -> rejectingValidation.validate(() -> messages("m2"), results::add));
+    }
+
+    private static MessageList validate(List<String> validations, String code) {
+        validations.add(code);
+        return messages(code);
+    }
+
+    private static MessageList messages(String code) {
+        return new MessageList(Message.newError(code, code));
+    }
+
+    private static void runAll(Deque<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.binding.validation.message;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+class IndexedMessageListTest {
+
+    private Message msg1;
+    private Message msg2;
+    private Message msg3;
+    private Message msg4;
+
+    private MessageList messages;
+
+    @BeforeEach
+    void setUp() {
+        msg1 = Message.builder("Test1", Severity.INFO).invalidObject(new ObjectProperty("A", "property")).create();
+        msg2 = Message.builder("Test2", Severity.INFO)
+                .invalidObjects(new ObjectProperty("A", "other"), new ObjectProperty("B", "property"))
+                .create();
+        msg3 = Message.builder("Test3", Severity.INFO)
+                .invalidObjects(new ObjectProperty("A", "indexed", 1), new ObjectProperty("A", "indexed", 2))
+                .create();
+        msg4 = Message.builder("Test4", Severity.INFO).invalidObject(new ObjectProperty("A")).create();
+
+        messages = new MessageList(msg1, msg2, msg3, msg4);
+    }
+
+    @Test
+    void testGetMessagesFor_SameAsMessageList() {
+        IndexedMessageList indexedMessages = IndexedMessageList.of(messages);
+
+        for (String object : List.of("A", "B", "C")) {
+            for (String property : new String[] { null, "", "property", "other", "indexed", "unknown" }) {
+                for (int index = -1; index <= 3; index++) {
+                    assertThat(object + "#" + property + "[" + index + "]",
+                               indexedMessages.getMessagesFor(object, property, index),
+                               is(messages.getMessagesFor(object, property, index)));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testGetMessagesFor() {
+        IndexedMessageList indexedMessages = IndexedMessageList.of(messages);
+
+        assertThat(indexedMessages.getMessagesFor("A"), contains(msg1, msg2, msg3, msg4));
+        assertThat(indexedMessages.getMessagesFor("A", "property"), contains(msg1));
+        assertThat(indexedMessages.getMessagesFor("A", "indexed"), contains(msg3));
+        assertThat(indexedMessages.getMessagesFor("A", "indexed", 2), contains(msg3));
+        assertThat(indexedMessages.getMessagesFor("B", "property"), contains(msg2));
+        assertThat(indexedMessages.getMessagesFor("C").stream().toList(), is(empty()));
+    }
+
+    @Test
+    void testGetMessagesFor_IndexUpdatedAfterModification() {
+        IndexedMessageList indexedMessages = new IndexedMessageList(msg1);
+        assertThat(indexedMessages.getMessagesFor("B").stream().toList(), is(empty()));
+
+        indexedMessages.add(msg2);
+        assertThat(indexedMessages.getMessagesFor("B"), contains(msg2));
+
+        Iterator<Message> iterator = indexedMessages.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+        assertThat(indexedMessages.getMessagesFor("B").stream().toList(), is(empty()));
+
+        indexedMessages.clear();
+        assertThat(indexedMessages.getMessagesFor("A").stream().toList(), is(empty()));
+    }
+
+    @Test
+    void testGetMessagesFor_EqualsWithoutHashCode() {
+        var object = new EqualsWithoutHashCode("A");
+        var equalObject = new EqualsWithoutHashCode("A");
+        MessageList messageList = new MessageList(
+                Message.builder("Test1", Severity.INFO).invalidObject(new ObjectProperty(object, "property")).create(),
+                Message.builder("Test2", Severity.INFO).invalidObject(new ObjectProperty("B", "property")).create(),
+                Message.builder("Test3", Severity.INFO).invalidObject(new ObjectProperty(equalObject)).create());
+        IndexedMessageList indexedMessages = IndexedMessageList.of(messageList);
+
+        for (Object lookedUp : List.of(object, equalObject, new EqualsWithoutHashCode("A"),
+                                       new EqualsWithoutHashCode("B"), new Object())) {
+            for (String property : new String[] { null, "property", "unknown" }) {
+                assertThat(lookedUp + "#" + property,
+                           indexedMessages.getMessagesFor(lookedUp, property),
+                           is(messageList.getMessagesFor(lookedUp, property)));
+            }
+        }
+        assertThat(indexedMessages.getMessagesFor(new EqualsWithoutHashCode("A")).size(), is(2));
+    }
+
+    @Test
+    void testGetMessageByCode() {
+        Message withCode = Message.newError("code", "text");
+        Message sameCode = Message.newWarning("code", "other text");
+        IndexedMessageList indexedMessages = IndexedMessageList.of(messages);
+
+        assertThat(indexedMessages.getMessageByCode(null), is(messages.getMessageByCode(null)));
+        assertThat(indexedMessages.getMessageByCode("code"), is(Optional.empty()));
+
+        indexedMessages.add(withCode);
+        indexedMessages.add(sameCode);
+
+        assertThat(indexedMessages.getMessageByCode("code"), is(Optional.of(withCode)));
+    }
+
+    @Test
+    void testOf() {
+        IndexedMessageList indexedMessages = IndexedMessageList.of(messages);
+
+        assertThat(indexedMessages, is(messages));
+        assertThat(messages, is(indexedMessages));
+        assertThat(IndexedMessageList.of(indexedMessages), is(sameInstance(indexedMessages)));
+    }
+
+    /**
+     * Overrides {@link Object#equals(Object)} but not {@link Object#hashCode()}, which is enough for
+     * {@link MessageList#getMessagesFor(Object)}.
+     */
+    @SuppressFBWarnings(value = "HE_EQUALS_NO_HASHCODE", justification = "because we test this here")
+    private static class EqualsWithoutHashCode {
+
+        private final String id;
+
+        EqualsWithoutHashCode(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof EqualsWithoutHashCode other && id.equals(other.id);
+        }
+
+        @Override
+        public String toString() {
+            return "EqualsWithoutHashCode [" + id + "]";
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.defaults.nls;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.core.nls.NlsService;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+class CachedNlsServiceTest {
+
+    private static final String BUNDLE_NAME = "messages";
+
+    private final CachedNlsService service = CachedNlsService.getInstance();
+
+    @Test
+    void testGet() {
+        assertThat(NlsService.get(), is(sameInstance(service)));
+    }
+
+    @Test
+    void testGetString() {
+        assertThat(service.getString(BUNDLE_NAME, "Key1", Locale.GERMAN), is(Optional.of("Abbrechen")));
+        assertThat(service.getString(BUNDLE_NAME, "Key1", Locale.ENGLISH), is(Optional.of("Cancel")));
+        assertThat(service.getString(BUNDLE_NAME, "Key1", Locale.CHINESE), is(Optional.of("Cancel")));
+        assertThat(service.getString(BUNDLE_NAME, "Key1" + "Key2", Locale.GERMAN), is(Optional.empty()));
+        assertThat(service.getString(BUNDLE_NAME + "1", "Key1", Locale.GERMAN), is(Optional.empty()));
+    }
+
+    @Test
+    void testGetString_SameAsDefaultNlsService() {
+        var defaultNlsService = new DefaultNlsService();
+
+        for (Locale locale : List.of(Locale.GERMANY, Locale.ENGLISH, Locale.of("ru", "RU"), Locale.ROOT)) {
+            for (String key : List.of("Key1", "Key2", "Key3")) {
+                assertThat(service.getString(BUNDLE_NAME, key, locale),
+                           is(defaultNlsService.getString(BUNDLE_NAME, key, locale)));
+            }
+        }
+    }
+
+    @SuppressFBWarnings(value = "NP_NONNULL_PARAM_VIOLATION", justification = "because we test this here")
+    @Test
+    void testGetString_Null() {
+        assertThrows(NullPointerException.class, () -> service.getString(null, "Key1", Locale.GERMAN));
+        assertThrows(NullPointerException.class, () -> service.getString(BUNDLE_NAME, null, Locale.GERMAN));
+        assertThrows(NullPointerException.class, () -> service.getString(BUNDLE_NAME, "Key1", (Locale)null));
+    }
+
+    @Test
+    void testGetStrings_ReadOncePerLocale() {
+        var strings = service.getStrings(BUNDLE_NAME, Locale.GERMAN);
+
+        assertThat(service.getStrings(BUNDLE_NAME, Locale.GERMAN), is(sameInstance(strings)));
+        assertThat(service.getStrings(BUNDLE_NAME, Locale.ENGLISH), is(not(sameInstance(strings))));
+    }
+
+    @Test
+    void testGetStrings_SharedByLocalesOfSameBundle() {
+        var strings = service.getStrings(BUNDLE_NAME, Locale.GERMAN);
+
+        assertThat(service.getStrings(BUNDLE_NAME, Locale.GERMANY), is(sameInstance(strings)));
+        assertThat(service.getStrings(BUNDLE_NAME, Locale.of("de", "CH")), is(sameInstance(strings)));
+        assertThat(service.getStrings(BUNDLE_NAME, Locale.ENGLISH),
+                   is(sameInstance(service.getStrings(BUNDLE_NAME, Locale.UK))));
+    }
+
+    @Test
+    void testGetStrings_ManyLocales() {
+        var strings = service.getStrings(BUNDLE_NAME, Locale.GERMAN);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(service.getStrings(BUNDLE_NAME, Locale.of("de", "DE", "v" + i)), is(sameInstance(strings)));
+        }
+        assertThat(service.getStrings(BUNDLE_NAME, Locale.GERMAN), is(sameInstance(strings)));
+    }
+
+    @Test
+    void testPreload() {
+        service.reload();
+
+        service.preload(List.of(BUNDLE_NAME), List.of(Locale.GERMAN));
+
+        assertThat(service.getStrings(BUNDLE_NAME, Locale.GERMAN).get("Key1"), is("Abbrechen"));
+    }
+
+    @Test
+    void testReload() {
+        var strings = service.getStrings(BUNDLE_NAME, Locale.GERMAN);
+
+        service.reload();
+
+        assertThat(service.getStrings(BUNDLE_NAME, Locale.GERMAN), is(not(sameInstance(strings))));
+        assertThat(service.getStrings(BUNDLE_NAME, Locale.GERMAN), is(strings));
+    }
+
+}
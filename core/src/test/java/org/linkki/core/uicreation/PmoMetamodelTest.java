@@ -0,0 +1,156 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.uicreation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.TestModelObject;
+import org.linkki.core.binding.TestPmo;
+import org.linkki.core.defaults.section.TestSectionPmo;
+import org.linkki.core.defaults.section.annotations.TestUIField;
+import org.linkki.core.defaults.section.annotations.TestUIField2;
+
+class PmoMetamodelTest {
+
+    @Test
+    void testOf_SameInstanceForSameClass() {
+        assertThat(PmoMetamodel.of(TestSectionPmo.class), is(sameInstance(PmoMetamodel.of(TestSectionPmo.class))));
+        assertThat(PmoMetamodel.of(TestSectionPmo.class), is(not(sameInstance(PmoMetamodel.of(TestPmo.class)))));
+    }
+
+    @Test
+    void testGetComponentDefinitionMethods() {
+        var metamodel = PmoMetamodel.of(TestSectionPmo.class);
+
+        assertThat(metamodel.getComponentDefinitionMethods().map(Method::getName).toList(),
+                   contains("getValue", TestModelObject.PROPERTY_MODEL_PROP));
+    }
+
+    @Test
+    void testGetElementDefinition_ReusedForAllInstances() throws NoSuchMethodException {
+        var metamodel = PmoMetamodel.of(TestSectionPmo.class);
+        var method = TestSectionPmo.class.getMethod("getValue");
+
+        var elementDefinition = metamodel.getElementDefinition(method, new TestSectionPmo());
+
+        assertThat(metamodel.getElementDefinition(method, new TestSectionPmo()), is(sameInstance(elementDefinition)));
+        assertThat(elementDefinition.createBindingDescriptor().getBoundProperty().getPmoProperty(),
+                   is(TestPmo.PROPERTY_VALUE));
+        assertThat(elementDefinition.getLayoutDefinition().isPresent(), is(false));
+    }
+
+    @Test
+    void testCreateBindingDescriptor_NewAspectDefinitions() throws NoSuchMethodException {
+        var elementDefinition = PmoMetamodel.of(TestSectionPmo.class)
+                .getElementDefinition(TestSectionPmo.class.getMethod("getValue"), new TestSectionPmo());
+
+        var aspectDefinitions1 = elementDefinition.createBindingDescriptor().getAspectDefinitions();
+        var aspectDefinitions2 = elementDefinition.createBindingDescriptor().getAspectDefinitions();
+
+        assertThat(aspectDefinitions1, hasSize(aspectDefinitions2.size()));
+        assertThat(aspectDefinitions1, is(not(empty())));
+        for (int i = 0; i < aspectDefinitions1.size(); i++) {
+            assertThat(aspectDefinitions1.get(i), is(not(sameInstance(aspectDefinitions2.get(i)))));
+        }
+    }
+
+    @Test
+    void testCreateClassBindingDescriptor_NewAspectDefinitions() {
+        var metamodel = PmoMetamodel.of(TestSectionPmo.class);
+
+        var bindingDescriptor = metamodel.createClassBindingDescriptor();
+
+        assertThat(metamodel.createClassBindingDescriptor(), is(not(sameInstance(bindingDescriptor))));
+        assertThat(metamodel.createClassBindingDescriptor().getAspectDefinitions(),
+                   hasSize(bindingDescriptor.getAspectDefinitions().size()));
+    }
+
+    @Test
+    void testGetElementDefinition_DynamicField() throws NoSuchMethodException {
+        var metamodel = PmoMetamodel.of(DynamicFieldPmo.class);
+        var method = DynamicFieldPmo.class.getMethod("getDynamic");
+
+        var definition1 = metamodel.getElementDefinition(method, new DynamicFieldPmo(TestUIField.class));
+        var definition2 = metamodel.getElementDefinition(method, new DynamicFieldPmo(TestUIField2.class));
+
+        assertThat(definition1, is(not(sameInstance(definition2))));
+        assertThat(metamodel.getElementDefinition(method, new DynamicFieldPmo(TestUIField.class)),
+                   is(sameInstance(definition1)));
+        assertThat(definition1.createComponentDefinition().createComponent(new Object()),
+                   is(not(instanceOf(TestUIField2.TestUiComponent2.class))));
+        assertThat(definition2.createComponentDefinition().createComponent(new Object()),
+                   is(instanceOf(TestUIField2.TestUiComponent2.class)));
+    }
+
+    @Test
+    void testGetMethodDefinition() throws NoSuchMethodException {
+        var metamodel = PmoMetamodel.of(TestSectionPmo.class);
+        var method = TestSectionPmo.class.getMethod("getValue");
+
+        var methodDefinition = metamodel.getMethodDefinition(method);
+
+        assertThat(methodDefinition, is(sameInstance(metamodel.getMethodDefinition(method))));
+        assertThat(methodDefinition.getMethod(), is(method));
+        assertThat(methodDefinition.isDynamic(), is(false));
+        assertThat(methodDefinition.getElementDefinition(new TestSectionPmo()),
+                   is(sameInstance(metamodel.getElementDefinition(method, new TestSectionPmo()))));
+    }
+
+    @Test
+    void testGetMethodDefinition_DynamicField() throws NoSuchMethodException {
+        var methodDefinition = PmoMetamodel.of(DynamicFieldPmo.class)
+                .getMethodDefinition(DynamicFieldPmo.class.getMethod("getDynamic"));
+
+        assertThat(methodDefinition.isDynamic(), is(true));
+    }
+
+    @Test
+    void testGetClassDefinition_NoComponentDefinition() {
+        var metamodel = PmoMetamodel.of(TestPmo.class);
+
+        assertThrows(IllegalArgumentException.class, metamodel::getClassDefinition);
+    }
+
+    public static class DynamicFieldPmo {
+
+        private final Class<?> componentType;
+
+        public DynamicFieldPmo(Class<?> componentType) {
+            this.componentType = componentType;
+        }
+
+        @TestUIField(position = 10)
+        @TestUIField2(position = 10)
+        public String getDynamic() {
+            return "dyn";
+        }
+
+        public Class<?> getDynamicComponentType() {
+            return componentType;
+        }
+    }
+
+}
@@ -18,9 +18,11 @@ import static java.util.Objects.requireNonNull;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.FormatStyle;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A registry for date format patterns that changes some rather unsuitable default patterns provided
@@ -34,6 +36,9 @@ import java.util.Map;
  * <li>The {@link DateFormat#SHORT short date pattern} obtained from the JDK</li>
  * <li>The ISO date pattern</li>
  * </ul>
+ * <p>
+ * The {@link DateTimeFormatter DateTimeFormatters} for the patterns are immutable and cached per
+ * pattern and locale, so they can be shared by all converters and sessions.
  */
 public final class DateFormats {
 
@@ -44,8 +49,11 @@ public final class DateFormats {
     public static final String PATTERN_EN_US = "MM/dd/yyyy";
     public static final String PATTERN_EN_GB = "dd/MM/yyyy";
 
-    private static final Map<String, String> LANGUAGE_PATTERNS = new HashMap<>();
-    private static final Map<Locale, String> LOCALE_PATTERNS = new HashMap<>();
+    private static final Map<String, String> LANGUAGE_PATTERNS = new ConcurrentHashMap<>();
+    private static final Map<Locale, String> LOCALE_PATTERNS = new ConcurrentHashMap<>();
+
+    private static final Map<FormatterKey, DateTimeFormatter> DATE_FORMATTERS = new ConcurrentHashMap<>();
+    private static final Map<FormatterKey, DateTimeFormatter> DATE_TIME_FORMATTERS = new ConcurrentHashMap<>();
 
     static {
         LANGUAGE_PATTERNS.put(Locale.ENGLISH.getLanguage(), PATTERN_EN);
@@ -70,6 +78,7 @@ public final class DateFormats {
      */
     public static void register(String languageCode, String pattern) {
         LANGUAGE_PATTERNS.put(languageCode, pattern);
+        clearFormatters();
     }
 
     /**
@@ -82,6 +91,17 @@ public final class DateFormats {
      */
     public static void register(Locale locale, String pattern) {
         LOCALE_PATTERNS.put(locale, pattern);
+        clearFormatters();
+    }
+
+    /**
+     * Removes the formatters for patterns that may no longer be used. As the formatters are cached
+     * by their pattern, a formatter that is created concurrently for a replaced pattern is never
+     * returned for the new pattern.
+     */
+    private static void clearFormatters() {
+        DATE_FORMATTERS.clear();
+        DATE_TIME_FORMATTERS.clear();
     }
 
     /**
@@ -96,13 +116,45 @@ public final class DateFormats {
     public static String getPattern(Locale locale) {
         requireNonNull(locale, "locale must not be null");
 
-        if (LOCALE_PATTERNS.containsKey(locale)) {
-            return LOCALE_PATTERNS.get(locale);
-        } else if (LANGUAGE_PATTERNS.containsKey(locale.getLanguage())) {
-            return LANGUAGE_PATTERNS.get(locale.getLanguage());
-        } else {
-            return defaultLocalePattern(locale);
+        String localePattern = LOCALE_PATTERNS.get(locale);
+        if (localePattern != null) {
+            return localePattern;
+        }
+        String languagePattern = LANGUAGE_PATTERNS.get(locale.getLanguage());
+        if (languagePattern != null) {
+            return languagePattern;
         }
+        return defaultLocalePattern(locale);
+    }
+
+    /**
+     * Returns a {@link DateTimeFormatter} for the {@link #getPattern(Locale) date pattern} of the
+     * given locale. The formatter uses the given locale, for example for the names of months.
+     * 
+     * @since 2.11.0
+     */
+    public static DateTimeFormatter getFormatter(Locale locale) {
+        requireNonNull(locale, "locale must not be null");
+        return DATE_FORMATTERS.computeIfAbsent(new FormatterKey(getPattern(locale), locale),
+                                               k -> DateTimeFormatter.ofPattern(k.pattern(), k.locale()));
+    }
+
+    /**
+     * Returns a {@link DateTimeFormatter} for a date and a time. The date is formatted using the
+     * {@link #getPattern(Locale) date pattern} of the given locale, followed by the
+     * {@link FormatStyle#SHORT short} localized time.
+     * 
+     * @since 2.11.0
+     */
+    public static DateTimeFormatter getDateTimeFormatter(Locale locale) {
+        requireNonNull(locale, "locale must not be null");
+        return DATE_TIME_FORMATTERS.computeIfAbsent(new FormatterKey(getPattern(locale), locale),
+                                                    k -> new DateTimeFormatterBuilder()
+                                                            .append(DateTimeFormatter.ofPattern(k.pattern()))
+                                                            .appendLiteral(' ')
+                                                            .append(DateTimeFormatter
+                                                                    .ofLocalizedTime(FormatStyle.SHORT))
+                                                            .toFormatter(k.locale()));
     }
 
     private static String defaultLocalePattern(Locale locale) {
@@ -118,4 +170,8 @@ public final class DateFormats {
             return PATTERN_ISO;
         }
     }
+
+    private record FormatterKey(String pattern, Locale locale) {
+    }
+
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.linkki.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides {@link NumberFormat NumberFormats} for a pattern and a locale.
+ * <p>
+ * {@link NumberFormat NumberFormats} are not thread-safe. Instead of creating a new format for
+ * every use or sharing one instance between threads, a prototype is created once per pattern and
+ * locale. Every call returns a copy of this prototype, which is much cheaper than parsing the
+ * pattern and looking up the locale specific symbols again. The returned format is only used by
+ * the caller, so that the caller itself can be shared between threads and sessions.
+ * 
+ * @since 2.11.0
+ */
+public final class NumberFormats {
+
+    private static final Map<FormatKey, NumberFormat> PROTOTYPES = new ConcurrentHashMap<>();
+
+    private NumberFormats() {
+        // prevent instantiation
+    }
+
+    /**
+     * Returns a new {@link NumberFormat} for the given pattern and locale.
+     * <p>
+     * If the pattern is empty, the {@link NumberFormat#getIntegerInstance(Locale) integer format} of
+     * the locale is returned. Otherwise a {@link DecimalFormat} with the pattern and the
+     * {@link DecimalFormatSymbols} of the locale is returned that
+     * {@link DecimalFormat#setParseBigDecimal(boolean) parses BigDecimals}.
+     * 
+     * @param pattern a pattern for {@link DecimalFormat}, may be empty
+     * @param locale the locale
+     * @return a format that must not be shared between threads
+     */
+    public static NumberFormat getFormat(String pattern, Locale locale) {
+        requireNonNull(pattern, "pattern must not be null");
+        requireNonNull(locale, "locale must not be null");
+        return (NumberFormat)PROTOTYPES.computeIfAbsent(new FormatKey(pattern, locale), NumberFormats::createFormat)
+                .clone();
+    }
+
+    private static NumberFormat createFormat(FormatKey key) {
+        if (key.pattern().isEmpty()) {
+            return NumberFormat.getIntegerInstance(key.locale());
+        } else {
+            var decimalFormat = new DecimalFormat(key.pattern(), DecimalFormatSymbols.getInstance(key.locale()));
+            decimalFormat.setParseBigDecimal(true);
+            return decimalFormat;
+        }
+    }
+
+    private record FormatKey(String pattern, Locale locale) {
+    }
+
+}
@@ -47,6 +47,8 @@ abstract sealed class AbstractMethod<T, I> permits ReadMethod, WriteMethod, Invo
     private final String propertyName;
     private final Supplier<Optional<Method>> methodSupplier;
     @CheckForNull
+    private final I generatedFunction;
+    @CheckForNull
     private I methodAsFunction;
 
     AbstractMethod(Class<? extends T> boundClass,
@@ -55,10 +57,26 @@ abstract sealed class AbstractMethod<T, I> permits ReadMethod, WriteMethod, Invo
         this.boundClass = requireNonNull(boundClass, "boundClass must not be null");
         this.propertyName = requireNonNull(propertyName, "propertyName must not be null");
         this.methodSupplier = requireNonNull(methodSupplier, "methodSupplier must not be null");
+        this.generatedFunction = null;
+    }
+
+    /**
+     * Creates a method wrapper for a function that was generated at compile time, so neither
+     * reflection nor {@link LambdaMetafactory} is needed to call the method.
+     *
+     * @see PropertyAccessorTable
+     */
+    AbstractMethod(Class<? extends T> boundClass,
+            String propertyName,
+            I generatedFunction) {
+        this.boundClass = requireNonNull(boundClass, "boundClass must not be null");
+        this.propertyName = requireNonNull(propertyName, "propertyName must not be null");
+        this.methodSupplier = Optional::empty;
+        this.generatedFunction = requireNonNull(generatedFunction, "generatedFunction must not be null");
     }
 
     public boolean isPresent() {
-        return getReflectionMethod().isPresent();
+        return generatedFunction != null || getReflectionMethod().isPresent();
     }
 
     private Optional<Method> getReflectionMethod() {
@@ -100,10 +118,15 @@ abstract sealed class AbstractMethod<T, I> permits ReadMethod, WriteMethod, Invo
      * The created function throws an {@link IllegalStateException} if any error occurs during
      * invocation. This makes sure that the behavior is consistent with
      * {@link #fallbackReflectionCall(Method)}.
+     * <p>
+     * If the function was generated at compile time, it is used directly.
      *
      * @throws IllegalArgumentException if the method cannot be found
      */
     public I getMethodAsFunction() {
+        if (methodAsFunction == null && generatedFunction != null) {
+            methodAsFunction = handleExceptionForMethodHandle(generatedFunction);
+        }
         if (methodAsFunction == null) {
             var method = getMethodWithExceptionHandling();
             var lookup = LookupProvider.lookup(method.getDeclaringClass());
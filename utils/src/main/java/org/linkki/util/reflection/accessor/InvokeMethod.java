@@ -41,6 +41,10 @@ final class InvokeMethod<T> extends AbstractMethod<T, Consumer<T>> {
         super(boundClass, propertyName, methodSupplier);
     }
 
+    InvokeMethod(Class<? extends T> boundClass, String propertyName, Consumer<T> generatedFunction) {
+        super(boundClass, propertyName, generatedFunction);
+    }
+
     /**
      * Invokes the method.
      *
@@ -15,6 +15,8 @@ package org.linkki.util.reflection.accessor;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+
 import org.linkki.util.LazyInitializingMap;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
@@ -27,6 +29,9 @@ import edu.umd.cs.findbugs.annotations.NonNull;
  * For accessing an object's property, create a {@link PropertyAccessor} for the class to be
  * accessed and the name of the property. The accessor can determine whether the property can be
  * read, written or invoked.
+ * <p>
+ * If a {@link PropertyAccessorTable} was generated for the class, its accessors are used instead
+ * of searching the methods via reflection.
  *
  * @param <T> the type containing the property
  * @param <V> the property's type
@@ -45,11 +50,21 @@ public final class PropertyAccessor<T, V> {
     PropertyAccessor(Class<? extends T> boundClass, String propertyName) {
         this.propertyName = requireNonNull(propertyName, "propertyName must not be null");
         requireNonNull(boundClass, "boundClass must not be null");
-        PropertyAccessDescriptor<T, V> propertyAccessDescriptor = new PropertyAccessDescriptor<>(boundClass,
-                propertyName);
-        readMethod = propertyAccessDescriptor.createReadMethod();
-        writeMethod = propertyAccessDescriptor.createWriteMethod();
-        invokeMethod = propertyAccessDescriptor.createInvokeMethod();
+        Optional<? extends PropertyAccessorTable<? extends T>> accessorTable = PropertyAccessorTable.find(boundClass)
+                .filter(t -> t.contains(propertyName));
+        if (accessorTable.isPresent()) {
+            @SuppressWarnings("unchecked")
+            PropertyAccessorTable<T> table = (PropertyAccessorTable<T>)accessorTable.get();
+            readMethod = table.createReadMethod(propertyName);
+            writeMethod = table.createWriteMethod(propertyName);
+            invokeMethod = table.createInvokeMethod(propertyName);
+        } else {
+            PropertyAccessDescriptor<T, V> propertyAccessDescriptor = new PropertyAccessDescriptor<>(boundClass,
+                    propertyName);
+            readMethod = propertyAccessDescriptor.createReadMethod();
+            writeMethod = propertyAccessDescriptor.createWriteMethod();
+            invokeMethod = propertyAccessDescriptor.createInvokeMethod();
+        }
     }
 
     public String getPropertyName() {
@@ -0,0 +1,194 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.linkki.util.reflection.accessor;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A table of accessors for the properties of a class that is generated at compile time, for
+ * example by the linkki annotation processor. A {@link PropertyAccessor} uses the accessors of the
+ * table instead of searching the methods via reflection and creating functions for them at
+ * runtime.
+ * <p>
+ * The table of a class must be named according to {@link #getTableClassName(String)}, must be
+ * located in the same class loader as the class and must have a public no-arg constructor. It
+ * defines all accessors in its constructor using {@link #addReader(String, Class, Function)},
+ * {@link #addWriter(String, BiConsumer)} and {@link #addInvoker(String, Consumer)}.
+ * <p>
+ * The table is authoritative for all properties it contains: if a property has a reader, but no
+ * writer, the property is considered read-only. Properties that are not contained in the table at
+ * all are still accessed via reflection.
+ *
+ * @param <T> the type containing the properties
+ *
+ * @since 2.11.0
+ */
+public abstract class PropertyAccessorTable<T> {
+
+    /**
+     * The suffix of the name of a generated table class.
+     */
+    public static final String CLASS_NAME_SUFFIX = "_LinkkiAccessors";
+
+    private static final ClassValue<Optional<PropertyAccessorTable<?>>> TABLES = new ClassValue<>() {
+
+        @Override
+        protected Optional<PropertyAccessorTable<?>> computeValue(Class<?> type) {
+            return load(type);
+        }
+
+    };
+
+    private final Class<T> boundClass;
+    private final Map<String, Reader<T>> readers = new HashMap<>();
+    private final Map<String, BiConsumer<T, Object>> writers = new HashMap<>();
+    private final Map<String, Consumer<T>> invokers = new HashMap<>();
+
+    protected PropertyAccessorTable(Class<T> boundClass) {
+        this.boundClass = requireNonNull(boundClass, "boundClass must not be null");
+    }
+
+    public Class<T> getBoundClass() {
+        return boundClass;
+    }
+
+    /**
+     * Adds the getter of a property.
+     *
+     * @param property the name of the property
+     * @param valueClass the return type of the getter
+     * @param reader a function calling the getter
+     */
+    protected final void addReader(String property, Class<?> valueClass, Function<T, Object> reader) {
+        readers.put(requireNonNull(property, "property must not be null"),
+                    new Reader<>(requireNonNull(valueClass, "valueClass must not be null"),
+                            requireNonNull(reader, "reader must not be null")));
+    }
+
+    /**
+     * Adds the setter of a property.
+     *
+     * @param property the name of the property
+     * @param writer a function calling the setter
+     */
+    protected final void addWriter(String property, BiConsumer<T, Object> writer) {
+        writers.put(requireNonNull(property, "property must not be null"),
+                    requireNonNull(writer, "writer must not be null"));
+    }
+
+    /**
+     * Adds a method without parameters that can be invoked.
+     *
+     * @param property the name of the method
+     * @param invoker a function calling the method
+     */
+    protected final void addInvoker(String property, Consumer<T> invoker) {
+        invokers.put(requireNonNull(property, "property must not be null"),
+                     requireNonNull(invoker, "invoker must not be null"));
+    }
+
+    /**
+     * Returns whether the table contains any accessor for the given property.
+     */
+    public boolean contains(String property) {
+        return readers.containsKey(property) || writers.containsKey(property) || invokers.containsKey(property);
+    }
+
+    @SuppressWarnings("unchecked")
+    <V> ReadMethod<T, V> createReadMethod(String property) {
+        Reader<T> reader = readers.get(property);
+        if (reader == null) {
+            return new ReadMethod<>(boundClass, property, Optional::empty);
+        } else {
+            return new ReadMethod<>(boundClass, property, (Class<V>)reader.valueClass(),
+                    o -> (V)reader.function().apply(o));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <V> WriteMethod<T, V> createWriteMethod(String property) {
+        BiConsumer<T, Object> writer = writers.get(property);
+        if (writer == null) {
+            return new WriteMethod<>(boundClass, property, Optional::empty);
+        } else {
+            return new WriteMethod<>(boundClass, property, (BiConsumer<T, V>)writer);
+        }
+    }
+
+    InvokeMethod<T> createInvokeMethod(String property) {
+        Consumer<T> invoker = invokers.get(property);
+        if (invoker == null) {
+            return new InvokeMethod<>(boundClass, property, Optional::empty);
+        } else {
+            return new InvokeMethod<>(boundClass, property, invoker);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + '[' + boundClass.getName() + ']';
+    }
+
+    /**
+     * Returns the fully qualified name of the table class for the class with the given binary
+     * name, for example {@code org.example.Outer_Inner_LinkkiAccessors} for
+     * {@code org.example.Outer$Inner}.
+     *
+     * @param binaryName the {@link Class#getName() binary name} of a class
+     */
+    public static String getTableClassName(String binaryName) {
+        return requireNonNull(binaryName, "binaryName must not be null").replace('$', '_') + CLASS_NAME_SUFFIX;
+    }
+
+    /**
+     * Returns the table that was generated for the given class or {@link Optional#empty()} if there
+     * is none.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Optional<PropertyAccessorTable<T>> find(Class<T> type) {
+        return TABLES.get(type).map(t -> (PropertyAccessorTable<T>)t);
+    }
+
+    private static Optional<PropertyAccessorTable<?>> load(Class<?> type) {
+        if (type.isArray() || type.isPrimitive() || type.isHidden()) {
+            return Optional.empty();
+        }
+        Class<?> tableClass;
+        try {
+            tableClass = Class.forName(getTableClassName(type.getName()), true, type.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        }
+        if (!PropertyAccessorTable.class.isAssignableFrom(tableClass)) {
+            return Optional.empty();
+        }
+        try {
+            PropertyAccessorTable<?> table = (PropertyAccessorTable<?>)tableClass.getConstructor().newInstance();
+            return table.getBoundClass() == type ? Optional.of(table) : Optional.empty();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create " + tableClass.getName(), e);
+        }
+    }
+
+    private record Reader<T>(Class<?> valueClass, Function<T, Object> function) {
+    }
+
+}
@@ -27,6 +27,8 @@ import java.util.function.Supplier;
 
 import org.linkki.util.BeanUtils;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
 /**
  * Wrapper for a getter {@link Method}. {@link #isPresent()} can safely be accessed even if no read
  * method exists. {@link #readValue(Object)} will access the getter via {@link LambdaMetafactory} if
@@ -37,16 +39,29 @@ import org.linkki.util.BeanUtils;
  */
 final class ReadMethod<T, V> extends AbstractMethod<T, Function<T, V>> {
 
+    @CheckForNull
+    private final Class<V> returnType;
+
     ReadMethod(Class<? extends T> boundClass,
             String propertyName,
             Supplier<Optional<Method>> methodSupplier) {
         super(boundClass, propertyName, methodSupplier);
+        this.returnType = null;
+    }
+
+    ReadMethod(Class<? extends T> boundClass,
+            String propertyName,
+            Class<V> returnType,
+            Function<T, V> generatedFunction) {
+        super(boundClass, propertyName, generatedFunction);
+        this.returnType = returnType;
     }
 
     @SuppressWarnings("unchecked")
     public ReadMethod(Method method) {
         super((Class<? extends T>)method.getDeclaringClass(),
                 BeanUtils.getPropertyName(method), () -> Optional.of(method));
+        this.returnType = null;
     }
 
     /**
@@ -88,6 +103,9 @@ final class ReadMethod<T, V> extends AbstractMethod<T, Function<T, V>> {
 
     @SuppressWarnings("unchecked")
     public Class<V> getReturnType() {
+        if (returnType != null) {
+            return returnType;
+        }
         return (Class<V>)getMethodWithExceptionHandling().getReturnType();
     }
 
@@ -41,6 +41,10 @@ final class WriteMethod<T, V> extends AbstractMethod<T, BiConsumer<T, V>> {
         super(boundClass, propertyName, methodSupplier);
     }
 
+    WriteMethod(Class<? extends T> boundClass, String propertyName, BiConsumer<T, V> generatedFunction) {
+        super(boundClass, propertyName, generatedFunction);
+    }
+
     /**
      * Writes a value by accessing the respective write method.
      * 
@@ -15,8 +15,10 @@
 package org.linkki.util.service;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.StreamSupport;
 
 /**
@@ -37,18 +39,39 @@ public final class Services {
      * @throws IllegalStateException if there is no or more than one implementation available
      */
     public static <S> S get(Class<S> serviceClass) {
-        @SuppressWarnings("unchecked")
-        S service = (S)INSTANCES.computeIfAbsent(serviceClass, sc -> {
-            ServiceLoader<?> serviceLoader = ServiceLoader.load(sc);
-            return StreamSupport.stream(serviceLoader.spliterator(), false).reduce((f1, f2) -> {
-                throw new IllegalStateException(
-                        "Multiple implementations of " + sc.getName() + " found on the classpath: "
-                                + f1.getClass()
-                                + " and " + f2.getClass());
-            }).orElseThrow(() -> new IllegalStateException(
-                    "No implementation of " + sc.getName() + " found on the classpath."));
+        return getOrDefault(serviceClass, () -> {
+            throw new IllegalStateException(
+                    "No implementation of " + serviceClass.getName() + " found on the classpath.");
         });
+    }
+
+    /**
+     * Finds the single implementation of the service class via {@link ServiceLoader}. If there is
+     * no implementation, the service provided by the given supplier is used instead.
+     * <p>
+     * Like the found implementation, the default service is only created once and returned for all
+     * subsequent calls.
+     * 
+     * @return the service instance or the default service if there is no implementation
+     * @throws IllegalStateException if there is more than one implementation available
+     * 
+     * @since 2.11.0
+     */
+    public static <S> S getOrDefault(Class<S> serviceClass, Supplier<? extends S> defaultService) {
+        @SuppressWarnings("unchecked")
+        S service = (S)INSTANCES.computeIfAbsent(serviceClass,
+                                                 sc -> load(serviceClass).orElseGet(defaultService));
         return service;
     }
 
+    private static <S> Optional<S> load(Class<S> serviceClass) {
+        ServiceLoader<S> serviceLoader = ServiceLoader.load(serviceClass);
+        return StreamSupport.stream(serviceLoader.spliterator(), false).reduce((f1, f2) -> {
+            throw new IllegalStateException(
+                    "Multiple implementations of " + serviceClass.getName() + " found on the classpath: "
+                            + f1.getClass()
+                            + " and " + f2.getClass());
+        });
+    }
+
 }
@@ -21,7 +21,10 @@ import static java.util.Locale.US;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
@@ -79,4 +82,40 @@ public class DateFormatsTest {
         assertThat(DateFormats.getPattern(Locale.of("bar-language")), is(not(customPattern)));
     }
 
+    @Test
+    public void testGetFormatter() {
+        assertThat(DateFormats.getFormatter(GERMANY).format(LocalDate.of(2024, 2, 29)), is("29.02.2024"));
+        assertThat(DateFormats.getFormatter(US).format(LocalDate.of(2024, 2, 29)), is("02/29/2024"));
+    }
+
+    @Test
+    public void testGetFormatter_Cached() {
+        assertThat(DateFormats.getFormatter(GERMANY), is(sameInstance(DateFormats.getFormatter(GERMANY))));
+    }
+
+    @Test
+    public void testGetFormatter_ClearedOnRegister() {
+        Locale locale = Locale.of("baz-language", "country1");
+        assertThat(DateFormats.getFormatter(locale).format(LocalDate.of(2024, 2, 29)), is("2024-02-29"));
+
+        DateFormats.register(locale, "yy:MM:dd");
+
+        assertThat(DateFormats.getFormatter(locale).format(LocalDate.of(2024, 2, 29)), is("24:02:29"));
+    }
+
+    @Test
+    public void testGetFormatter_LocalizedText() {
+        Locale locale = Locale.of("fr", "country2");
+        DateFormats.register(locale, "d MMMM yyyy");
+
+        assertThat(DateFormats.getFormatter(locale).format(LocalDate.of(2024, 2, 29)), is("29 février 2024"));
+    }
+
+    @Test
+    public void testGetDateTimeFormatter() {
+        assertThat(DateFormats.getDateTimeFormatter(GERMANY).format(LocalDateTime.of(2024, 2, 29, 13, 5)),
+                   is("29.02.2024 13:05"));
+        assertThat(DateFormats.getDateTimeFormatter(GERMANY), is(sameInstance(DateFormats.getDateTimeFormatter(GERMANY))));
+    }
+
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.linkki.util;
+
+import static java.util.Locale.GERMANY;
+import static java.util.Locale.US;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class NumberFormatsTest {
+
+    @Test
+    public void testGetFormat_Pattern() throws ParseException {
+        NumberFormat format = NumberFormats.getFormat("#,##0.00", GERMANY);
+
+        assertThat(format.format(1234.5), is("1.234,50"));
+        assertThat(format.parse("1.234,5"), is(instanceOf(BigDecimal.class)));
+        assertThat(format.parse("1.234,5"), is(new BigDecimal("1234.5")));
+    }
+
+    @Test
+    public void testGetFormat_Locale() {
+        assertThat(NumberFormats.getFormat("#,##0.00", US).format(1234.5), is("1,234.50"));
+    }
+
+    @Test
+    public void testGetFormat_EmptyPattern() {
+        assertThat(NumberFormats.getFormat("", GERMANY).format(1234.5), is("1.234"));
+    }
+
+    @Test
+    public void testGetFormat_NewInstance() {
+        NumberFormat format = NumberFormats.getFormat("0.0", GERMANY);
+        format.setMinimumFractionDigits(3);
+
+        assertThat(NumberFormats.getFormat("0.0", GERMANY), is(not(sameInstance(format))));
+        assertThat(NumberFormats.getFormat("0.0", GERMANY).format(1), is("1,0"));
+    }
+
+    @Test
+    public void testGetFormat_Concurrent() throws InterruptedException, ExecutionException {
+        Callable<Boolean> task = () -> IntStream.range(0, 1_000)
+                .allMatch(i -> NumberFormats.getFormat("#,##0.00", GERMANY).format(i + 0.5)
+                        .equals(i + ",50"));
+
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            var results = IntStream.range(0, 4).mapToObj(i -> executor.submit(task)).toList();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(), is(true));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.linkki.util.reflection.accessor;
+
+public class GeneratedAccessorsTestObject {
+
+    public static final String PROPERTY_VALUE = "value";
+    public static final String PROPERTY_COUNT = "count";
+    public static final String PROPERTY_RESET = "reset";
+    public static final String PROPERTY_NOT_GENERATED = "notGenerated";
+
+    private String value = "";
+    private int count;
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void reset() {
+        count = 0;
+        value = "";
+    }
+
+    public String getNotGenerated() {
+        return "reflection";
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.linkki.util.reflection.accessor;
+
+/**
+ * Table as generated by the linkki annotation processor for {@link GeneratedAccessorsTestObject}.
+ * The accessors count how often they are called, to verify that they are used.
+ */
+public class GeneratedAccessorsTestObject_LinkkiAccessors extends PropertyAccessorTable<GeneratedAccessorsTestObject> {
+
+    private static int calls;
+
+    public GeneratedAccessorsTestObject_LinkkiAccessors() {
+        super(GeneratedAccessorsTestObject.class);
+        addReader("value", java.lang.String.class, o -> {
+            calls++;
+            return o.getValue();
+        });
+        addWriter("value", (o, v) -> {
+            calls++;
+            o.setValue((java.lang.String)v);
+        });
+        addReader("count", int.class, o -> {
+            calls++;
+            return o.getCount();
+        });
+        addInvoker("reset", o -> {
+            calls++;
+            o.reset();
+        });
+    }
+
+    public static int getCalls() {
+        return calls;
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.linkki.util.reflection.accessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.util.reflection.TestObject;
+
+class PropertyAccessorTableTest {
+
+    @Test
+    void testGetTableClassName() {
+        assertThat(PropertyAccessorTable.getTableClassName("org.example.Outer$Inner"))
+                .isEqualTo("org.example.Outer_Inner_LinkkiAccessors");
+    }
+
+    @Test
+    void testFind() {
+        assertThat(PropertyAccessorTable.find(GeneratedAccessorsTestObject.class))
+                .get()
+                .isInstanceOf(GeneratedAccessorsTestObject_LinkkiAccessors.class);
+        assertThat(PropertyAccessorTable.find(TestObject.class)).isEmpty();
+        assertThat(PropertyAccessorTable.find(int.class)).isEmpty();
+    }
+
+    @Test
+    void testPropertyAccessor_UsesGeneratedAccessors() {
+        var object = new GeneratedAccessorsTestObject();
+        var accessor = new PropertyAccessor<GeneratedAccessorsTestObject, Object>(
+                GeneratedAccessorsTestObject.class, GeneratedAccessorsTestObject.PROPERTY_VALUE);
+        int calls = GeneratedAccessorsTestObject_LinkkiAccessors.getCalls();
+
+        accessor.setPropertyValue(object, "foo");
+
+        assertThat(accessor.getPropertyValue(object)).isEqualTo("foo");
+        assertThat(accessor.canRead()).isTrue();
+        assertThat(accessor.canWrite()).isTrue();
+        assertThat(accessor.canInvoke()).isFalse();
+        assertThat(accessor.getValueClass()).isEqualTo(String.class);
+        assertThat(GeneratedAccessorsTestObject_LinkkiAccessors.getCalls()).isEqualTo(calls + 2);
+    }
+
+    @Test
+    void testPropertyAccessor_ReadOnlyPrimitive() {
+        var accessor = new PropertyAccessor<GeneratedAccessorsTestObject, Object>(
+                GeneratedAccessorsTestObject.class, GeneratedAccessorsTestObject.PROPERTY_COUNT);
+
+        assertThat(accessor.getPropertyValue(new GeneratedAccessorsTestObject())).isEqualTo(0);
+        assertThat(accessor.canWrite()).isFalse();
+        assertThat(accessor.getValueClass()).isEqualTo(int.class);
+    }
+
+    @Test
+    void testPropertyAccessor_Invoke() {
+        var object = new GeneratedAccessorsTestObject();
+        object.setValue("foo");
+        var accessor = new PropertyAccessor<GeneratedAccessorsTestObject, Object>(
+                GeneratedAccessorsTestObject.class, GeneratedAccessorsTestObject.PROPERTY_RESET);
+
+        accessor.invoke(object);
+
+        assertThat(object.getValue()).isEmpty();
+        assertThat(accessor.canRead()).isFalse();
+    }
+
+    @Test
+    void testPropertyAccessor_FallbackToReflection() {
+        var accessor = PropertyAccessor.get(GeneratedAccessorsTestObject.class,
+                                            GeneratedAccessorsTestObject.PROPERTY_NOT_GENERATED);
+
+        assertThat(accessor.getPropertyValue(new GeneratedAccessorsTestObject())).isEqualTo("reflection");
+    }
+
+    @Test
+    void testPropertyAccessor_ExceptionContainsProperty() {
+        var accessor = new PropertyAccessor<GeneratedAccessorsTestObject, Object>(
+                GeneratedAccessorsTestObject.class, GeneratedAccessorsTestObject.PROPERTY_VALUE);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> accessor.setPropertyValue(new GeneratedAccessorsTestObject(), 5))
+                .withMessageContaining(GeneratedAccessorsTestObject.class.getName() + "#"
+                        + GeneratedAccessorsTestObject.PROPERTY_VALUE);
+    }
+
+}
@@ -17,6 +17,7 @@ package org.linkki.util.service;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -45,11 +46,48 @@ public class ServicesTest {
 
     }
 
+    @Test
+    public void testGetOrDefault_SingleImplementation() {
+        assertThat(Services.getOrDefault(InterfaceWithSingleImplementation.class,
+                                         () -> new InterfaceWithSingleImplementation() {
+                                             // not used
+                                         }),
+                   is(instanceOf(SingleImplementation.class)));
+    }
+
+    @Test
+    public void testGetOrDefault_NoImplementation() {
+        InterfaceWithDefault defaultService = new InterfaceWithDefault() {
+            // default
+        };
+
+        assertThat(Services.getOrDefault(InterfaceWithDefault.class, () -> defaultService),
+                   is(sameInstance(defaultService)));
+        assertThat(Services.getOrDefault(InterfaceWithDefault.class, () -> new InterfaceWithDefault() {
+            // not used as the default is only created once
+        }), is(sameInstance(defaultService)));
+    }
+
+    @Test
+    public void testGetOrDefault_MultipleImplementations() {
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            Services.getOrDefault(InterfaceWithMultipleImplementations.class,
+                                  () -> new InterfaceWithMultipleImplementations() {
+                                      // not used
+                                  });
+        });
+    }
+
     public interface InterfaceWithoutImplementation {
         // marker
 
     }
 
+    public interface InterfaceWithDefault {
+        // marker
+
+    }
+
     public interface InterfaceWithSingleImplementation {
         // marker
 
@@ -0,0 +1,325 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.tooling.apt.generator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Generated;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import org.apache.commons.lang3.StringUtils;
+import org.linkki.tooling.apt.processor.LinkkiAnnotationProcessor;
+import org.linkki.util.BeanUtils;
+import org.linkki.util.reflection.accessor.PropertyAccessor;
+import org.linkki.util.reflection.accessor.PropertyAccessorTable;
+
+/**
+ * Generates a {@link PropertyAccessorTable} for a PMO class. The generated table contains direct
+ * method calls for all getters, setters and invokable methods of the PMO that a
+ * {@link PropertyAccessor} would otherwise find via reflection.
+ * <p>
+ * The methods are resolved in the same way as by {@link PropertyAccessor}: a getter is a public
+ * method without parameters named {@code get<Property>} or {@code is<Property>}, or the accessor
+ * of a record component. A setter is a public method named {@code set<Property>} with one
+ * parameter that is assignable from the type of the getter. Every public method without
+ * parameters can be invoked.
+ * <p>
+ * Properties whose methods declare checked exceptions are left out, so they are still accessed via
+ * reflection.
+ */
+public class AccessorTableGenerator {
+
+    private final Types types;
+    private final Elements elements;
+    private final Filer filer;
+
+    private final Set<String> generatedTables = new HashSet<>();
+
+    public AccessorTableGenerator(ProcessingEnvironment processingEnvironment) {
+        requireNonNull(processingEnvironment, "processingEnvironment must not be null");
+        this.types = processingEnvironment.getTypeUtils();
+        this.elements = processingEnvironment.getElementUtils();
+        this.filer = processingEnvironment.getFiler();
+    }
+
+    /**
+     * Returns whether a table can be generated for the given type. Tables are only generated for
+     * concrete classes and records that can be accessed from their package.
+     */
+    public boolean isSupported(TypeElement pmoElement) {
+        return (pmoElement.getKind() == ElementKind.CLASS || pmoElement.getKind() == ElementKind.RECORD)
+                && !pmoElement.getModifiers().contains(Modifier.ABSTRACT)
+                && isAccessible(pmoElement);
+    }
+
+    private boolean isAccessible(TypeElement typeElement) {
+        if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        NestingKind nestingKind = typeElement.getNestingKind();
+        if (nestingKind == NestingKind.TOP_LEVEL) {
+            return true;
+        } else if (nestingKind == NestingKind.MEMBER) {
+            return isAccessible((TypeElement)typeElement.getEnclosingElement());
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Generates the {@link PropertyAccessorTable} for the given PMO class. Does nothing if the
+     * table was already generated.
+     *
+     * @throws IOException if the source file cannot be written
+     */
+    public void generate(TypeElement pmoElement) throws IOException {
+        String tableName = PropertyAccessorTable.getTableClassName(elements.getBinaryName(pmoElement).toString());
+        if (!generatedTables.add(tableName)) {
+            return;
+        }
+
+        Map<String, Accessors> accessors = collectAccessors(pmoElement);
+
+        try (Writer writer = filer.createSourceFile(tableName, pmoElement).openWriter();
+                PrintWriter out = new PrintWriter(writer)) {
+            writeTable(out, pmoElement, tableName, accessors);
+        }
+    }
+
+    private Map<String, Accessors> collectAccessors(TypeElement pmoElement) {
+        DeclaredType pmoType = (DeclaredType)pmoElement.asType();
+        Map<String, Accessors> accessors = new LinkedHashMap<>();
+        List<ExecutableElement> methods = elements.getAllMembers(pmoElement).stream()
+                .filter(e -> e.getKind() == ElementKind.METHOD)
+                .map(ExecutableElement.class::cast)
+                .filter(this::isAccessibleInstanceMethod)
+                .toList();
+        Set<String> recordComponents = new HashSet<>();
+        if (pmoElement.getKind() == ElementKind.RECORD) {
+            for (RecordComponentElement component : pmoElement.getRecordComponents()) {
+                String property = component.getSimpleName().toString();
+                recordComponents.add(property);
+                accessors.computeIfAbsent(property, k -> new Accessors(k, pmoType))
+                        .setGetter(component.getAccessor());
+            }
+        }
+
+        for (ExecutableElement method : methods) {
+            if (method.getParameters().isEmpty()) {
+                accessors.computeIfAbsent(method.getSimpleName().toString(), k -> new Accessors(k, pmoType))
+                        .setInvoker(method);
+            }
+        }
+        for (ExecutableElement method : methods) {
+            findGetterProperty(method)
+                    .filter(property -> !recordComponents.contains(property))
+                    .ifPresent(property -> accessors.computeIfAbsent(property, k -> new Accessors(k, pmoType))
+                            .offerGetter(method));
+        }
+        for (ExecutableElement method : methods) {
+            findSetterProperty(method)
+                    .map(accessors::get)
+                    .ifPresent(a -> a.offerSetter(method));
+        }
+
+        accessors.values().removeIf(Accessors::throwsCheckedException);
+        return accessors;
+    }
+
+    private boolean isAccessibleInstanceMethod(ExecutableElement method) {
+        return method.getModifiers().contains(Modifier.PUBLIC)
+                && !method.getModifiers().contains(Modifier.STATIC)
+                && method.getTypeParameters().isEmpty()
+                && !((TypeElement)method.getEnclosingElement()).getQualifiedName()
+                        .contentEquals(Object.class.getName());
+    }
+
+    private Optional<String> findGetterProperty(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        if (!method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+            return Optional.empty();
+        } else if (name.startsWith(BeanUtils.GET_PREFIX) && name.length() > BeanUtils.GET_PREFIX.length()) {
+            return Optional.of(StringUtils.uncapitalize(name.substring(BeanUtils.GET_PREFIX.length())));
+        } else if (name.startsWith(BeanUtils.IS_PREFIX) && name.length() > BeanUtils.IS_PREFIX.length()) {
+            return Optional.of(StringUtils.uncapitalize(name.substring(BeanUtils.IS_PREFIX.length())));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<String> findSetterProperty(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        if (method.getParameters().size() == 1
+                && name.startsWith(BeanUtils.SET_PREFIX) && name.length() > BeanUtils.SET_PREFIX.length()) {
+            return Optional.of(StringUtils.uncapitalize(name.substring(BeanUtils.SET_PREFIX.length())));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private void writeTable(PrintWriter out,
+            TypeElement pmoElement,
+            String tableName,
+            Map<String, Accessors> accessors) {
+        String packageName = elements.getPackageOf(pmoElement).getQualifiedName().toString();
+        String simpleTableName = tableName.substring(tableName.lastIndexOf('.') + 1);
+        String pmoType = pmoElement.getQualifiedName().toString();
+
+        if (!packageName.isEmpty()) {
+            out.println("package " + packageName + ";");
+            out.println();
+        }
+        out.println("@" + Generated.class.getName() + "(\"" + LinkkiAnnotationProcessor.class.getName() + "\")");
+        out.println("@SuppressWarnings({ \"rawtypes\", \"unchecked\" })");
+        out.println("public final class " + simpleTableName + " extends "
+                + PropertyAccessorTable.class.getName() + "<" + pmoType + "> {");
+        out.println();
+        out.println("    public " + simpleTableName + "() {");
+        out.println("        super(" + pmoType + ".class);");
+        accessors.values().forEach(a -> a.write(out));
+        out.println("    }");
+        out.println();
+        out.println("}");
+    }
+
+    /**
+     * Returns the source code representation of the erasure of the given type.
+     */
+    private String erasureName(TypeMirror type) {
+        TypeMirror erasure = types.erasure(type);
+        if (erasure.getKind().isPrimitive()) {
+            return erasure.getKind().name().toLowerCase(Locale.ROOT);
+        } else if (erasure.getKind() == TypeKind.ARRAY) {
+            return erasureName(((ArrayType)erasure).getComponentType()) + "[]";
+        } else if (erasure instanceof DeclaredType declaredType) {
+            return ((TypeElement)declaredType.asElement()).getQualifiedName().toString();
+        } else {
+            return Object.class.getName();
+        }
+    }
+
+    /**
+     * The accessor methods of a single property.
+     */
+    private class Accessors {
+
+        private final String property;
+        private final DeclaredType pmoType;
+
+        private Optional<ExecutableElement> getter = Optional.empty();
+        private Optional<ExecutableElement> setter = Optional.empty();
+        private Optional<ExecutableElement> invoker = Optional.empty();
+
+        Accessors(String property, DeclaredType pmoType) {
+            this.property = property;
+            this.pmoType = pmoType;
+        }
+
+        /**
+         * Returns the type of the method as seen from the PMO class, so that type variables of
+         * generic super classes are resolved.
+         */
+        private ExecutableType resolve(ExecutableElement method) {
+            return (ExecutableType)types.asMemberOf(pmoType, method);
+        }
+
+        void setGetter(ExecutableElement method) {
+            getter = Optional.of(method);
+        }
+
+        /**
+         * A {@code get} method has precedence over an {@code is} method.
+         */
+        void offerGetter(ExecutableElement method) {
+            if (getter.isEmpty() || method.getSimpleName().toString().startsWith(BeanUtils.GET_PREFIX)) {
+                getter = Optional.of(method);
+            }
+        }
+
+        /**
+         * A setter with exactly the type of the getter has precedence over other setters.
+         */
+        void offerSetter(ExecutableElement method) {
+            getter.map(g -> resolve(g).getReturnType()).ifPresent(valueType -> {
+                TypeMirror parameterType = resolve(method).getParameterTypes().get(0);
+                if (types.isSameType(types.erasure(valueType), types.erasure(parameterType))) {
+                    setter = Optional.of(method);
+                } else if (setter.isEmpty() && types.isAssignable(valueType, parameterType)) {
+                    setter = Optional.of(method);
+                }
+            });
+        }
+
+        void setInvoker(ExecutableElement method) {
+            invoker = Optional.of(method);
+        }
+
+        boolean throwsCheckedException() {
+            return Stream.of(getter, setter, invoker)
+                    .flatMap(Optional::stream)
+                    .flatMap(method -> method.getThrownTypes().stream())
+                    .anyMatch(this::isCheckedException);
+        }
+
+        private boolean isCheckedException(TypeMirror exceptionType) {
+            TypeMirror runtimeException = elements.getTypeElement(RuntimeException.class.getName()).asType();
+            TypeMirror error = elements.getTypeElement(Error.class.getName()).asType();
+            return !types.isSubtype(exceptionType, runtimeException) && !types.isSubtype(exceptionType, error);
+        }
+
+        void write(PrintWriter out) {
+            String literal = '"' + property + '"';
+            getter.ifPresent(method -> out.println("        addReader(" + literal + ", "
+                    + erasureName(resolve(method).getReturnType()) + ".class, o -> o." + name(method) + "());"));
+            setter.ifPresent(method -> out.println("        addWriter(" + literal + ", (o, v) -> o." + name(method)
+                    + "((" + erasureName(resolve(method).getParameterTypes().get(0)) + ")v));"));
+            invoker.ifPresent(method -> out.println("        addInvoker(" + literal + ", o -> o." + name(method)
+                    + "());"));
+        }
+
+        private String name(Element method) {
+            return method.getSimpleName().toString();
+        }
+
+    }
+
+}
@@ -45,6 +45,7 @@ import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.linkki.tooling.apt.generator.AccessorTableGenerator;
 import org.linkki.tooling.apt.util.ElementUtils;
 import org.linkki.tooling.apt.util.ModelBuilder;
 import org.linkki.tooling.apt.validator.AspectMethodValidator;
@@ -57,12 +58,17 @@ import org.linkki.tooling.apt.validator.PositionValidator;
 import org.linkki.tooling.apt.validator.PublicModifierValidator;
 import org.linkki.tooling.apt.validator.UITableColumnValidator;
 import org.linkki.tooling.apt.validator.Validator;
+import org.linkki.util.reflection.accessor.PropertyAccessorTable;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
  * This {@link Processor} creates a model from the processed class and checks it with a list of
  * {@link Validator Validators}.
+ * <p>
+ * If the option {@value #GENERATE_ACCESSORS_OPTION} is set to {@code true}, a
+ * {@link PropertyAccessorTable} is generated for every processed PMO class.
  */
 @SupportedAnnotationTypes("*")
 @SuppressFBWarnings(value = "NP_NONNULL_FIELD_NOT_INITIALIZED_IN_CONSTRUCTOR",
@@ -71,6 +77,12 @@ public class LinkkiAnnotationProcessor extends AbstractProcessor {
 
     public static final String LINKKI_OPTION_PREFIX = "linkki.apt";
 
+    /**
+     * Option to generate a {@link PropertyAccessorTable} for every processed PMO class. Set to
+     * {@code true} to activate.
+     */
+    public static final String GENERATE_ACCESSORS_OPTION = LINKKI_OPTION_PREFIX + ".generateAccessors";
+
     private static final Set<ElementKind> SUPPORTED_ELEMENT_KINDS = new HashSet<>(
             asList(ElementKind.CLASS, ElementKind.INTERFACE));
 
@@ -82,6 +94,9 @@ public class LinkkiAnnotationProcessor extends AbstractProcessor {
 
     private List<Validator> validators;
 
+    @CheckForNull
+    private AccessorTableGenerator accessorTableGenerator;
+
     private ClassLoader classLoader;
 
     @Override
@@ -91,7 +106,7 @@ public class LinkkiAnnotationProcessor extends AbstractProcessor {
 
     @Override
     public Set<String> getSupportedOptions() {
-        Stream<String> classpathOption = Stream.of("classpath");
+        Stream<String> classpathOption = Stream.of("classpath", GENERATE_ACCESSORS_OPTION);
 
         Stream<String> validatorOptions = validators.stream()
                 .map(Validator::getClass)
@@ -122,6 +137,9 @@ public class LinkkiAnnotationProcessor extends AbstractProcessor {
                             new BoundPropertyValidator(options, types),
                             new UITableColumnValidator(processingEnvironment),
                             new BindClearButtonValidator(processingEnvironment));
+        if (Boolean.parseBoolean(options.get(GENERATE_ACCESSORS_OPTION))) {
+            accessorTableGenerator = new AccessorTableGenerator(processingEnvironment);
+        }
     }
 
     private ClassLoader getClassLoader(Map<String, String> options) {
@@ -166,6 +184,7 @@ public class LinkkiAnnotationProcessor extends AbstractProcessor {
                             String qualifiedName = pmo.getElement().getQualifiedName().toString();
                             printExceptionInfo(messager, qualifiedName, t);
                         }
+                        generateAccessorTable(pmo.getElement(), messager);
                     });
         } finally {
             if (classLoader != getClass().getClassLoader() && classLoader instanceof URLClassLoader) {
@@ -180,6 +199,17 @@ public class LinkkiAnnotationProcessor extends AbstractProcessor {
         return true;
     }
 
+    private void generateAccessorTable(TypeElement pmoElement, Messager messager) {
+        AccessorTableGenerator generator = accessorTableGenerator;
+        if (generator != null && generator.isSupported(pmoElement)) {
+            try {
+                generator.generate(pmoElement);
+            } catch (IOException e) {
+                printExceptionInfo(messager, pmoElement.getQualifiedName().toString(), e);
+            }
+        }
+    }
+
     /**
      * Tells whether an {@link Element element} is public.
      * 
@@ -72,6 +72,7 @@ import org.linkki.core.ui.element.annotation.UITimeField;
 import org.linkki.core.ui.table.column.annotation.UITableColumn;
 import org.linkki.framework.ui.dialogs.UIOpenDialogButton;
 import org.linkki.tooling.apt.processor.LinkkiAnnotationProcessor;
+import org.linkki.util.reflection.accessor.PropertyAccessorTable;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 
@@ -105,7 +106,8 @@ public class TestCompiler {
      */
     public TestCompiler(boolean logOnConsole) throws IOException {
         this.classPathEntries.addAll(Stream.concat(Stream.of(TestCompiler.class,
-                                                             LinkkiAnnotationProcessor.class),
+                                                             LinkkiAnnotationProcessor.class,
+                                                             PropertyAccessorTable.class),
                                                    classOfUIComponents().stream())
                 .map(TestCompiler::classPathOf).collect(toSet()));
         this.logWriter = new LogWriter(logOnConsole);
@@ -201,6 +203,13 @@ public class TestCompiler {
         return file;
     }
 
+    /**
+     * Returns the directory the compiled classes and generated sources are written to.
+     */
+    public File getOutputDir() {
+        return outputDir;
+    }
+
     public String getLogs() {
         return logWriter.getLogs();
     }
@@ -0,0 +1,70 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.tooling.apt.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.annotation.processing.Processor;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.tooling.apt.processor.LinkkiAnnotationProcessor;
+import org.linkki.tooling.apt.validator.AbstractAnnotationProcessorTest;
+
+class AccessorTableGeneratorTest extends AbstractAnnotationProcessorTest {
+
+    private static final String PACKAGE_PATH = "org/linkki/tooling/apt/test/accessorTable/";
+
+    @Test
+    void testGenerate() throws IOException {
+        addLinkkiAptOption("generateAccessors", "true");
+
+        compile(List.of(getSourceFile("accessorTable/AccessorTablePmo.java")));
+
+        String table = readGenerated("AccessorTablePmo_LinkkiAccessors.java");
+        assertThat(table).contains("addReader(\"name\", java.lang.String.class, o -> o.getName());");
+        assertThat(table).contains("addWriter(\"name\", (o, v) -> o.setName((java.lang.String)v));");
+        assertThat(table).contains("addReader(\"nameEnabled\", boolean.class, o -> o.isNameEnabled());");
+        assertThat(table).contains("addInvoker(\"click\", o -> o.click());");
+        assertThat(Files.exists(getOutput("AccessorTablePmo_LinkkiAccessors.class"))).isTrue();
+        assertThat(Files.exists(getOutput("AccessorTablePmo_NestedPmo_LinkkiAccessors.class"))).isTrue();
+    }
+
+    @Test
+    void testGenerate_NotActivated() {
+        compile(List.of(getSourceFile("accessorTable/AccessorTablePmo.java")));
+
+        assertThat(Files.exists(getOutput("AccessorTablePmo_LinkkiAccessors.java"))).isFalse();
+    }
+
+    private String readGenerated(String fileName) throws IOException {
+        return Files.readString(getOutput(fileName), StandardCharsets.UTF_8);
+    }
+
+    private Path getOutput(String fileName) {
+        return getCompiler().getOutputDir().toPath().resolve(PACKAGE_PATH + fileName);
+    }
+
+    @Override
+    protected Processor createProcessor() {
+        return new LinkkiAnnotationProcessor();
+    }
+
+}
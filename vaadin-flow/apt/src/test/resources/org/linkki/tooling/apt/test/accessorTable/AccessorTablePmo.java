@@ -0,0 +1,59 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.tooling.apt.test.accessorTable;
+
+import org.linkki.core.ui.element.annotation.UIButton;
+import org.linkki.core.ui.element.annotation.UITextField;
+import org.linkki.core.ui.layout.annotation.UISection;
+
+@UISection
+public class AccessorTablePmo {
+
+    private String name = "";
+    private int clicks;
+
+    @UITextField(position = 10, label = "name")
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @UIButton(position = 20, label = "click")
+    public void click() {
+        clicks++;
+    }
+
+    public int getClicks() {
+        return clicks;
+    }
+
+    public boolean isNameEnabled() {
+        return clicks > 0;
+    }
+
+    @UISection
+    public static class NestedPmo {
+
+        @UITextField(position = 10, label = "value")
+        public String getValue() {
+            return "";
+        }
+
+    }
+
+}
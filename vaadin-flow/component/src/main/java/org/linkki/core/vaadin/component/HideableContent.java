@@ -0,0 +1,139 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.vaadin.component;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.linkki.util.handler.Handler;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentUtil;
+
+/**
+ * Shows and hides the content of container components that display only part of their content at a
+ * time, like the sheets of a tab layout or the content of a closable section.
+ * <p>
+ * While such a content is hidden, linkki does not update the bindings of the components inside.
+ * The skipped updates are caught up when the content is shown again using
+ * {@link #show(Component)}.
+ *
+ * @since 2.11.0
+ */
+public final class HideableContent {
+
+    private HideableContent() {
+        // utility class
+    }
+
+    /**
+     * Shows the given content and applies all handlers that were registered for it while it was
+     * hidden.
+     */
+    public static void show(Component content) {
+        requireNonNull(content, "content must not be null");
+        content.setVisible(true);
+        List<Handler> handlers = getShowHandlers(content).removeAll();
+        handlers.forEach(Handler::apply);
+    }
+
+    /**
+     * Hides the given content. The bindings of the components inside are not updated until the
+     * content is {@link #show(Component) shown} again.
+     */
+    public static void hide(Component content) {
+        requireNonNull(content, "content must not be null");
+        getShowHandlers(content);
+        content.setVisible(false);
+    }
+
+    /**
+     * Returns whether the given component is inside a content that was {@link #hide(Component)
+     * hidden}. If so, the given handler is applied once the content is {@link #show(Component)
+     * shown} again. The handler is only weakly referenced.
+     */
+    public static boolean isHiddenByParent(Component component, Handler onShow) {
+        requireNonNull(component, "component must not be null");
+        requireNonNull(onShow, "onShow must not be null");
+        Optional<Component> parent = component.getParent();
+        while (parent.isPresent()) {
+            Component content = parent.get();
+            ShowHandlers showHandlers = ComponentUtil.getData(content, ShowHandlers.class);
+            if (showHandlers != null && !content.isVisible()) {
+                showHandlers.add(onShow);
+                return true;
+            }
+            parent = content.getParent();
+        }
+        return false;
+    }
+
+    private static ShowHandlers getShowHandlers(Component content) {
+        ShowHandlers showHandlers = ComponentUtil.getData(content, ShowHandlers.class);
+        if (showHandlers == null) {
+            showHandlers = new ShowHandlers();
+            ComponentUtil.setData(content, ShowHandlers.class, showHandlers);
+        }
+        return showHandlers;
+    }
+
+    /**
+     * The handlers that are applied when a content is shown. Its presence marks a component as
+     * hideable content.
+     * <p>
+     * As it is stored in the component data, it is serialized with the session. The handlers are
+     * not serialized, which is harmless as they are registered again with the next update of the
+     * bindings.
+     */
+    private static final class ShowHandlers implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private transient Set<Handler> handlers = createHandlerSet();
+
+        private static Set<Handler> createHandlerSet() {
+            return Collections.newSetFromMap(new WeakHashMap<>());
+        }
+
+        @Serial
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            handlers = createHandlerSet();
+        }
+
+        void add(Handler handler) {
+            handlers.add(handler);
+        }
+
+        List<Handler> removeAll() {
+            List<Handler> result = new ArrayList<>(handlers);
+            handlers.clear();
+            return result;
+        }
+
+    }
+
+}
@@ -23,6 +23,7 @@ import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang3.StringUtils;
+import org.linkki.core.vaadin.component.HideableContent;
 import org.linkki.util.LazyReference;
 
 import com.vaadin.flow.component.Component;
@@ -118,7 +119,7 @@ public class LinkkiTabSheet {
         if (!content.getParent().isPresent()) {
             contentWrapper.add(content);
         }
-        content.setVisible(true);
+        HideableContent.show(content);
         TabSheetSelectionChangeEvent tabSelectedEvent = new TabSheetSelectionChangeEvent(e, this);
         fireTabSheetSelectionChangeEvent(tabSelectedEvent);
         callAfterSelectionObserver(tabSelectedEvent);
@@ -153,7 +154,7 @@ public class LinkkiTabSheet {
     }
 
     protected void unselect() {
-        getContent().setVisible(false);
+        HideableContent.hide(getContent());
     }
 
     @Override
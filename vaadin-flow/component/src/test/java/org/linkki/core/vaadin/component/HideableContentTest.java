@@ -0,0 +1,109 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.vaadin.component;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.util.handler.Handler;
+
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.html.Span;
+
+class HideableContentTest {
+
+    @Test
+    void testIsHiddenByParent() {
+        Span component = new Span();
+        Div content = new Div(new Div(component));
+        Handler onShow = mock(Handler.class);
+
+        assertThat(HideableContent.isHiddenByParent(component, onShow), is(false));
+
+        HideableContent.hide(content);
+
+        assertThat(content.isVisible(), is(false));
+        assertThat(HideableContent.isHiddenByParent(component, onShow), is(true));
+        verifyNoInteractions(onShow);
+    }
+
+    @Test
+    void testIsHiddenByParent_OtherInvisibleParent() {
+        Span component = new Span();
+        Div parent = new Div(component);
+        parent.setVisible(false);
+
+        assertThat(HideableContent.isHiddenByParent(component, mock(Handler.class)), is(false));
+    }
+
+    @Test
+    void testShow() {
+        Span component = new Span();
+        Div content = new Div(component);
+        Handler onShow = mock(Handler.class);
+        HideableContent.hide(content);
+        HideableContent.isHiddenByParent(component, onShow);
+
+        HideableContent.show(content);
+
+        assertThat(content.isVisible(), is(true));
+        assertThat(HideableContent.isHiddenByParent(component, onShow), is(false));
+        verify(onShow).apply();
+
+        HideableContent.hide(content);
+        HideableContent.show(content);
+
+        verify(onShow).apply();
+    }
+
+    @Test
+    void testSerialization() throws IOException, ClassNotFoundException {
+        Div content = new Div(new Span());
+        HideableContent.hide(content);
+        HideableContent.isHiddenByParent(content.getChildren().findFirst().get(), () -> {
+            // not serializable
+        });
+
+        Div deserializedContent = serializeAndDeserialize(content);
+
+        Span component = (Span)deserializedContent.getChildren().findFirst().get();
+        Handler onShow = mock(Handler.class);
+        assertThat(HideableContent.isHiddenByParent(component, onShow), is(true));
+        HideableContent.show(deserializedContent);
+        verify(onShow).apply();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T serializeAndDeserialize(T object) throws IOException, ClassNotFoundException {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T)in.readObject();
+        }
+    }
+
+}
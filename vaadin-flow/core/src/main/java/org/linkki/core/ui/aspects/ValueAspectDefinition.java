@@ -16,6 +16,7 @@ package org.linkki.core.ui.aspects;
 
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
@@ -50,6 +51,10 @@ import edu.umd.cs.findbugs.annotations.CheckForNull;
  * <p>
  * This aspect definition does not use any converter. Extend this class and override
  * {@link #getConverter(Type, Type)} to add converters to the field.
+ * <p>
+ * The converter is resolved once when the binding is created. The {@link ValueContext} for the
+ * conversion is created by {@link #getValueContext(HasValue)} and reused for the binding until the
+ * {@link UiFramework#getLocale() locale} changes.
  */
 public class ValueAspectDefinition implements LinkkiAspectDefinition {
 
@@ -57,6 +62,22 @@ public class ValueAspectDefinition implements LinkkiAspectDefinition {
 
     public static final String NAME = LinkkiAspectDefinition.VALUE_ASPECT_NAME;
 
+    /**
+     * The value type of the fields, resolved once per field class. The type is {@link Optional#empty()
+     * empty} if it cannot be determined, for example if the field class is generic.
+     */
+    private static final ClassValue<Optional<Type>> PRESENTATION_TYPES = new ClassValue<>() {
+
+        @Override
+        protected Optional<Type> computeValue(Class<?> fieldClass) {
+            Map<TypeVariable<?>, Type> typeArguments = TypeUtils.getTypeArguments(fieldClass, HasValue.class);
+            @SuppressWarnings("rawtypes")
+            TypeVariable<Class<HasValue>>[] typeVariables = HasValue.class.getTypeParameters();
+            return Optional.ofNullable(typeArguments.get(typeVariables[1]));
+        }
+
+    };
+
     @CheckForNull
     private final Converter<?, ?> fixConverter;
 
@@ -84,10 +105,11 @@ public class ValueAspectDefinition implements LinkkiAspectDefinition {
         }
 
         Converter<Object, Object> converter = getConverter(propertyDispatcher, field);
+        var valueContext = new CachedValueContext(field);
 
         field.addValueChangeListener(event -> {
             if (event.isFromClient()) {
-                Result<?> result = converter.convertToModel(event.getValue(), getValueContext(field));
+                Result<?> result = converter.convertToModel(event.getValue(), valueContext.get());
                 result.ifOk(v -> {
                     propertyDispatcher.push(Aspect.of(NAME, v));
                     // clear validation - only necessary if there is no BindingManager which always
@@ -110,12 +132,9 @@ public class ValueAspectDefinition implements LinkkiAspectDefinition {
                                                  value != null ? value.toString() : "null")));
     }
 
+    @CheckForNull
     private Type getTypeOf(HasValue<?, ?> field) {
-        Map<TypeVariable<?>, Type> typeArguments = TypeUtils.getTypeArguments(field.getClass(),
-                                                                              HasValue.class);
-        @SuppressWarnings("rawtypes")
-        TypeVariable<Class<HasValue>>[] typeVariables = HasValue.class.getTypeParameters();
-        return typeArguments.get(typeVariables[1]);
+        return PRESENTATION_TYPES.get(field.getClass()).orElse(null);
     }
 
     @SuppressWarnings("unchecked")
@@ -129,9 +148,10 @@ public class ValueAspectDefinition implements LinkkiAspectDefinition {
         @SuppressWarnings("unchecked")
         HasValue<?, Object> field = (HasValue<?, Object>)componentWrapper.getComponent();
         Converter<Object, Object> converter = getConverter(propertyDispatcher, field);
+        var valueContext = new CachedValueContext(field);
         return () -> {
             Object value = propertyDispatcher.pull(Aspect.of(NAME));
-            var convertedValue = converter.convertToPresentation(value, getValueContext(field));
+            var convertedValue = converter.convertToPresentation(value, valueContext.get());
             if (convertedValue != null) {
                 field.setValue(convertedValue);
             } else {
@@ -140,8 +160,17 @@ public class ValueAspectDefinition implements LinkkiAspectDefinition {
         };
     }
 
+    /**
+     * Creates the {@link ValueContext} that is used to convert the value of the given field. The
+     * context is reused for all conversions of the field until the {@link UiFramework#getLocale()
+     * locale} changes.
+     * <p>
+     * The context does not contain a {@link Binder} as linkki does not use Vaadin's {@link Binder}
+     * and an empty one would be held for the lifetime of the binding. Override this method if a
+     * converter needs a {@link Binder} from the context.
+     */
     protected ValueContext getValueContext(HasValue<?, Object> source) {
-        return new ValueContext(new Binder<>(), (Component)source, source, UiFramework.getLocale());
+        return new ValueContext((Component)source, source, UiFramework.getLocale());
     }
 
     /**
@@ -167,4 +196,35 @@ public class ValueAspectDefinition implements LinkkiAspectDefinition {
         }
     }
 
+    /**
+     * Holds the {@link ValueContext} of one field and creates a new one only if the locale has
+     * changed, so that no {@link ValueContext} is created for every conversion.
+     */
+    private final class CachedValueContext {
+
+        private final HasValue<?, Object> field;
+
+        @CheckForNull
+        private Locale locale;
+
+        @CheckForNull
+        private ValueContext valueContext;
+
+        CachedValueContext(HasValue<?, Object> field) {
+            this.field = field;
+        }
+
+        ValueContext get() {
+            Locale currentLocale = UiFramework.getLocale();
+            ValueContext result = valueContext;
+            if (result == null || !currentLocale.equals(locale)) {
+                result = getValueContext(field);
+                valueContext = result;
+                locale = currentLocale;
+            }
+            return result;
+        }
+
+    }
+
 }
@@ -15,17 +15,13 @@ package org.linkki.core.ui.converters;
 
 import static java.util.Objects.requireNonNull;
 import static org.linkki.core.ui.converters.FormattedStringToNumberConverter.getLocale;
-import static org.linkki.core.ui.converters.FormattedStringToNumberConverter.getNumberFormat;
 
 import java.io.Serial;
 import java.text.DecimalFormat;
-import java.text.NumberFormat;
 import java.text.ParseException;
-import java.util.HashMap;
-import java.util.Locale;
-import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
+import org.linkki.util.NumberFormats;
 
 import com.vaadin.flow.data.binder.Result;
 import com.vaadin.flow.data.binder.ValueContext;
@@ -46,7 +42,6 @@ public abstract class FormattedNumberToStringConverter<T extends Number> impleme
     private static final long serialVersionUID = -872944068146887949L;
 
     private final String format;
-    private final Map<Locale, NumberFormat> formats = new HashMap<>();
 
     public FormattedNumberToStringConverter(String format) {
         this.format = requireNonNull(format, "format must not be null");
@@ -59,7 +54,7 @@ public abstract class FormattedNumberToStringConverter<T extends Number> impleme
         }
         try {
             return Result
-                    .ok(convertToModel(getNumberFormat(formats, format, getLocale(context)).parse(value)));
+                    .ok(convertToModel(NumberFormats.getFormat(format, getLocale(context)).parse(value)));
         } catch (ParseException e) {
             return Result.error("Cannot parse '" + value + "' to format '" + format + "')");
         }
@@ -75,7 +70,7 @@ public abstract class FormattedNumberToStringConverter<T extends Number> impleme
         if (value == null) {
             return getEmptyPresentation(context);
         } else {
-            return getNumberFormat(formats, format, getLocale(context)).format(value);
+            return NumberFormats.getFormat(format, getLocale(context)).format(value);
         }
     }
 
@@ -20,12 +20,12 @@ import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.linkki.core.uiframework.UiFramework;
+import org.linkki.util.NumberFormats;
 
 import com.vaadin.flow.component.HasValue;
 import com.vaadin.flow.data.binder.Result;
@@ -36,8 +36,12 @@ import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
  * Converter for {@link Number numbers} that takes a format into count while converting.
+ * <p>
+ * The converter does not hold any {@link NumberFormat} itself. The formats are provided by
+ * {@link NumberFormats}, so a converter instance can be shared between threads.
  * 
  * @see DecimalFormat
+ * @see NumberFormats
  */
 public abstract class FormattedStringToNumberConverter<T extends Number> implements Converter<String, T> {
 
@@ -45,7 +49,6 @@ public abstract class FormattedStringToNumberConverter<T extends Number> impleme
     private static final long serialVersionUID = -872944068146887949L;
 
     private final String format;
-    private final Map<Locale, NumberFormat> formats = new HashMap<>();
 
     protected FormattedStringToNumberConverter(String format) {
         this.format = requireNonNull(format, "format must not be null");
@@ -57,7 +60,7 @@ public abstract class FormattedStringToNumberConverter<T extends Number> impleme
             return Result.ok(getNullValue());
         }
         try {
-            return convertToModel(getNumberFormat(formats, format, getLocale(context)).parse(value));
+            return convertToModel(NumberFormats.getFormat(format, getLocale(context)).parse(value));
         } catch (ParseException e) {
             return Result.error("Cannot parse '" + value + "' to format '" + format + "')");
         } catch (NumberFormatException numberFormatException) {
@@ -75,7 +78,7 @@ public abstract class FormattedStringToNumberConverter<T extends Number> impleme
         if (value == null) {
             return getEmptyPresentation(context);
         } else {
-            return getNumberFormat(formats, format, getLocale(context)).format(value);
+            return NumberFormats.getFormat(format, getLocale(context)).format(value);
         }
     }
 
@@ -83,6 +86,11 @@ public abstract class FormattedStringToNumberConverter<T extends Number> impleme
         return context.getHasValue().map(HasValue::getEmptyValue).map(Object::toString).orElse("");
     }
 
+    /**
+     * @deprecated use {@link NumberFormats#getFormat(String, Locale)} instead, which does not need a
+     *             map per converter and returns a format that is not shared between threads
+     */
+    @Deprecated(since = "2.11.0")
     public static NumberFormat getNumberFormat(Map<Locale, NumberFormat> formats, String format, Locale locale) {
         return formats.computeIfAbsent(locale, l -> {
             if (StringUtils.isEmpty(format)) {
@@ -22,11 +22,13 @@ import java.lang.reflect.TypeVariable;
 import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.reflect.TypeUtils;
@@ -52,6 +54,11 @@ import edu.umd.cs.findbugs.annotations.CheckForNull;
  * with additional converters which would be set before the default converters. That means if the
  * registry is initiated with a custom converter which has the same types as an existing one, the
  * custom converter is used with higher priority.
+ * <p>
+ * A registry is immutable and can be shared between sessions. The converters are stored by their
+ * presentation and model type when the registry is created. Converters that are found for a
+ * subtype of a registered model type are cached in a concurrent map, so every combination of types
+ * is only resolved once.
  */
 public class LinkkiConverterRegistry implements Serializable {
 
@@ -92,7 +99,9 @@ public class LinkkiConverterRegistry implements Serializable {
     public static final LinkkiConverterRegistry DEFAULT = new LinkkiConverterRegistry();
     // CSOON: Declaration
 
-    private final HashMap<Class<?>, Map<Class<?>, Converter<?, ?>>> converters = new HashMap<>();
+    private final Map<Class<?>, Map<Class<?>, Converter<?, ?>>> converters;
+
+    private final Map<ConverterTypes, Converter<?, ?>> resolvedConverters = new ConcurrentHashMap<>();
 
     /**
      * Creates a new {@link LinkkiConverterRegistry} with all default converters.
@@ -114,17 +123,21 @@ public class LinkkiConverterRegistry implements Serializable {
      */
     public LinkkiConverterRegistry(Collection<Converter<?, ?>> customConverters) {
         requireNonNull(customConverters, "customConverters must not be null");
-        DEFAULT_CONVERTERS.stream().forEach(this::storeConverter);
-        customConverters.stream().forEach(this::storeConverter);
+        var convertersByType = new HashMap<Class<?>, Map<Class<?>, Converter<?, ?>>>();
+        DEFAULT_CONVERTERS.stream().forEach(c -> storeConverter(convertersByType, c));
+        customConverters.stream().forEach(c -> storeConverter(convertersByType, c));
+        convertersByType.replaceAll((presentationType, byModelType) -> Collections.unmodifiableMap(byModelType));
+        this.converters = Collections.unmodifiableMap(convertersByType);
     }
 
     public LinkkiConverterRegistry(Sequence<Converter<?, ?>> customConverters) {
         this(customConverters.list());
     }
 
-    private void storeConverter(Converter<?, ?> converter) {
-        converters.computeIfAbsent(getPresentationType(converter),
-                                   p -> new LinkedHashMap<>())
+    private static void storeConverter(Map<Class<?>, Map<Class<?>, Converter<?, ?>>> convertersByType,
+            Converter<?, ?> converter) {
+        convertersByType.computeIfAbsent(getPresentationType(converter),
+                                         p -> new LinkedHashMap<>())
                 .put(getModelType(converter), converter);
     }
 
@@ -160,10 +173,15 @@ public class LinkkiConverterRegistry implements Serializable {
             var byPresentationType = converters.get(rawPresentationType);
 
             if (byPresentationType != null) {
-                return (Converter<P, M>)byPresentationType
-                        .computeIfAbsent(rawModelType,
-                                         mt -> findNextByPresentationType(byPresentationType.values(),
-                                                                          rawPresentationType, mt));
+                var converter = byPresentationType.get(rawModelType);
+                if (converter == null) {
+                    converter = resolvedConverters
+                            .computeIfAbsent(new ConverterTypes(rawPresentationType, rawModelType),
+                                             types -> findNextByPresentationType(byPresentationType.values(),
+                                                                                 types.presentationType(),
+                                                                                 types.modelType()));
+                }
+                return (Converter<P, M>)converter;
             } else {
                 throw new IllegalArgumentException(
                         "Cannot convert presentation type " + presentationType + " to model type "
@@ -173,7 +191,7 @@ public class LinkkiConverterRegistry implements Serializable {
 
     }
 
-    private Converter<?, ?> findNextByPresentationType(
+    private static Converter<?, ?> findNextByPresentationType(
             Collection<Converter<?, ?>> convertersByPresentationType,
             Type presentationType,
             Type modelType) {
@@ -198,7 +216,7 @@ public class LinkkiConverterRegistry implements Serializable {
      * use identity than nothing</li>
      * </ul>
      */
-    private boolean isIdentityNecessary(@CheckForNull Class<?> rawPresentationType,
+    private static boolean isIdentityNecessary(@CheckForNull Class<?> rawPresentationType,
             @CheckForNull Class<?> rawModelType) {
         // CSOFF: Complexity
         return rawPresentationType == null
@@ -209,22 +227,22 @@ public class LinkkiConverterRegistry implements Serializable {
     }
 
     @CheckForNull
-    private Class<?> getRawType(@CheckForNull Type type) {
+    private static Class<?> getRawType(@CheckForNull Type type) {
         return ClassUtils.primitiveToWrapper(TypeUtils.getRawType(type, null));
     }
 
     @CheckForNull
-    private Class<?> getPresentationType(Converter<?, ?> converter) {
+    private static Class<?> getPresentationType(Converter<?, ?> converter) {
         return getTypeOf(converter, 0);
     }
 
     @CheckForNull
-    private Class<?> getModelType(Converter<?, ?> converter) {
+    private static Class<?> getModelType(Converter<?, ?> converter) {
         return getTypeOf(converter, 1);
     }
 
     @CheckForNull
-    private Class<?> getTypeOf(Converter<?, ?> converter, int index) {
+    private static Class<?> getTypeOf(Converter<?, ?> converter, int index) {
         Map<TypeVariable<?>, Type> typeArguments = TypeUtils.getTypeArguments(converter.getClass(),
                                                                               Converter.class);
         @SuppressWarnings("rawtypes")
@@ -263,4 +281,10 @@ public class LinkkiConverterRegistry implements Serializable {
                 .orElse(LinkkiConverterRegistry.DEFAULT);
     }
 
+    /**
+     * The key of a converter that was resolved for a model type that has no registered converter.
+     */
+    private record ConverterTypes(Class<?> presentationType, Class<?> modelType) implements Serializable {
+    }
+
 }
@@ -17,10 +17,7 @@ package org.linkki.core.ui.converters;
 import java.io.Serial;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
-import java.time.format.FormatStyle;
-import java.util.Locale;
 
 import org.linkki.core.uiframework.UiFramework;
 import org.linkki.util.DateFormats;
@@ -61,10 +58,6 @@ public class LocalDateTimeToStringConverter implements Converter<String, LocalDa
     }
 
     private DateTimeFormatter getFormatter(ValueContext context) {
-        Locale locale = context.getLocale().orElse(UiFramework.getLocale());
-        return new DateTimeFormatterBuilder().append(DateTimeFormatter.ofPattern(DateFormats.getPattern(locale)))
-                .appendLiteral(' ')
-                .append(DateTimeFormatter.ofLocalizedTime(FormatStyle.SHORT))
-                .toFormatter(locale);
+        return DateFormats.getDateTimeFormatter(context.getLocale().orElse(UiFramework.getLocale()));
     }
 }
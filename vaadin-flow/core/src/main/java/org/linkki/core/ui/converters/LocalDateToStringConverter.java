@@ -59,7 +59,6 @@ public class LocalDateToStringConverter implements Converter<String, LocalDate>
     }
 
     private DateTimeFormatter getFormatter(ValueContext context) {
-        return DateTimeFormatter.ofPattern(DateFormats
-                .getPattern(context.getLocale().orElse(UiFramework.getLocale())));
+        return DateFormats.getFormatter(context.getLocale().orElse(UiFramework.getLocale()));
     }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.ui.creation.table;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.grid.Grid;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Keeps track of the cell components that are currently rendered in a {@link Grid}. When the items
+ * of the grid are replaced, Vaadin destroys all rendered cell components. The components of rows
+ * that are still displayed afterwards can be {@link #retain(Collection) retained}, so that they are
+ * reused instead of being created and bound again.
+ * <p>
+ * Rows are identified by identity, as the cell components are bound to the row instance.
+ */
+final class CellComponentCache implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Grid<?> grid;
+
+    private final Map<Object, Map<Object, Component>> rendered = new IdentityHashMap<>();
+
+    private Map<Object, Map<Object, Component>> retained = new IdentityHashMap<>();
+
+    private CellComponentCache(Grid<?> grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Creates a {@link CellComponentCache} for the given grid. Only cell components of columns that
+     * are created afterwards are tracked.
+     */
+    static CellComponentCache install(Grid<?> grid) {
+        var cache = new CellComponentCache(grid);
+        ComponentUtil.setData(grid, CellComponentCache.class, cache);
+        return cache;
+    }
+
+    /**
+     * Returns the {@link CellComponentCache} of the given grid if one was
+     * {@link #install(Grid) installed}.
+     */
+    static Optional<CellComponentCache> find(Grid<?> grid) {
+        return Optional.ofNullable(ComponentUtil.getData(grid, CellComponentCache.class));
+    }
+
+    /**
+     * Returns the retained component of the given row and column, or creates a new one.
+     * 
+     * @param row the row
+     * @param column any object identifying the column
+     * @param componentCreator creates the component if there is no retained one
+     */
+    Component getOrCreate(Object row, Object column, Supplier<Component> componentCreator) {
+        Component component = removeRetained(row, column);
+        if (component == null) {
+            Component newComponent = componentCreator.get();
+            newComponent.addDetachListener(e -> removeRendered(row, column, newComponent));
+            component = newComponent;
+        }
+        rendered.computeIfAbsent(row, r -> new IdentityHashMap<>(4)).put(column, component);
+        return component;
+    }
+
+    @CheckForNull
+    private Component removeRetained(Object row, Object column) {
+        var components = retained.get(row);
+        return components != null ? components.remove(column) : null;
+    }
+
+    private void removeRendered(Object row, Object column, Component component) {
+        var components = rendered.get(row);
+        if (components != null && components.remove(column, component) && components.isEmpty()) {
+            rendered.remove(row);
+        }
+    }
+
+    /**
+     * Retains the currently rendered components of the given rows until the grid has rendered its
+     * items again, which happens before the next response is sent to the client. The components
+     * of all other rows are released.
+     */
+    void retain(Collection<?> rows) {
+        Set<Object> rowSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        rowSet.addAll(rows);
+        rendered.keySet().retainAll(rowSet);
+        retained = new IdentityHashMap<>();
+        rendered.forEach((row, components) -> retained.put(row, new IdentityHashMap<>(components)));
+        // the grid renders its items before the client response, so the retained components are
+        // released in a second step after all executions that were registered before
+        grid.getUI().ifPresentOrElse(ui -> ui.beforeClientResponse(grid, ctx -> ui
+                .beforeClientResponse(grid, ctx2 -> retained.clear())),
+                                     retained::clear);
+    }
+
+    /* private */ int getRenderedRowCount() {
+        return rendered.size();
+    }
+
+}
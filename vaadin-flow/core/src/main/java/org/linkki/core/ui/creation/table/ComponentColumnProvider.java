@@ -16,11 +16,12 @@ package org.linkki.core.ui.creation.table;
 
 import static java.util.Objects.requireNonNull;
 
-import java.lang.reflect.Method;
+import java.util.function.Function;
 
 import org.linkki.core.binding.BindingContext;
 import org.linkki.core.binding.wrapper.WrapperType;
 import org.linkki.core.ui.wrapper.NoLabelComponentWrapper;
+import org.linkki.core.uicreation.PmoMetamodel.MethodDefinition;
 import org.linkki.core.uicreation.UiCreator;
 
 import com.vaadin.flow.component.Component;
@@ -28,25 +29,58 @@ import com.vaadin.flow.component.HasSize;
 import com.vaadin.flow.component.HasValue;
 import com.vaadin.flow.function.ValueProvider;
 
-/** Column generator that generates a column for a field of a PMO. */
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Column generator that generates a column for a field of a PMO.
+ * <p>
+ * The {@link MethodDefinition} of the column is resolved once when the column is created. For every
+ * row only the instance specific work, creating the component and binding it to the row PMO, is
+ * done.
+ */
 class ComponentColumnProvider<ROW> implements ValueProvider<ROW, Component> {
 
     private static final long serialVersionUID = 1L;
 
-    private final Method method;
+    private static final Function<Component, NoLabelComponentWrapper> WRAPPER_CREATOR =
+            c -> new NoLabelComponentWrapper(c, WrapperType.FIELD);
+
+    private final MethodDefinition methodDefinition;
     private final BindingContext bindingContext;
 
-    public ComponentColumnProvider(Method method,
+    @CheckForNull
+    private final CellComponentCache cellComponentCache;
+
+    public ComponentColumnProvider(MethodDefinition methodDefinition,
             BindingContext bindingContext) {
-        this.method = requireNonNull(method, "method must not be null");
+        this(methodDefinition, bindingContext, null);
+    }
+
+    /**
+     * Creates a column provider that reuses the cell components retained by the given
+     * {@link CellComponentCache}.
+     */
+    public ComponentColumnProvider(MethodDefinition methodDefinition,
+            BindingContext bindingContext,
+            @CheckForNull CellComponentCache cellComponentCache) {
+        this.methodDefinition = requireNonNull(methodDefinition, "methodDefinition must not be null");
         this.bindingContext = requireNonNull(bindingContext, "bindingContext must not be null");
+        this.cellComponentCache = cellComponentCache;
     }
 
     @Override
     public Component apply(ROW source) {
+        if (cellComponentCache != null) {
+            return cellComponentCache.getOrCreate(source, this, () -> createComponent(source));
+        } else {
+            return createComponent(source);
+        }
+    }
+
+    private Component createComponent(ROW source) {
         NoLabelComponentWrapper wrapper = UiCreator
-                .createUiElement(method, source, bindingContext,
-                                 c -> new NoLabelComponentWrapper((Component)c, WrapperType.FIELD));
+                .createUiElement(methodDefinition.getElementDefinition(source), source, bindingContext,
+                                 WRAPPER_CREATOR);
         Component component = wrapper.getComponent();
 
         if (component instanceof HasValue && component instanceof HasSize) {
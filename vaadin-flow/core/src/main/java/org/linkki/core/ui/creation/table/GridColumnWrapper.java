@@ -14,6 +14,8 @@
 
 package org.linkki.core.ui.creation.table;
 
+import java.util.Optional;
+
 import org.apache.commons.lang3.StringUtils;
 import org.linkki.core.binding.wrapper.WrapperType;
 import org.linkki.core.ui.table.column.annotation.UITableColumn;
@@ -22,6 +24,7 @@ import org.linkki.core.ui.wrapper.VaadinComponentWrapper;
 
 import com.vaadin.flow.component.ComponentUtil;
 import com.vaadin.flow.component.grid.Grid.Column;
+import com.vaadin.flow.function.ValueProvider;
 
 /**
  * Wrapper for the grid column. The label of the column wrapper is defined as the column header.
@@ -30,6 +33,7 @@ public class GridColumnWrapper extends VaadinComponentWrapper {
 
     public static final WrapperType COLUMN_TYPE = WrapperType.of("column-header");
     public static final String KEY_HEADER = "header";
+    private static final String KEY_SORT_KEY = "sortKey";
 
     private static final long serialVersionUID = 1L;
 
@@ -93,6 +97,32 @@ public class GridColumnWrapper extends VaadinComponentWrapper {
         }
     }
 
+    /**
+     * Makes the column sortable by the given sort key. Sort keys are compared by their natural
+     * order, <code>null</code> is sorted last.
+     * <p>
+     * The sort key is also registered at the column, so that a {@link GridComponentWrapper} can
+     * extract the sort key only once per row instead of for every comparison.
+     * 
+     * @param sortKey extracts the sort key from a row
+     * 
+     * @since 2.11.0
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public <ROW> void setSortKey(ValueProvider<ROW, ? extends Comparable<?>> sortKey) {
+        ((Column)getComponent()).setComparator((ValueProvider)sortKey);
+        ComponentUtil.setData(getComponent(), KEY_SORT_KEY, sortKey);
+    }
+
+    /**
+     * Returns the sort key that was registered using {@link #setSortKey(ValueProvider)}.
+     */
+    @SuppressWarnings("unchecked")
+    static <ROW> Optional<ValueProvider<ROW, ? extends Comparable<?>>> getSortKey(Column<ROW> column) {
+        return Optional.ofNullable((ValueProvider<ROW, ? extends Comparable<?>>)ComponentUtil
+                .getData(column, KEY_SORT_KEY));
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" + getComponent().getGrid().getId() + "#" + getComponent().getId()
@@ -19,6 +19,7 @@ import java.util.Optional;
 
 import org.linkki.core.binding.BindingContext;
 import org.linkki.core.defaults.columnbased.pmo.ContainerPmo;
+import org.linkki.core.defaults.columnbased.pmo.LazyContainerPmo;
 import org.linkki.core.ui.ComponentStyles;
 import org.linkki.core.uicreation.UiCreator;
 
@@ -64,10 +65,18 @@ public class GridComponentCreator {
      */
     public static AbstractGridComponentWrapper<?> createComponentWrapper(ContainerPmo<?> containerPmo,
             Object grid) {
-        if (containerPmo.isHierarchical()) {
-            return new TreeGridComponentWrapper<>((TreeGrid<?>)grid);
+        if (containerPmo instanceof LazyContainerPmo<?> lazyContainerPmo) {
+            return createLazyComponentWrapper(lazyContainerPmo, grid);
+        } else if (containerPmo.isHierarchical()) {
+            return new TreeGridComponentWrapper<>((TreeGrid<?>)grid, containerPmo.isHierarchyLazy());
         } else {
             return new GridComponentWrapper<>((Grid<?>)grid);
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private static <ROW> LazyGridComponentWrapper<ROW> createLazyComponentWrapper(LazyContainerPmo<ROW> containerPmo,
+            Object grid) {
+        return new LazyGridComponentWrapper<>((Grid<ROW>)grid, containerPmo);
+    }
 }
\ No newline at end of file
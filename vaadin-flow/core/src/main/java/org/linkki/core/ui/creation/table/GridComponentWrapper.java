@@ -22,7 +22,7 @@ import org.linkki.core.defaults.columnbased.pmo.TableFooterPmo;
 
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.Grid.Column;
-import com.vaadin.flow.data.provider.ListDataProvider;
+import com.vaadin.flow.data.provider.DataProvider;
 
 /**
  * Wraps a vaadin {@link Grid}.
@@ -35,9 +35,12 @@ public class GridComponentWrapper<ROW> extends AbstractGridComponentWrapper<ROW>
 
     private final List<ROW> items = new ArrayList<>();
 
+    private final CellComponentCache cellComponentCache;
+
     public GridComponentWrapper(Grid<ROW> grid) {
         super(grid);
-        grid.setItems(new ListDataProvider<>(items));
+        grid.setItems(new SortKeyListDataProvider<>(items, grid::getSortOrder));
+        cellComponentCache = CellComponentCache.install(grid);
     }
 
     @Override
@@ -69,14 +72,23 @@ public class GridComponentWrapper<ROW> extends AbstractGridComponentWrapper<ROW>
     /**
      * Sets the items displayed in the {@link Grid} by updating the items in the data provider if
      * the given items are not the ones currently displayed.
+     * <p>
+     * If only single items were replaced by {@link Object#equals(Object) equal} instances, only
+     * these items are {@link DataProvider#refreshItem(Object) refreshed}. If items were added,
+     * removed or moved, all items are refreshed, but the cell components of the rows that are
+     * still displayed are reused instead of being created again. In both cases the scroll position
+     * and the selection are kept.
      */
     @Override
     public void setItems(List<ROW> newItems) {
         if (hasItemListChanged(newItems)) {
+            cellComponentCache.retain(newItems);
             items.clear();
             items.addAll(newItems);
             getComponent().getDataProvider().refreshAll();
             getComponent().getElement().setAttribute("has-items", !newItems.isEmpty());
+        } else {
+            refreshReplacedItems(newItems);
         }
     }
 
@@ -84,4 +96,14 @@ public class GridComponentWrapper<ROW> extends AbstractGridComponentWrapper<ROW>
         return !this.items.equals(newItems);
     }
 
+    private void refreshReplacedItems(List<ROW> newItems) {
+        for (int i = 0; i < newItems.size(); i++) {
+            ROW newItem = newItems.get(i);
+            if (items.get(i) != newItem) {
+                items.set(i, newItem);
+                getComponent().getDataProvider().refreshItem(newItem);
+            }
+        }
+    }
+
 }
@@ -14,13 +14,12 @@
 
 package org.linkki.core.ui.creation.table;
 
-import java.lang.reflect.Method;
-
 import org.linkki.core.binding.BindingContext;
 import org.linkki.core.binding.descriptor.BindingDescriptor;
 import org.linkki.core.binding.descriptor.aspect.LinkkiAspectDefinition;
 import org.linkki.core.defaults.columnbased.pmo.ContainerPmo;
-import org.linkki.core.uicreation.ComponentAnnotationReader;
+import org.linkki.core.uicreation.PmoMetamodel;
+import org.linkki.core.uicreation.PmoMetamodel.MethodDefinition;
 import org.linkki.core.uicreation.layout.LinkkiLayoutDefinition;
 
 import com.vaadin.flow.component.grid.Grid;
@@ -40,8 +39,9 @@ public class GridLayoutDefinition implements LinkkiLayoutDefinition {
     private void createColumns(ContainerPmo<?> containerPmo,
             Grid<?> grid,
             BindingContext bindingContext) {
-        Class<?> rowPmoClass = containerPmo.getItemPmoClass();
-        ComponentAnnotationReader.getComponentDefinitionMethods(rowPmoClass)
+        var rowMetamodel = PmoMetamodel.of(containerPmo.getItemPmoClass());
+        rowMetamodel.getComponentDefinitionMethods()
+                .map(rowMetamodel::getMethodDefinition)
                 .forEach(m -> initColumn(containerPmo, grid, bindingContext, m));
     }
 
@@ -53,17 +53,20 @@ public class GridLayoutDefinition implements LinkkiLayoutDefinition {
     private void initColumn(ContainerPmo<?> containerPmo,
             Grid<?> grid,
             BindingContext bindingContext,
-            Method m) {
-        var bindingDescriptor = BindingDescriptor.forMethod(m);
-        Column<?> column = createComponentColumn(m, grid, bindingContext);
+            MethodDefinition methodDefinition) {
+        var bindingDescriptor = BindingDescriptor.forMethod(methodDefinition.getMethod());
+        Column<?> column = createComponentColumn(methodDefinition, grid, bindingContext);
         column.setKey(bindingDescriptor.getBoundProperty().getPmoProperty());
         column.setResizable(true);
         bindingContext.bind(containerPmo.getItemPmoClass(), bindingDescriptor,
                             new GridColumnWrapper(column));
     }
 
-    private <ROW> Column<ROW> createComponentColumn(Method m, Grid<ROW> grid, BindingContext bindingContext) {
-        ComponentColumnProvider<ROW> columnGen = new ComponentColumnProvider<>(m, bindingContext);
+    private <ROW> Column<ROW> createComponentColumn(MethodDefinition methodDefinition,
+            Grid<ROW> grid,
+            BindingContext bindingContext) {
+        ComponentColumnProvider<ROW> columnGen = new ComponentColumnProvider<>(methodDefinition, bindingContext,
+                CellComponentCache.find(grid).orElse(null));
         if (grid instanceof TreeGrid && grid.getColumns().size() == 0) {
             return ((TreeGrid<ROW>)grid).addComponentHierarchyColumn(columnGen);
         } else {
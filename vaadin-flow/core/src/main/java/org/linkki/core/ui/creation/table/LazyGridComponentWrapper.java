@@ -0,0 +1,103 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.ui.creation.table;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.linkki.core.defaults.columnbased.pmo.LazyContainerPmo;
+import org.linkki.core.defaults.columnbased.pmo.LazyContainerPmo.SortHint;
+
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Wraps a vaadin {@link Grid} whose rows are provided by a {@link LazyContainerPmo}. Instead of
+ * holding all items in memory, the grid uses a callback data provider that only fetches the rows
+ * requested by the client. The components and bindings of a row are only created when the row is
+ * displayed.
+ * <p>
+ * If the {@link LazyContainerPmo#isItemCountExact() item count is not exact}, the grid uses it as
+ * an estimate and fetches further rows while the user scrolls.
+ * 
+ * @param <ROW> a class annotated with linkki annotations used as PMO for a row in the table
+ * 
+ * @since 2.11.0
+ */
+public class LazyGridComponentWrapper<ROW> extends AbstractGridComponentWrapper<ROW> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final LazyContainerPmo<ROW> containerPmo;
+
+    private boolean versionInitialized;
+
+    @CheckForNull
+    private Object itemsVersion;
+
+    public LazyGridComponentWrapper(Grid<ROW> grid, LazyContainerPmo<ROW> containerPmo) {
+        super(grid);
+        this.containerPmo = requireNonNull(containerPmo, "containerPmo must not be null");
+        if (containerPmo.isItemCountExact()) {
+            grid.setItems(DataProvider.fromCallbacks(this::fetch, this::count));
+        } else {
+            grid.setItems(this::fetch);
+        }
+    }
+
+    /**
+     * The items of a lazy grid are fetched from the {@link LazyContainerPmo}. The given items are
+     * therefore ignored, instead all rows are refreshed if the
+     * {@link LazyContainerPmo#getItemsVersion() version of the items} has changed.
+     */
+    @Override
+    public void setItems(List<ROW> actualItems) {
+        Object newVersion = containerPmo.getItemsVersion();
+        if (!versionInitialized || !Objects.equals(itemsVersion, newVersion)) {
+            itemsVersion = newVersion;
+            versionInitialized = true;
+            getComponent().getDataProvider().refreshAll();
+            int itemCount = containerPmo.getItemCount();
+            if (!containerPmo.isItemCountExact()) {
+                getComponent().getLazyDataView().setItemCountEstimate(Math.max(1, itemCount));
+            }
+            getComponent().getElement().setAttribute("has-items", itemCount > 0);
+        }
+    }
+
+    private Stream<ROW> fetch(Query<ROW, Void> query) {
+        List<SortHint> sortHints = query.getSortOrders().stream()
+                .map(LazyGridComponentWrapper::toSortHint)
+                .toList();
+        return containerPmo.getItems(query.getOffset(), query.getLimit(), sortHints).stream();
+    }
+
+    private int count(Query<ROW, Void> query) {
+        return containerPmo.getItemCount();
+    }
+
+    private static SortHint toSortHint(QuerySortOrder sortOrder) {
+        return new SortHint(sortOrder.getSorted(), sortOrder.getDirection() == SortDirection.ASCENDING);
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.ui.creation.table;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.GridSortOrder;
+import com.vaadin.flow.data.provider.ListDataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.flow.function.SerializablePredicate;
+import com.vaadin.flow.function.SerializableSupplier;
+import com.vaadin.flow.function.ValueProvider;
+
+/**
+ * A {@link ListDataProvider} that sorts the items of a {@link Grid} by the sort keys of the sorted
+ * columns. Instead of comparing the rows with the comparators of the columns, which read the sort
+ * key of both rows for every comparison, the sort keys of every row are read only once. Then the
+ * sort keys are sorted and the rows are returned in the order of their sort keys. Large lists are
+ * sorted in parallel.
+ * <p>
+ * The sort keys are registered using {@link GridColumnWrapper#setSortKey(ValueProvider)}. If one of
+ * the sorted columns has no registered sort key, the items are sorted as in a
+ * {@link ListDataProvider}.
+ * 
+ * @param <ROW> the type of the rows
+ * 
+ * @since 2.11.0
+ */
+public class SortKeyListDataProvider<ROW> extends ListDataProvider<ROW> {
+
+    /**
+     * The number of items from which on the sort keys are sorted in parallel.
+     */
+    /* private */ static final int PARALLEL_SORT_THRESHOLD = 10_000;
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Comparator<Comparable<Object>> ASCENDING = Comparator
+            .nullsLast(Comparator.<Comparable<Object>> naturalOrder());
+
+    private static final Comparator<Comparable<Object>> DESCENDING = ASCENDING.reversed();
+
+    private final SerializableSupplier<List<GridSortOrder<ROW>>> sortOrder;
+
+    /**
+     * Creates a data provider for the given items.
+     * 
+     * @param items the items, changes to the collection are reflected after
+     *            {@link #refreshAll()}
+     * @param sortOrder supplies the current sort order of the grid, usually
+     *            {@link Grid#getSortOrder()}
+     */
+    public SortKeyListDataProvider(Collection<ROW> items, SerializableSupplier<List<GridSortOrder<ROW>>> sortOrder) {
+        super(items);
+        this.sortOrder = requireNonNull(sortOrder, "sortOrder must not be null");
+    }
+
+    @Override
+    public Stream<ROW> fetch(Query<ROW, SerializablePredicate<ROW>> query) {
+        return getSortKeys()
+                .filter(sortKeys -> query.getInMemorySorting() != null)
+                .map(sortKeys -> sort(getFilteredItems(query), sortKeys).stream()
+                        .skip(query.getOffset())
+                        .limit(query.getLimit()))
+                .orElseGet(() -> super.fetch(query));
+    }
+
+    private Optional<List<SortKey<ROW>>> getSortKeys() {
+        var sortKeys = new ArrayList<SortKey<ROW>>();
+        for (GridSortOrder<ROW> order : sortOrder.get()) {
+            var sortKey = GridColumnWrapper.getSortKey(order.getSorted());
+            if (sortKey.isEmpty()) {
+                return Optional.empty();
+            }
+            sortKeys.add(new SortKey<>(sortKey.get(), order.getDirection()));
+        }
+        return sortKeys.isEmpty() ? Optional.empty() : Optional.of(sortKeys);
+    }
+
+    private List<ROW> getFilteredItems(Query<ROW, SerializablePredicate<ROW>> query) {
+        Stream<ROW> stream = getItems().stream();
+        SerializablePredicate<ROW> filter = getFilter();
+        if (filter != null) {
+            stream = stream.filter(filter);
+        }
+        return query.getFilter()
+                .map(stream::filter)
+                .orElse(stream)
+                .toList();
+    }
+
+    /**
+     * Sorts the given rows by the given sort keys. The sort keys of each row are read exactly once.
+     * The sort is stable, rows with equal sort keys keep their order.
+     */
+    /* private */ static <ROW> List<ROW> sort(List<ROW> rows, List<SortKey<ROW>> sortKeys) {
+        var entries = new SortEntry[rows.size()];
+        for (int i = 0; i < entries.length; i++) {
+            var row = rows.get(i);
+            var keys = new Comparable<?>[sortKeys.size()];
+            for (int k = 0; k < keys.length; k++) {
+                keys[k] = sortKeys.get(k).key().apply(row);
+            }
+            entries[i] = new SortEntry(i, keys);
+        }
+
+        Comparator<SortEntry> comparator = createComparator(sortKeys);
+        if (entries.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(entries, comparator);
+        } else {
+            Arrays.sort(entries, comparator);
+        }
+
+        return Arrays.stream(entries)
+                .map(entry -> rows.get(entry.index()))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparator<SortEntry> createComparator(List<? extends SortKey<?>> sortKeys) {
+        Comparator<SortEntry> comparator = (e1, e2) -> 0;
+        for (int k = 0; k < sortKeys.size(); k++) {
+            int index = k;
+            var keyComparator = sortKeys.get(k).direction() == SortDirection.DESCENDING ? DESCENDING : ASCENDING;
+            comparator = comparator.thenComparing(e -> (Comparable<Object>)e.keys()[index], keyComparator);
+        }
+        return comparator;
+    }
+
+    /**
+     * The sort key of a sorted column together with its sort direction.
+     */
+    /* private */ record SortKey<ROW>(ValueProvider<ROW, ? extends Comparable<?>> key, SortDirection direction) {
+    }
+
+    /**
+     * The sort keys of the row at the given index.
+     */
+    private record SortEntry(int index, Comparable<?>[] keys) {
+    }
+
+}
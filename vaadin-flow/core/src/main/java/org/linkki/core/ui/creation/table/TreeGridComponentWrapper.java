@@ -15,17 +15,31 @@
 package org.linkki.core.ui.creation.table;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.linkki.core.defaults.columnbased.pmo.ContainerPmo;
 import org.linkki.core.defaults.columnbased.pmo.HierarchicalRowPmo;
 
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.treegrid.TreeGrid;
+import com.vaadin.flow.data.provider.hierarchy.HierarchicalQuery;
 import com.vaadin.flow.data.provider.hierarchy.TreeData;
 import com.vaadin.flow.data.provider.hierarchy.TreeDataProvider;
+import com.vaadin.flow.function.SerializablePredicate;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
  * Wraps a vaadin {@link Grid}.
+ * <p>
+ * By default, the whole hierarchy of {@link HierarchicalRowPmo#getChildRows() child rows} is read
+ * on every update. In lazy mode, only the children of expanded rows are read and compared. The
+ * children of a row are read when it is expanded for the first time. On every update, only the
+ * children of expanded rows are checked for changes and only the affected subtrees are refreshed.
  *
  * @param <ROW> a class annotated with linkki annotations used as PMO for a row in the table
  */
@@ -35,9 +49,35 @@ public class TreeGridComponentWrapper<ROW> extends AbstractGridComponentWrapper<
 
     private final TreeData<ROW> treeData = new TreeData<>();
 
+    private final boolean lazy;
+
+    /**
+     * The rows whose children are contained in {@link #treeData} in lazy mode.
+     */
+    private final Set<ROW> loadedRows = new HashSet<>();
+
     public TreeGridComponentWrapper(TreeGrid<ROW> grid) {
+        this(grid, false);
+    }
+
+    /**
+     * Creates a wrapper for the given {@link TreeGrid}.
+     *
+     * @param grid the wrapped grid
+     * @param lazy whether only the child rows of expanded rows should be read
+     *
+     * @see ContainerPmo#isHierarchyLazy()
+     * @since 2.11.0
+     */
+    public TreeGridComponentWrapper(TreeGrid<ROW> grid, boolean lazy) {
         super(grid);
-        grid.setDataProvider(new TreeDataProvider<>(treeData));
+        this.lazy = lazy;
+        if (lazy) {
+            grid.setDataProvider(new LazyTreeDataProvider());
+            grid.addExpandListener(e -> e.getItems().forEach(this::updateChildren));
+        } else {
+            grid.setDataProvider(new TreeDataProvider<>(treeData));
+        }
     }
 
     @Override
@@ -51,7 +91,9 @@ public class TreeGridComponentWrapper<ROW> extends AbstractGridComponentWrapper<
      */
     @Override
     public void setItems(List<ROW> rootItems) {
-        if (hasItemListChanged(rootItems) || hasChildChanged(rootItems)) {
+        if (lazy) {
+            setItemsLazily(rootItems);
+        } else if (hasItemListChanged(rootItems) || hasChildChanged(rootItems)) {
             treeData.clear();
             treeData.addItems(rootItems, this::getCurrentChildren);
             getComponent().getDataProvider().refreshAll();
@@ -86,6 +128,88 @@ public class TreeGridComponentWrapper<ROW> extends AbstractGridComponentWrapper<
         return !currentChildren.equals(storedChildren) || hasChildChanged(currentChildren);
     }
 
+    private void setItemsLazily(List<ROW> rootItems) {
+        if (hasItemListChanged(rootItems)) {
+            treeData.clear();
+            loadedRows.clear();
+            treeData.addRootItems(rootItems);
+            rootItems.stream()
+                    .filter(getComponent()::isExpanded)
+                    .forEach(this::loadChildren);
+            getComponent().getDataProvider().refreshAll();
+            getComponent().getElement().setAttribute("has-items", !rootItems.isEmpty());
+        } else {
+            rootItems.forEach(this::updateExpandedChildren);
+        }
+    }
+
+    /**
+     * Updates the children of the given row and of all its descendants as long as they are
+     * expanded.
+     */
+    private void updateExpandedChildren(ROW item) {
+        if (getComponent().isExpanded(item)) {
+            updateChildren(item);
+            treeData.getChildren(item).forEach(this::updateExpandedChildren);
+        }
+    }
+
+    /**
+     * Loads the children of the given row if they have not been loaded or have changed, and
+     * refreshes the subtree of the row.
+     */
+    private void updateChildren(ROW item) {
+        if (!loadedRows.contains(item) || !treeData.getChildren(item).equals(getCurrentChildren(item))) {
+            loadChildren(item);
+            getComponent().getDataProvider().refreshItem(item, true);
+        }
+    }
+
+    /**
+     * Replaces the children of the given row in the {@link TreeData} with its current children.
+     * Children that are still present keep their loaded subtrees. The children of expanded
+     * children are loaded as well.
+     */
+    private void loadChildren(ROW item) {
+        var currentChildren = getCurrentChildren(item);
+        var currentChildSet = new HashSet<>(currentChildren);
+        List.copyOf(treeData.getChildren(item)).stream()
+                .filter(child -> !currentChildSet.contains(child))
+                .forEach(this::removeItem);
+
+        @CheckForNull
+        ROW previous = null;
+        for (int i = 0; i < currentChildren.size(); i++) {
+            ROW child = currentChildren.get(i);
+            if (!treeData.contains(child)) {
+                treeData.addItem(item, child);
+            } else if (!Objects.equals(treeData.getParent(child), item)) {
+                treeData.setParent(child, item);
+            }
+            // moving is linear in the number of children, so only children that are out of place
+            // are moved
+            if (!Objects.equals(treeData.getChildren(item).get(i), child)) {
+                treeData.moveAfterSibling(child, previous);
+            }
+            previous = child;
+        }
+        loadedRows.add(item);
+
+        currentChildren.stream()
+                .filter(child -> !loadedRows.contains(child) && getComponent().isExpanded(child))
+                .forEach(this::loadChildren);
+    }
+
+    private void removeItem(ROW item) {
+        getDescendantsAndSelf(item).forEach(loadedRows::remove);
+        treeData.removeItem(item);
+    }
+
+    private Stream<ROW> getDescendantsAndSelf(ROW item) {
+        return Stream.concat(Stream.of(item), treeData.getChildren(item).stream()
+                .flatMap(this::getDescendantsAndSelf));
+    }
+
     @SuppressWarnings("unchecked")
     private List<ROW> getCurrentChildren(ROW item) {
         if (item instanceof HierarchicalRowPmo<?> hierarchicalRowPmo) {
@@ -95,4 +219,46 @@ public class TreeGridComponentWrapper<ROW> extends AbstractGridComponentWrapper<
         }
     }
 
+    /**
+     * A {@link TreeDataProvider} for the lazy mode. Rows whose children have not been loaded yet
+     * ask the {@link HierarchicalRowPmo} whether there are children, and the children of expanded
+     * rows are loaded when they are fetched.
+     */
+    private class LazyTreeDataProvider extends TreeDataProvider<ROW> {
+
+        private static final long serialVersionUID = 1L;
+
+        LazyTreeDataProvider() {
+            super(treeData);
+        }
+
+        @Override
+        public boolean hasChildren(ROW item) {
+            if (loadedRows.contains(item)) {
+                return super.hasChildren(item);
+            } else {
+                return !getCurrentChildren(item).isEmpty();
+            }
+        }
+
+        @Override
+        public int getChildCount(HierarchicalQuery<ROW, SerializablePredicate<ROW>> query) {
+            ensureChildrenLoaded(query);
+            return super.getChildCount(query);
+        }
+
+        @Override
+        public Stream<ROW> fetchChildren(HierarchicalQuery<ROW, SerializablePredicate<ROW>> query) {
+            ensureChildrenLoaded(query);
+            return super.fetchChildren(query);
+        }
+
+        private void ensureChildrenLoaded(HierarchicalQuery<ROW, SerializablePredicate<ROW>> query) {
+            query.getParentOptional()
+                    .filter(parent -> !loadedRows.contains(parent) && treeData.contains(parent))
+                    .ifPresent(TreeGridComponentWrapper.this::loadChildren);
+        }
+
+    }
+
 }
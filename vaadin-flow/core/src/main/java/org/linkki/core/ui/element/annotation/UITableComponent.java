@@ -42,9 +42,9 @@ import org.linkki.core.ui.aspects.LabelAspectDefinition;
 import org.linkki.core.ui.creation.table.GridColumnWrapper;
 import org.linkki.core.ui.creation.table.GridComponentDefinition;
 import org.linkki.core.ui.wrapper.NoLabelComponentWrapper;
-import org.linkki.core.uicreation.ComponentAnnotationReader;
 import org.linkki.core.uicreation.ComponentDefinitionCreator;
 import org.linkki.core.uicreation.LinkkiPositioned;
+import org.linkki.core.uicreation.PmoMetamodel;
 import org.linkki.core.uicreation.UiCreator;
 import org.linkki.core.uicreation.layout.LayoutDefinitionCreator;
 import org.linkki.core.uicreation.layout.LinkkiLayout;
@@ -158,7 +158,7 @@ public @interface UITableComponent {
         @Override
         public void createChildren(Object parentComponent, Object pmo, BindingContext bindingContext) {
             var grid = (Grid<?>)parentComponent;
-            ComponentAnnotationReader.getComponentDefinitionMethods(rowPmoClass)
+            PmoMetamodel.of(rowPmoClass).getComponentDefinitionMethods()
                     .forEach(method -> {
                         var column = createColumn(grid, method, bindingContext);
 
@@ -169,8 +169,10 @@ public @interface UITableComponent {
         }
 
         private Grid.Column<?> createColumn(Grid<?> grid, Method method, BindingContext bindingContext) {
+            var methodDefinition = PmoMetamodel.of(rowPmoClass).getMethodDefinition(method);
             var column = grid.addComponentColumn(row -> UiCreator
-                    .<Component, NoLabelComponentWrapper> createUiElement(method, row, bindingContext,
+                    .<Component, NoLabelComponentWrapper> createUiElement(methodDefinition.getElementDefinition(row),
+                                                                          row, bindingContext,
                                                                           NoLabelComponentWrapper::new)
                     .getComponent());
             column.setHeader(getHeaderText(rowPmoClass, method));
@@ -69,8 +69,8 @@ public class ColumnSortableAspectDefinition implements LinkkiAspectDefinition {
         }
 
         @SuppressWarnings("unchecked")
-        var comparableAccessor = (PropertyAccessor<Object, Comparable<? super Comparable<?>>>)accessor;
-        columnWrapper.getComponent().setComparator(comparableAccessor::getPropertyValue);
+        var comparableAccessor = (PropertyAccessor<Object, Comparable<?>>)accessor;
+        columnWrapper.setSortKey(comparableAccessor::getPropertyValue);
     }
 
     @Override
@@ -13,11 +13,15 @@
  */
 package org.linkki.core.ui.uiframework;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Locale;
 import java.util.stream.Stream;
 
 import org.linkki.core.binding.wrapper.ComponentWrapperFactory;
 import org.linkki.core.uiframework.UiFrameworkExtension;
+import org.linkki.core.vaadin.component.HideableContent;
+import org.linkki.util.handler.Handler;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.UI;
@@ -27,6 +31,13 @@ import com.vaadin.flow.component.UI;
  */
 public class VaadinLinkkiExtension implements UiFrameworkExtension {
 
+    private static final ThreadLocal<Locale> THREAD_LOCALE = new ThreadLocal<>();
+
+    /**
+     * Returns the locale of the current {@link UI}. Without a current UI, the locale given to
+     * {@link #runWithLocale(Locale, Runnable)} is returned, or {@link Locale#GERMAN} if there is
+     * none.
+     */
     @Override
     public Locale getLocale() {
         UI ui = UI.getCurrent();
@@ -36,9 +47,37 @@ public class VaadinLinkkiExtension implements UiFrameworkExtension {
                 return locale;
             }
         }
+        Locale threadLocale = THREAD_LOCALE.get();
+        if (threadLocale != null) {
+            return threadLocale;
+        }
         return Locale.GERMAN;
     }
 
+    /**
+     * Runs the given {@link Runnable} with the given locale as {@link #getLocale() locale}, as long
+     * as there is no current {@link UI}. This is meant for code that runs in a background thread
+     * without access to the UI, for example an asynchronous validation. The locale should be read
+     * from the UI before the background thread is started.
+     *
+     * @since 2.11.0
+     */
+    public static void runWithLocale(Locale locale, Runnable runnable) {
+        requireNonNull(locale, "locale must not be null");
+        requireNonNull(runnable, "runnable must not be null");
+        Locale previousLocale = THREAD_LOCALE.get();
+        THREAD_LOCALE.set(locale);
+        try {
+            runnable.run();
+        } finally {
+            if (previousLocale == null) {
+                THREAD_LOCALE.remove();
+            } else {
+                THREAD_LOCALE.set(previousLocale);
+            }
+        }
+    }
+
     @Override
     public ComponentWrapperFactory getComponentWrapperFactory() {
         return VaadinComponentWrapperFactory.INSTANCE;
@@ -57,4 +96,9 @@ public class VaadinLinkkiExtension implements UiFrameworkExtension {
         return ((Component)uiComponent).isVisible();
     }
 
+    @Override
+    public boolean isHiddenByParent(Object uiComponent, Handler onShow) {
+        return uiComponent instanceof Component component && HideableContent.isHiddenByParent(component, onShow);
+    }
+
 }
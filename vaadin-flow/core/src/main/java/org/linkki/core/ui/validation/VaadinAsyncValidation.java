@@ -0,0 +1,105 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.ui.validation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.linkki.core.binding.validation.AsyncValidation;
+import org.linkki.core.ui.uiframework.VaadinLinkkiExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+
+/**
+ * Creates {@link AsyncValidation AsyncValidations} that run the validation in a virtual thread and
+ * push the result to a Vaadin {@link UI} using {@link UI#access(com.vaadin.flow.server.Command)}.
+ * <p>
+ * The validation runs without a current {@link UI} or {@link com.vaadin.flow.server.VaadinSession},
+ * as it does not hold the session lock. Only the locale of the UI is read when the validation is
+ * requested and {@link VaadinLinkkiExtension#runWithLocale(Locale, Runnable) provided} to the
+ * validation, so that for example texts are translated using the locale of the UI.
+ * <p>
+ * Server push must be enabled for the UI, otherwise the messages are only displayed with the next
+ * round trip.
+ *
+ * @since 2.11.0
+ */
+public final class VaadinAsyncValidation {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VaadinAsyncValidation.class);
+
+    private VaadinAsyncValidation() {
+        // utility class
+    }
+
+    /**
+     * Creates an {@link AsyncValidation} for the current {@link UI}.
+     *
+     * @see #create(UI)
+     */
+    public static AsyncValidation create() {
+        return create(requireNonNull(UI.getCurrent(), "There is no current UI"));
+    }
+
+    /**
+     * Creates an {@link AsyncValidation} that runs the validation in a virtual thread and passes the
+     * result to the given {@link UI}. Results for a UI that has been detached in the meantime are
+     * ignored.
+     */
+    public static AsyncValidation create(UI ui) {
+        requireNonNull(ui, "ui must not be null");
+        if (!ui.getPushConfiguration().getPushMode().isEnabled() && LOGGER.isWarnEnabled()) {
+            LOGGER.warn("""
+                    Asynchronous validation is used although server push is not enabled.
+
+                    Validation messages will not be displayed in the UI immediately.""");
+        }
+        return new AsyncValidation(virtualThreadExecutor(ui), command -> access(ui, command));
+    }
+
+    /**
+     * Creates an {@link Executor} that runs the validation in a virtual thread with the locale of
+     * the given UI. The locale is only read while the UI is the current UI, that is on the request
+     * thread. A validation that was requested while another one was running is started from the
+     * background thread and therefore uses the locale read for the latest validation before.
+     */
+    private static Executor virtualThreadExecutor(UI ui) {
+        var locale = new AtomicReference<>(ui.getLocale());
+        return command -> {
+            if (UI.getCurrent() == ui) {
+                locale.set(ui.getLocale());
+            }
+            Locale validationLocale = locale.get();
+            Thread.ofVirtual()
+                    .name("linkki-validation")
+                    .start(() -> VaadinLinkkiExtension.runWithLocale(validationLocale, command));
+        };
+    }
+
+    private static void access(UI ui, Runnable command) {
+        try {
+            ui.access(command::run);
+        } catch (UIDetachedException e) {
+            LOGGER.debug("Validation result is ignored as the UI has been detached", e);
+        }
+    }
+
+}
@@ -14,6 +14,9 @@
 
 package org.linkki.core.util;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.apache.commons.lang3.StringUtils;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -25,9 +28,36 @@ import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
  * Utility class for sanitizing HTML text.
+ * <p>
+ * The {@link Safelist} is created once and shared by all calls. Texts without markup are returned
+ * as they are, without parsing them. The results of the most recently sanitized texts are cached,
+ * as the same labels and notification texts are usually sanitized again and again.
  */
 public class HtmlSanitizer {
 
+    /**
+     * The maximum number of sanitized texts that are cached.
+     */
+    /* private */ static final int CACHE_SIZE = 1_000;
+
+    /**
+     * Longer texts are not cached to limit the memory used by the cache.
+     */
+    /* private */ static final int MAX_CACHED_LENGTH = 10_000;
+
+    private static final Safelist SAFELIST = createHtmlWhitelist();
+
+    private static final Map<String, String> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > CACHE_SIZE;
+        }
+
+    };
+
     private HtmlSanitizer() {
         // prevent instantiation
     }
@@ -49,14 +79,58 @@ public class HtmlSanitizer {
      * @return the sanitized content, or {@code null} if the input is {@code null}
      */
     public static @CheckForNull String sanitizeText(@CheckForNull String htmlText) {
+        if (StringUtils.isEmpty(htmlText) || !containsMarkup(htmlText)) {
+            return htmlText;
+        } else if (htmlText.length() > MAX_CACHED_LENGTH) {
+            return clean(htmlText);
+        } else {
+            synchronized (CACHE) {
+                var sanitizedText = CACHE.get(htmlText);
+                if (sanitizedText != null) {
+                    return sanitizedText;
+                }
+            }
+            var sanitizedText = clean(htmlText);
+            synchronized (CACHE) {
+                CACHE.put(htmlText, sanitizedText);
+            }
+            return sanitizedText;
+        }
+    }
+
+    /**
+     * Returns whether the text contains any character that Jsoup would parse or escape. Texts
+     * without such characters are not changed by {@link #clean(String)}.
+     */
+    /* private */ static boolean containsMarkup(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            switch (text.charAt(i)) {
+                case '<', '>', '&', '\r', '\0', '\u00A0':
+                    return true;
+                default:
+                    // continue
+            }
+        }
+        return false;
+    }
+
+    /* private */ static String clean(String htmlText) {
         // Disable pretty print to prevent Jsoup from adding whitespaces and new lines.
         // The cleaned HTML content then looks exactly like the non-cleaned content.
         var outputSettings = new Document.OutputSettings();
         outputSettings.prettyPrint(false);
-        if (StringUtils.isEmpty(htmlText)) {
-            return htmlText;
-        } else {
-            return Jsoup.clean(htmlText, StringUtils.EMPTY, createHtmlWhitelist(), outputSettings);
+        return Jsoup.clean(htmlText, StringUtils.EMPTY, SAFELIST, outputSettings);
+    }
+
+    /* private */ static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /* private */ static int getCacheSize() {
+        synchronized (CACHE) {
+            return CACHE.size();
         }
     }
 
@@ -81,7 +155,8 @@ public class HtmlSanitizer {
     }
 
     /**
-     * Creates a {@link Safelist whitelist} which defines allowed HTML tags and attributes.
+     * Creates a {@link Safelist whitelist} which defines allowed HTML tags and attributes. The
+     * {@link Safelist} is only read by Jsoup and can therefore be shared between threads.
      */
     private static Safelist createHtmlWhitelist() {
         // whitelist additional attributes in order to style tags
@@ -21,6 +21,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.linkki.core.ui.theme.LinkkiTheme;
 import org.linkki.core.vaadin.component.ComponentFactory;
 import org.linkki.core.vaadin.component.HasCaption;
+import org.linkki.core.vaadin.component.HideableContent;
 import org.linkki.util.handler.Handler;
 
 import com.vaadin.flow.component.Component;
@@ -245,7 +246,11 @@ public class LinkkiSection extends HtmlComponent implements HasCaption, HasPlace
     protected void switchOpenStatus() {
         open = !open;
         closeButton.setIcon(open ? VaadinIcon.ANGLE_DOWN.create() : VaadinIcon.ANGLE_RIGHT.create());
-        getContentWrapper().setVisible(open);
+        if (open) {
+            HideableContent.show(getContentWrapper());
+        } else {
+            HideableContent.hide(getContentWrapper());
+        }
     }
 
     /**
@@ -0,0 +1,115 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.ui.aspects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.linkki.core.binding.dispatcher.PropertyDispatcher;
+import org.linkki.core.ui.test.KaribuUIExtension;
+import org.linkki.core.ui.wrapper.NoLabelComponentWrapper;
+
+import com.vaadin.flow.component.HasValue;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.binder.ValueContext;
+
+@ExtendWith(KaribuUIExtension.class)
+class ValueAspectDefinitionTest {
+
+    @Test
+    void testCreateUiUpdater_ConvertsValue() {
+        UI.getCurrent().setLocale(Locale.GERMANY);
+        var field = new TextField();
+
+        new ValueAspectDefinition().createUiUpdater(mockDispatcher(123456), new NoLabelComponentWrapper(field))
+                .apply();
+
+        assertThat(field.getValue()).isEqualTo("123.456");
+    }
+
+    @Test
+    void testCreateUiUpdater_ReusesValueContext() {
+        UI.getCurrent().setLocale(Locale.GERMANY);
+        var aspectDefinition = new ValueContextRecordingAspectDefinition();
+        var uiUpdater = aspectDefinition.createUiUpdater(mockDispatcher(1), new NoLabelComponentWrapper(new TextField()));
+
+        uiUpdater.apply();
+        uiUpdater.apply();
+        uiUpdater.apply();
+
+        assertThat(aspectDefinition.valueContexts).hasSize(1);
+    }
+
+    @Test
+    void testGetValueContext_WithoutBinder() {
+        UI.getCurrent().setLocale(Locale.GERMANY);
+        var aspectDefinition = new ValueContextRecordingAspectDefinition();
+        var field = new TextField();
+
+        aspectDefinition.createUiUpdater(mockDispatcher(1), new NoLabelComponentWrapper(field)).apply();
+
+        var valueContext = aspectDefinition.valueContexts.get(0);
+        assertThat(valueContext.getBinder()).isEmpty();
+        assertThat(valueContext.getComponent()).contains(field);
+        assertThat(valueContext.getLocale()).contains(Locale.GERMANY);
+    }
+
+    @Test
+    void testCreateUiUpdater_NewValueContextOnLocaleChange() {
+        UI.getCurrent().setLocale(Locale.GERMANY);
+        var aspectDefinition = new ValueContextRecordingAspectDefinition();
+        var field = new TextField();
+        var uiUpdater = aspectDefinition.createUiUpdater(mockDispatcher(123456), new NoLabelComponentWrapper(field));
+        uiUpdater.apply();
+
+        UI.getCurrent().setLocale(Locale.US);
+        uiUpdater.apply();
+
+        assertThat(aspectDefinition.valueContexts).hasSize(2);
+        assertThat(aspectDefinition.valueContexts.get(1).getLocale()).contains(Locale.US);
+        assertThat(field.getValue()).isEqualTo("123,456");
+    }
+
+    private static PropertyDispatcher mockDispatcher(Object value) {
+        var propertyDispatcher = mock(PropertyDispatcher.class);
+        doReturn(value.getClass()).when(propertyDispatcher).getValueClass();
+        when(propertyDispatcher.pull(any())).thenReturn(value);
+        return propertyDispatcher;
+    }
+
+    private static class ValueContextRecordingAspectDefinition extends ValueAspectDefinition {
+
+        private final List<ValueContext> valueContexts = new ArrayList<>();
+
+        @Override
+        protected ValueContext getValueContext(HasValue<?, Object> source) {
+            var valueContext = super.getValueContext(source);
+            valueContexts.add(valueContext);
+            return valueContext;
+        }
+
+    }
+
+}
@@ -16,10 +16,16 @@ package org.linkki.core.ui.converters;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 import java.math.BigInteger;
 import java.util.Currency;
 import java.util.Date;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -101,6 +107,52 @@ class LinkkiConverterRegistryTest {
                    is(instanceOf(StringToDoubleConverter.class)));
     }
 
+    @Test
+    void testFindConverter_SubclassResolvedOnce() {
+        LinkkiConverterRegistry linkkiConverterRegistry = new LinkkiConverterRegistry();
+
+        Converter<String, CustomBigInteger> converter = linkkiConverterRegistry.findConverter(String.class,
+                                                                                              CustomBigInteger.class);
+
+        assertThat(linkkiConverterRegistry.findConverter(String.class, CustomBigInteger.class),
+                   is(sameInstance(converter)));
+    }
+
+    @Test
+    void testFindConverter_SubclassNotRegistered() {
+        LinkkiConverterRegistry linkkiConverterRegistry = new LinkkiConverterRegistry();
+        linkkiConverterRegistry.findConverter(String.class, CustomBigInteger.class);
+
+        LinkkiConverterRegistry extendedRegistry = linkkiConverterRegistry.with(new MyStringToBigIntegerConverter());
+
+        assertThat(extendedRegistry.findConverter(String.class, CustomBigInteger.class),
+                   is(instanceOf(MyStringToBigIntegerConverter.class)));
+        assertThat(linkkiConverterRegistry.findConverter(String.class, CustomBigInteger.class),
+                   is(not(instanceOf(MyStringToBigIntegerConverter.class))));
+    }
+
+    @Test
+    void testFindConverter_Concurrent() throws InterruptedException, ExecutionException {
+        LinkkiConverterRegistry linkkiConverterRegistry = new LinkkiConverterRegistry();
+
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            var results = IntStream.range(0, 4)
+                    .mapToObj(i -> executor.submit(() -> IntStream.range(0, 1_000)
+                            .allMatch(j -> {
+                                Converter<?, ?> bigIntegerConverter = linkkiConverterRegistry
+                                        .findConverter(String.class, CustomBigInteger.class);
+                                Converter<?, ?> dateConverter = linkkiConverterRegistry
+                                        .findConverter(String.class, Date.class);
+                                return bigIntegerConverter instanceof StringToBigIntegerConverter
+                                        && dateConverter instanceof StringToDateConverter;
+                            })))
+                    .toList();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(), is(true));
+            }
+        }
+    }
+
     public static class MyStringToDateConverter implements Converter<String, Date> {
 
         private static final long serialVersionUID = 1L;
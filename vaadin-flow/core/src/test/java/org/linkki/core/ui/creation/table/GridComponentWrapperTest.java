@@ -16,13 +16,23 @@ package org.linkki.core.ui.creation.table;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.linkki.core.binding.Binding;
+import org.linkki.core.binding.BindingContext;
+import org.linkki.core.ui.test.KaribuUIExtension;
 
+import com.github.mvysny.kaributesting.v10.MockVaadin;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.grid.Grid;
 
+@ExtendWith(KaribuUIExtension.class)
 public class GridComponentWrapperTest {
 
     @Test
@@ -40,4 +50,65 @@ public class GridComponentWrapperTest {
         assertThat(componentWrapper.getComponent().getElement().hasAttribute("has-items")).isFalse();
     }
 
+    @Test
+    void testSetItems_CellComponentsOfRemainingRowsAreReused() {
+        var row1 = new TestRowPmo();
+        var row2 = new TestRowPmo();
+        var containerPmo = new TestTablePmo(row1, row2);
+        var bindingContext = new BindingContext();
+        var grid = GridComponentCreator.createGrid(containerPmo, bindingContext);
+        UI.getCurrent().add(grid);
+        render(grid);
+        var row1Components = getCellComponents(bindingContext, row1);
+        var row2Components = getCellComponents(bindingContext, row2);
+        assertThat(row1Components).hasSize(grid.getColumns().size());
+
+        var row3 = new TestRowPmo();
+        containerPmo.getItems().add(0, row3);
+        bindingContext.modelChanged();
+        render(grid);
+
+        assertThat(getCellComponents(bindingContext, row1)).containsExactlyInAnyOrderElementsOf(row1Components);
+        assertThat(getCellComponents(bindingContext, row2)).containsExactlyInAnyOrderElementsOf(row2Components);
+        var row3Components = getCellComponents(bindingContext, row3);
+        assertThat(row3Components).hasSize(grid.getColumns().size());
+
+        containerPmo.getItems().remove(row1);
+        bindingContext.modelChanged();
+        render(grid);
+
+        assertThat(getCellComponents(bindingContext, row1)).isEmpty();
+        assertThat(getCellComponents(bindingContext, row2)).containsExactlyInAnyOrderElementsOf(row2Components);
+        assertThat(getCellComponents(bindingContext, row3)).containsExactlyInAnyOrderElementsOf(row3Components);
+    }
+
+    @Test
+    void testSetItems_EqualItemIsRefreshed() {
+        var componentWrapper = new GridComponentWrapper<List<String>>(new Grid<>());
+        var item = new ArrayList<>(List.of("a"));
+        componentWrapper.setItems(List.of(item));
+        var equalItem = new ArrayList<>(List.of("a"));
+
+        componentWrapper.setItems(List.of(equalItem));
+
+        assertThat(componentWrapper.getComponent().getListDataView().getItem(0)).isSameAs(equalItem);
+    }
+
+    private static void render(Grid<?> grid) {
+        grid.getDataCommunicator().setViewportRange(0, 50);
+        grid.getDataCommunicator().setRequestedRange(0, 50);
+        MockVaadin.clientRoundtrip(false);
+    }
+
+    private static List<Component> getCellComponents(BindingContext bindingContext, TestRowPmo row) {
+        var gridBindingContext = (BindingContext)bindingContext.getBindings().iterator().next();
+        return gridBindingContext.getBindings().stream()
+                .filter(b -> b.getPmo() == row)
+                .map(Binding::getBoundComponent)
+                .filter(Component.class::isInstance)
+                .map(Component.class::cast)
+                .filter(Component::isAttached)
+                .toList();
+    }
+
 }
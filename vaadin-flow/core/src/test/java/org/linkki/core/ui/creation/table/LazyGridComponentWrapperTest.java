@@ -0,0 +1,178 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.ui.creation.table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.BindingContext;
+import org.linkki.core.defaults.columnbased.pmo.LazyContainerPmo;
+import org.linkki.core.defaults.columnbased.pmo.LazyContainerPmo.SortHint;
+
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+
+class LazyGridComponentWrapperTest {
+
+    @Test
+    void testCreateComponentWrapper_LazyContainerPmo() {
+        var containerPmo = new TestLazyTablePmo(100);
+
+        var wrapper = GridComponentCreator.createComponentWrapper(containerPmo, new Grid<>());
+
+        assertThat(wrapper).isInstanceOf(LazyGridComponentWrapper.class);
+    }
+
+    @Test
+    void testFetch_OnlyRequestedRowsAreCreated() {
+        var containerPmo = new TestLazyTablePmo(100_000);
+        Grid<TestRowPmo> grid = new Grid<>();
+        new LazyGridComponentWrapper<>(grid, containerPmo);
+
+        List<TestRowPmo> rows = grid.getDataProvider()
+                .fetch(new Query<>(20, 10, List.of(), null, null))
+                .toList();
+
+        assertThat(rows).hasSize(10);
+        assertThat(containerPmo.getCreatedRows()).isEqualTo(10);
+        assertThat(containerPmo.getLastOffset()).isEqualTo(20);
+        assertThat(grid.getDataProvider().size(new Query<>())).isEqualTo(100_000);
+    }
+
+    @Test
+    void testFetch_SortHints() {
+        var containerPmo = new TestLazyTablePmo(10);
+        Grid<TestRowPmo> grid = new Grid<>();
+        new LazyGridComponentWrapper<>(grid, containerPmo);
+
+        grid.getDataProvider().fetch(new Query<>(0, 10,
+                QuerySortOrder.desc(TestRowPmo.PROPERTY_VALUE_1).thenAsc(TestRowPmo.PROPERTY_VALUE_2).build(),
+                null, null)).toList();
+
+        assertThat(containerPmo.getLastSortHints())
+                .containsExactly(new SortHint(TestRowPmo.PROPERTY_VALUE_1, false),
+                                 new SortHint(TestRowPmo.PROPERTY_VALUE_2, true));
+    }
+
+    @Test
+    void testSetItems_RefreshOnlyIfVersionChanged() {
+        var containerPmo = new TestLazyTablePmo(0);
+        Grid<TestRowPmo> grid = new Grid<>();
+        var wrapper = new LazyGridComponentWrapper<>(grid, containerPmo);
+        var refreshCount = new AtomicInteger();
+        grid.getDataProvider().addDataProviderListener(e -> refreshCount.incrementAndGet());
+
+        wrapper.setItems(containerPmo.getItems());
+
+        assertThat(refreshCount).hasValue(1);
+        assertThat(grid.getElement().hasAttribute("has-items")).isFalse();
+
+        wrapper.setItems(containerPmo.getItems());
+
+        assertThat(refreshCount).hasValue(1);
+
+        containerPmo.setItemCount(5);
+        wrapper.setItems(containerPmo.getItems());
+
+        assertThat(refreshCount).hasValue(2);
+        assertThat(grid.getElement().hasAttribute("has-items")).isTrue();
+    }
+
+    @Test
+    void testSetItems_ItemCountNotExact() {
+        var containerPmo = new TestLazyTablePmo(1_000) {
+
+            @Override
+            public boolean isItemCountExact() {
+                return false;
+            }
+
+        };
+        Grid<TestRowPmo> grid = new Grid<>();
+        var wrapper = new LazyGridComponentWrapper<>(grid, containerPmo);
+
+        wrapper.setItems(containerPmo.getItems());
+
+        assertThat(grid.getLazyDataView().getItemCountEstimate()).isEqualTo(1_000);
+        assertThat(grid.getLazyDataView().getItems().limit(20).toList()).hasSize(20);
+    }
+
+    @Test
+    void testCreateGrid_LazyContainerPmo() {
+        var containerPmo = new TestLazyTablePmo(1_000);
+
+        Grid<?> grid = GridComponentCreator.createGrid(containerPmo, new BindingContext());
+
+        assertThat(grid.getColumnByKey(TestRowPmo.PROPERTY_VALUE_1)).isNotNull();
+        assertThat(grid.getElement().hasAttribute("has-items")).isTrue();
+        assertThat(containerPmo.getCreatedRows()).isZero();
+    }
+
+    public static class TestLazyTablePmo implements LazyContainerPmo<TestRowPmo> {
+
+        private int itemCount;
+        private int createdRows;
+        private int lastOffset = -1;
+        private List<SortHint> lastSortHints = new ArrayList<>();
+
+        public TestLazyTablePmo(int itemCount) {
+            this.itemCount = itemCount;
+        }
+
+        @Override
+        public Class<? extends TestRowPmo> getItemPmoClass() {
+            return TestRowPmo.class;
+        }
+
+        @Override
+        public int getItemCount() {
+            return itemCount;
+        }
+
+        public void setItemCount(int itemCount) {
+            this.itemCount = itemCount;
+        }
+
+        @Override
+        public List<TestRowPmo> getItems(int offset, int limit, List<SortHint> sortHints) {
+            lastOffset = offset;
+            lastSortHints = sortHints;
+            return IntStream.range(offset, Math.min(offset + limit, itemCount))
+                    .peek(i -> createdRows++)
+                    .mapToObj(i -> new TestRowPmo())
+                    .toList();
+        }
+
+        public int getCreatedRows() {
+            return createdRows;
+        }
+
+        public int getLastOffset() {
+            return lastOffset;
+        }
+
+        public List<SortHint> getLastSortHints() {
+            return lastSortHints;
+        }
+
+    }
+
+}
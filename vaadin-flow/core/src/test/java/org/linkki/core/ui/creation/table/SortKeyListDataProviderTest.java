@@ -0,0 +1,151 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.ui.creation.table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.Grid.Column;
+import com.vaadin.flow.component.grid.GridSortOrder;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.flow.function.SerializablePredicate;
+
+class SortKeyListDataProviderTest {
+
+    private final AtomicInteger keyExtractions = new AtomicInteger();
+
+    private final Grid<Row> grid = new Grid<>();
+    private final Column<Row> nameColumn = grid.addColumn(Row::name).setKey("name");
+    private final Column<Row> valueColumn = grid.addColumn(Row::value).setKey("value");
+    private final List<Row> items = new ArrayList<>();
+    private final SortKeyListDataProvider<Row> dataProvider = new SortKeyListDataProvider<>(items,
+            grid::getSortOrder);
+
+    SortKeyListDataProviderTest() {
+        new GridColumnWrapper(nameColumn).setSortKey(this::getName);
+        new GridColumnWrapper(valueColumn).setSortKey(this::getValue);
+        grid.setItems(dataProvider);
+        grid.setMultiSort(true);
+    }
+
+    private String getName(Row row) {
+        keyExtractions.incrementAndGet();
+        return row.name();
+    }
+
+    private Integer getValue(Row row) {
+        keyExtractions.incrementAndGet();
+        return row.value();
+    }
+
+    private List<Row> fetch(int offset, int limit) {
+        return dataProvider.fetch(new Query<>(offset, limit, List.of(), (r1, r2) -> 0, null)).toList();
+    }
+
+    @Test
+    void testFetch_SortKeysReadOncePerRow() {
+        items.addAll(List.of(new Row("b", 2), new Row("a", 3), new Row("c", 1)));
+        grid.sort(List.of(new GridSortOrder<>(valueColumn, SortDirection.ASCENDING)));
+
+        assertThat(fetch(0, 10)).extracting(Row::name).containsExactly("c", "b", "a");
+        assertThat(keyExtractions).hasValue(3);
+    }
+
+    @Test
+    void testFetch_MultipleColumns() {
+        items.addAll(List.of(new Row("b", 1), new Row("a", 2), new Row("c", 1), new Row("a", 1)));
+        grid.sort(List.of(new GridSortOrder<>(valueColumn, SortDirection.DESCENDING),
+                          new GridSortOrder<>(nameColumn, SortDirection.ASCENDING)));
+
+        assertThat(fetch(0, 10)).containsExactly(new Row("a", 2), new Row("a", 1), new Row("b", 1), new Row("c", 1));
+        assertThat(keyExtractions).hasValue(8);
+    }
+
+    @Test
+    void testFetch_NullsLastAscending() {
+        items.addAll(List.of(new Row("b", null), new Row("a", 2), new Row("c", 1)));
+
+        grid.sort(List.of(new GridSortOrder<>(valueColumn, SortDirection.ASCENDING)));
+        assertThat(fetch(0, 10)).extracting(Row::name).containsExactly("c", "a", "b");
+
+        grid.sort(List.of(new GridSortOrder<>(valueColumn, SortDirection.DESCENDING)));
+        assertThat(fetch(0, 10)).extracting(Row::name).containsExactly("b", "a", "c");
+    }
+
+    @Test
+    void testFetch_OffsetAndLimit() {
+        IntStream.range(0, 10).forEach(i -> items.add(new Row("row" + i, i)));
+        grid.sort(List.of(new GridSortOrder<>(valueColumn, SortDirection.DESCENDING)));
+
+        assertThat(fetch(2, 3)).extracting(Row::value).containsExactly(7, 6, 5);
+    }
+
+    @Test
+    void testFetch_Filter() {
+        IntStream.range(0, 10).forEach(i -> items.add(new Row("row" + i, i)));
+        dataProvider.setFilter(r -> r.value() % 2 == 0);
+        grid.sort(List.of(new GridSortOrder<>(valueColumn, SortDirection.DESCENDING)));
+
+        assertThat(fetch(0, 10)).extracting(Row::value).containsExactly(8, 6, 4, 2, 0);
+    }
+
+    @Test
+    void testFetch_ColumnWithoutSortKey() {
+        var otherColumn = grid.addColumn(Row::name).setComparator(Comparator.comparing(Row::name).reversed());
+        items.addAll(List.of(new Row("b", 2), new Row("a", 3), new Row("c", 1)));
+        grid.sort(List.of(new GridSortOrder<>(otherColumn, SortDirection.ASCENDING)));
+
+        var query = new Query<Row, SerializablePredicate<Row>>(0, 10, List.of(),
+                otherColumn.getComparator(SortDirection.ASCENDING), null);
+        assertThat(dataProvider.fetch(query)).extracting(Row::name).containsExactly("c", "b", "a");
+        assertThat(keyExtractions).hasValue(0);
+    }
+
+    @Test
+    void testFetch_NotSorted() {
+        items.addAll(List.of(new Row("b", 2), new Row("a", 3), new Row("c", 1)));
+
+        assertThat(dataProvider.fetch(new Query<>())).extracting(Row::name).containsExactly("b", "a", "c");
+        assertThat(keyExtractions).hasValue(0);
+    }
+
+    @Test
+    void testSort_Parallel() {
+        int size = SortKeyListDataProvider.PARALLEL_SORT_THRESHOLD * 2;
+        IntStream.range(0, size).forEach(i -> items.add(new Row("row" + (i % 100), (i * 7919) % 1000)));
+        grid.sort(List.of(new GridSortOrder<>(valueColumn, SortDirection.ASCENDING),
+                          new GridSortOrder<>(nameColumn, SortDirection.DESCENDING)));
+
+        var sorted = fetch(0, Integer.MAX_VALUE);
+
+        assertThat(sorted).containsExactlyElementsOf(items.stream()
+                .sorted(Comparator.comparing(Row::value).thenComparing(Row::name, Comparator.reverseOrder()))
+                .toList());
+        assertThat(keyExtractions).hasValue(size * 2);
+    }
+
+    private record Row(String name, Integer value) {
+    }
+
+}
@@ -136,9 +136,118 @@ class TreeGridComponentWrapperTest {
         assertThat(treeGrid.getElement().hasAttribute("has-items")).isFalse();
     }
 
+    @Test
+    void testSetItems_Lazy_OnlyRootsAreRead() {
+        var treeGrid = new TreeGrid<Row>();
+        var componentWrapper = new TreeGridComponentWrapper<>(treeGrid, true);
+        var items = Arrays.asList(new Row(new Row(), new Row()), new Row());
+
+        componentWrapper.setItems(items);
+
+        assertThat(treeGrid.getTreeData().getRootItems()).isEqualTo(items);
+        assertThat(treeGrid.getTreeData().getChildren(items.get(0))).isEmpty();
+        assertThat(items.get(0).childRowsCalls).hasValue(0);
+        assertThat(treeGrid.getDataProvider().hasChildren(items.get(0))).isTrue();
+        assertThat(treeGrid.getDataProvider().hasChildren(items.get(1))).isFalse();
+    }
+
+    @Test
+    void testSetItems_Lazy_ChildrenAreReadOnExpand() {
+        var treeGrid = new TreeGrid<Row>();
+        var componentWrapper = new TreeGridComponentWrapper<>(treeGrid, true);
+        var child = new Row(new Row());
+        var items = Arrays.asList(new Row(child, new Row()), new Row());
+        componentWrapper.setItems(items);
+
+        treeGrid.expand(items.get(0));
+
+        assertThat(treeGrid.getTreeData().getChildren(items.get(0))).isEqualTo(items.get(0).children);
+        assertThat(treeGrid.getTreeData().getChildren(child)).isEmpty();
+        assertThat(child.childRowsCalls).hasValue(0);
+    }
+
+    @Test
+    void testSetItems_Lazy_OnlyExpandedRowsAreUpdated() {
+        var treeGrid = new TreeGrid<Row>();
+        var componentWrapper = new TreeGridComponentWrapper<>(treeGrid, true);
+        var items = Arrays.asList(new Row(List.of(new Row(), new Row())), new Row(List.of(new Row())));
+        componentWrapper.setItems(items);
+        treeGrid.expand(items.get(0));
+        var eventCount = new AtomicInteger(0);
+        treeGrid.getDataProvider()
+                .addDataProviderListener(event -> eventCount.incrementAndGet());
+        items.forEach(row -> row.childRowsCalls.set(0));
+
+        componentWrapper.setItems(items);
+
+        assertThat(eventCount).hasValue(0);
+        assertThat(items.get(0).childRowsCalls).hasValue(1);
+        assertThat(items.get(1).childRowsCalls).hasValue(0);
+
+        var newChild = new Row();
+        items.get(0).children.add(0, newChild);
+        componentWrapper.setItems(items);
+
+        assertThat(eventCount).hasValue(1);
+        assertThat(treeGrid.getTreeData().getChildren(items.get(0))).isEqualTo(items.get(0).children);
+        assertThat(items.get(1).childRowsCalls).hasValue(0);
+    }
+
+    @Test
+    void testSetItems_Lazy_ExpandedChildrenKeepTheirChildren() {
+        var treeGrid = new TreeGrid<Row>();
+        var componentWrapper = new TreeGridComponentWrapper<>(treeGrid, true);
+        var child = new Row(List.of(new Row(), new Row()));
+        var items = Arrays.asList(new Row(List.of(child)));
+        componentWrapper.setItems(items);
+        treeGrid.expand(items.get(0), child);
+
+        var removedChild = child.children.removeFirst();
+        items.get(0).children.add(new Row());
+        componentWrapper.setItems(items);
+
+        assertThat(treeGrid.getTreeData().getChildren(items.get(0))).isEqualTo(items.get(0).children);
+        assertThat(treeGrid.getTreeData().getChildren(child)).isEqualTo(child.children);
+        assertThat(treeGrid.getTreeData().contains(removedChild)).isFalse();
+    }
+
+    @Test
+    void testSetItems_Lazy_ChildrenAreReordered() {
+        var treeGrid = new TreeGrid<Row>();
+        var componentWrapper = new TreeGridComponentWrapper<>(treeGrid, true);
+        var items = Arrays.asList(new Row(List.of(new Row(), new Row(), new Row(), new Row())));
+        componentWrapper.setItems(items);
+        treeGrid.expand(items.get(0));
+
+        Collections.reverse(items.get(0).children);
+        items.get(0).children.add(2, new Row());
+        items.get(0).children.remove(0);
+        componentWrapper.setItems(items);
+
+        assertThat(treeGrid.getTreeData().getChildren(items.get(0))).isEqualTo(items.get(0).children);
+    }
+
+    @Test
+    void testSetItems_Lazy_CollapsedRowIsUpdatedOnExpand() {
+        var treeGrid = new TreeGrid<Row>();
+        var componentWrapper = new TreeGridComponentWrapper<>(treeGrid, true);
+        var items = Arrays.asList(new Row(List.of(new Row())));
+        componentWrapper.setItems(items);
+        treeGrid.expand(items.get(0));
+        treeGrid.collapse(items.get(0));
+
+        items.get(0).children.add(new Row());
+        componentWrapper.setItems(items);
+        assertThat(treeGrid.getTreeData().getChildren(items.get(0))).hasSize(1);
+
+        treeGrid.expand(items.get(0));
+        assertThat(treeGrid.getTreeData().getChildren(items.get(0))).isEqualTo(items.get(0).children);
+    }
+
     private static class Row implements HierarchicalRowPmo<Row> {
 
         private final List<Row> children;
+        private final AtomicInteger childRowsCalls = new AtomicInteger();
 
         public Row(Collection<Row> children) {
             this.children = new ArrayList<>(children);
@@ -150,6 +259,7 @@ class TreeGridComponentWrapperTest {
 
         @Override
         public List<? extends Row> getChildRows() {
+            childRowsCalls.incrementAndGet();
             return children;
         }
 
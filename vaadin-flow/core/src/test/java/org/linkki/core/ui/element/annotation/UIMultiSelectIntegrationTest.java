@@ -112,9 +112,8 @@ class UIMultiSelectIntegrationTest
         BindingContext bindingContext = new BindingContext();
         Function<Object, NoLabelComponentWrapper> wrapperCreator = c -> new NoLabelComponentWrapper((Component)c);
 
-        var component = UiCreator.createUiElements(pmo, bindingContext, wrapperCreator);
-
-        assertThatExceptionOfType(LinkkiBindingException.class).isThrownBy(() -> component.count());
+        assertThatExceptionOfType(LinkkiBindingException.class)
+                .isThrownBy(() -> UiCreator.createUiElements(pmo, bindingContext, wrapperCreator));
     }
 
     @Test
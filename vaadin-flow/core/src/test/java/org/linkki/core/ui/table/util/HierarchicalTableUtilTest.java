@@ -59,6 +59,22 @@ class HierarchicalTableUtilTest {
         assertThat(grid.isExpanded(secondLevelItem)).isFalse();
     }
 
+    @Test
+    void testExpandNodes_LazyHierarchy() {
+        var grid = createTreeGrid(3, true);
+        var rootItem = getRootItem(grid);
+
+        HierarchicalTableUtil.expandNodes(grid, 2);
+
+        assertThat(grid.isExpanded(rootItem)).isTrue();
+        var firstLevelItem = getRootItem(grid).getChildRows().get(0);
+        assertThat(grid.isExpanded(firstLevelItem)).isTrue();
+        assertThat(grid.getTreeData().getChildren(firstLevelItem)).isEqualTo(firstLevelItem.getChildRows());
+        var secondLevelItem = firstLevelItem.getChildRows().get(0);
+        assertThat(grid.isExpanded(secondLevelItem)).isFalse();
+        assertThat(grid.getTreeData().getChildren(secondLevelItem)).isEmpty();
+    }
+
     @Test
     void testExpandNodesIf() {
         var grid = createTreeGrid(3);
@@ -108,7 +124,11 @@ class HierarchicalTableUtilTest {
      * Creates a {@link TreeGrid} with the given amount of levels.
      */
     private TreeGrid<TestTreeTableRowPmo> createTreeGrid(int level) {
-        var table = new TestTreeTablePmo(level);
+        return createTreeGrid(level, false);
+    }
+
+    private TreeGrid<TestTreeTableRowPmo> createTreeGrid(int level, boolean lazy) {
+        var table = new TestTreeTablePmo(level, lazy);
         return (TreeGrid<TestTreeTableRowPmo>)GridComponentCreator.createGrid(table, new BindingContext());
     }
 
@@ -125,11 +145,16 @@ class HierarchicalTableUtilTest {
         }
     }
 
-    private record TestTreeTablePmo(int remainingLevels) implements ContainerPmo<TestTreeTableRowPmo> {
+    private record TestTreeTablePmo(int remainingLevels, boolean lazy) implements ContainerPmo<TestTreeTableRowPmo> {
 
         @Override
         public List<TestTreeTableRowPmo> getItems() {
             return List.of(new TestTreeTableRowPmo(remainingLevels));
         }
+
+        @Override
+        public boolean isHierarchyLazy() {
+            return lazy;
+        }
     }
 }
@@ -17,6 +17,8 @@ package org.linkki.core.ui.uiframework;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import java.util.Locale;
 import java.util.stream.Stream;
@@ -25,10 +27,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.linkki.core.ui.test.KaribuUIExtension;
 import org.linkki.core.uiframework.UiFramework;
+import org.linkki.core.vaadin.component.HideableContent;
+import org.linkki.util.handler.Handler;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.HasComponents;
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 
@@ -54,6 +59,24 @@ public class VaadinLinkkiExtensionTest {
         assertThat(UiFramework.getLocale(), is(Locale.ITALIAN));
     }
 
+    @Test
+    public void testGetUiLocale_RunWithLocale() {
+        UI.setCurrent(null);
+
+        VaadinLinkkiExtension.runWithLocale(Locale.ENGLISH,
+                                            () -> assertThat(UiFramework.getLocale(), is(Locale.ENGLISH)));
+
+        assertThat(UiFramework.getLocale(), is(Locale.GERMAN));
+    }
+
+    @Test
+    public void testGetUiLocale_RunWithLocale_UiHasPrecedence() {
+        UI.getCurrent().setLocale(Locale.ITALIAN);
+
+        VaadinLinkkiExtension.runWithLocale(Locale.ENGLISH,
+                                            () -> assertThat(UiFramework.getLocale(), is(Locale.ITALIAN)));
+    }
+
     @Test
     public void testGetChildComponents() {
         Component component1 = new Span("first text");
@@ -73,6 +96,28 @@ public class VaadinLinkkiExtensionTest {
         assertThat(UiFramework.isVisible(uiComponent), is(false));
     }
 
+    @Test
+    public void testIsHiddenByParent() {
+        var component = new Span();
+        var layout = new VerticalLayout(component);
+        var content = new Div(layout);
+        Handler onShow = mock(Handler.class);
+
+        assertThat(UiFramework.isHiddenByParent(component, onShow), is(false));
+
+        layout.setVisible(false);
+        assertThat(UiFramework.isHiddenByParent(component, onShow), is(false));
+
+        HideableContent.hide(content);
+        assertThat(UiFramework.isHiddenByParent(component, onShow), is(true));
+        assertThat(UiFramework.isHiddenByParent(content, onShow), is(false));
+        assertThat(UiFramework.isHiddenByParent("no component", onShow), is(false));
+
+        HideableContent.show(content);
+        verify(onShow).apply();
+        assertThat(UiFramework.isHiddenByParent(component, onShow), is(false));
+    }
+
     public void testGetChildComponents_noComponents() {
         String noComponent = "no Component";
         assertThat(UiFramework.get().getChildComponents(noComponent), is(Stream.empty()));
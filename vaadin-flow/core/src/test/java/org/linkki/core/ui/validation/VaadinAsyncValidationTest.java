@@ -0,0 +1,68 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.core.ui.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.linkki.core.binding.validation.message.Message;
+import org.linkki.core.binding.validation.message.MessageList;
+import org.linkki.core.ui.nls.NlsText;
+import org.linkki.core.ui.test.KaribuUIExtension;
+
+import com.vaadin.flow.component.UI;
+
+@ExtendWith(KaribuUIExtension.class)
+class VaadinAsyncValidationTest {
+
+    @Test
+    void testValidate_UsesLocaleOfUi() throws Exception {
+        UI.getCurrent().setLocale(Locale.ENGLISH);
+        var messageText = new CompletableFuture<String>();
+
+        VaadinAsyncValidation.create().validate(() -> {
+            var message = Message.newError("code", NlsText.getString("GridSection.columnCollapseToggle"));
+            messageText.complete(message.getText());
+            return new MessageList(message);
+        }, messages -> {
+            // not relevant
+        });
+
+        assertThat(messageText.get(5, TimeUnit.SECONDS)).isEqualTo("Columns");
+    }
+
+    @Test
+    void testValidate_NoCurrentUi() throws Exception {
+        var currentUi = new CompletableFuture<Optional<UI>>();
+
+        VaadinAsyncValidation.create().validate(() -> {
+            currentUi.complete(Optional.ofNullable(UI.getCurrent()));
+            return new MessageList();
+        }, messages -> {
+            // not relevant
+        });
+
+        assertThat(currentUi.get(5, TimeUnit.SECONDS))
+                .as("The validation must not access the UI without holding the session lock")
+                .isEmpty();
+    }
+
+}
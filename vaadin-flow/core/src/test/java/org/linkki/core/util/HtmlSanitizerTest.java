@@ -16,6 +16,9 @@ package org.linkki.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -23,6 +26,60 @@ import org.junit.jupiter.api.Test;
  */
 class HtmlSanitizerTest {
 
+    @Test
+    void testSanitize_TextWithoutMarkup() {
+        var text = "Just a text with 'quotes', \"double quotes\" and\nnew lines";
+
+        assertThat(HtmlSanitizer.containsMarkup(text)).isFalse();
+        assertThat(HtmlSanitizer.sanitizeText(text)).isSameAs(text);
+    }
+
+    @Test
+    void testSanitize_FastPathSameAsJsoup() {
+        List.of("", " ", "Text", "  leading and trailing  ", "tab\tand\nnew line", "Ümläute €", "\uD83D\uDE00",
+                "a > b", "a < b", "a & b", "a &amp; b", "a\r\nb", "a\u00A0b", "a\0b")
+                .forEach(text -> {
+                    if (!HtmlSanitizer.containsMarkup(text)) {
+                        assertThat(HtmlSanitizer.clean(text)).as(text).isEqualTo(text);
+                    }
+                });
+    }
+
+    @Test
+    void testSanitize_Escaped() {
+        assertThat(HtmlSanitizer.sanitizeText("a > b")).isEqualTo("a &gt; b");
+        assertThat(HtmlSanitizer.sanitizeText("a &amp; b")).isEqualTo("a &amp; b");
+    }
+
+    @Test
+    void testSanitize_Cached() {
+        HtmlSanitizer.clearCache();
+        var sanitizedText = HtmlSanitizer.sanitizeText("<b>cached</b><script>alert(1)</script>");
+
+        assertThat(sanitizedText).isEqualTo("<b>cached</b>");
+        assertThat(HtmlSanitizer.sanitizeText("<b>cached</b><script>alert(1)</script>")).isSameAs(sanitizedText);
+        assertThat(HtmlSanitizer.getCacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    void testSanitize_CacheIsBounded() {
+        HtmlSanitizer.clearCache();
+
+        IntStream.range(0, HtmlSanitizer.CACHE_SIZE + 10)
+                .forEach(i -> HtmlSanitizer.sanitizeText("<b>" + i + "</b>"));
+
+        assertThat(HtmlSanitizer.getCacheSize()).isEqualTo(HtmlSanitizer.CACHE_SIZE);
+    }
+
+    @Test
+    void testSanitize_LongTextNotCached() {
+        HtmlSanitizer.clearCache();
+        var longText = "<b>" + "x".repeat(HtmlSanitizer.MAX_CACHED_LENGTH) + "</b>";
+
+        assertThat(HtmlSanitizer.sanitizeText(longText)).isEqualTo(longText);
+        assertThat(HtmlSanitizer.getCacheSize()).isZero();
+    }
+
     @Test
     void testSanitize_TextIsNull() {
         assertThat(HtmlSanitizer.sanitizeText(null)).isNull();
@@ -19,12 +19,17 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.Binding;
+import org.linkki.core.binding.BindingContext;
+import org.linkki.core.binding.validation.message.MessageList;
+import org.linkki.core.ui.wrapper.NoLabelComponentWrapper;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H4;
+import com.vaadin.flow.component.html.Span;
 
 class LinkkiSectionTest {
 
@@ -104,6 +109,31 @@ class LinkkiSectionTest {
                 .isEqualTo("vaadin:angle-down");
     }
 
+    @Test
+    void testSwitchOpenStatus_BindingsInClosedSectionUpdatedWhenOpened() {
+        LinkkiSection section = new LinkkiSection("caption", true, 1);
+        Span content = new Span();
+        section.getContentWrapper().add(content);
+        BindingContext bindingContext = new BindingContext();
+        CountingBinding binding = new CountingBinding(content);
+        bindingContext.add(binding, new NoLabelComponentWrapper(content));
+        assertThat(binding.updates).isEqualTo(1);
+
+        section.close();
+        bindingContext.modelChanged();
+        bindingContext.modelChanged();
+
+        assertThat(binding.updates).isEqualTo(1);
+
+        section.open();
+
+        assertThat(binding.updates).isEqualTo(2);
+
+        bindingContext.modelChanged();
+
+        assertThat(binding.updates).isEqualTo(3);
+    }
+
     @Test
     void testHeader_Caption() {
         LinkkiSection section = new LinkkiSection("CAP", false, 1);
@@ -298,4 +328,36 @@ class LinkkiSectionTest {
                 .filter(c -> slot.contentEquals(c.getElement().getAttribute("slot")))
                 .collect(Collectors.toList());
     }
+    private static class CountingBinding implements Binding {
+
+        private final Component component;
+
+        private int updates;
+
+        CountingBinding(Component component) {
+            this.component = component;
+        }
+
+        @Override
+        public Object getBoundComponent() {
+            return component;
+        }
+
+        @Override
+        public Object getPmo() {
+            return this;
+        }
+
+        @Override
+        public void updateFromPmo() {
+            updates++;
+        }
+
+        @Override
+        public MessageList displayMessages(MessageList messages) {
+            return new MessageList();
+        }
+
+    }
+
 }
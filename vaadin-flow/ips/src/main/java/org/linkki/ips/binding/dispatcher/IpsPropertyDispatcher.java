@@ -14,8 +14,9 @@
 
 package org.linkki.ips.binding.dispatcher;
 
+import java.util.Map;
 import java.util.Optional;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.faktorips.runtime.IModelObject;
@@ -33,12 +34,16 @@ import org.linkki.core.binding.descriptor.property.BoundProperty;
 import org.linkki.core.binding.dispatcher.AbstractPropertyDispatcherDecorator;
 import org.linkki.core.binding.dispatcher.PropertyDispatcher;
 import org.linkki.core.binding.dispatcher.PropertyDispatcherFactory;
+import org.linkki.core.binding.dispatcher.behavior.CachingPropertyBehaviorProvider;
+import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
 import org.linkki.core.defaults.ui.aspects.EnabledAspectDefinition;
 import org.linkki.core.defaults.ui.aspects.VisibleAspectDefinition;
 import org.linkki.core.ui.aspects.AvailableValuesAspectDefinition;
 import org.linkki.core.ui.aspects.RequiredAspectDefinition;
 import org.linkki.core.uiframework.UiFramework;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
 /**
  * {@link PropertyDispatcher} to answer some aspects using Faktor-IPS model information.
  * <p>
@@ -48,14 +53,34 @@ import org.linkki.core.uiframework.UiFramework;
  * <p>
  * It answers the required aspect with <code>true</code> in case of the bound property is a
  * {@link PolicyAttribute} with a {@link ValueSet} that does not contain <code>null</code>.
+ * <p>
+ * The {@link ModelElement} of a model object class and attribute is looked up once and shared by
+ * all dispatchers. If the dispatcher is created with a {@link CachingPropertyBehaviorProvider}, the
+ * {@link ValueSet} of the model object is evaluated at most once per
+ * {@link CachingPropertyBehaviorProvider#getCycle() cycle}, even though the required, visible,
+ * enabled and available values aspects all depend on it.
  */
 public class IpsPropertyDispatcher extends AbstractPropertyDispatcherDecorator {
 
-    private final WeakHashMap<Class<?>, Optional<ModelElement>> modelElementCache = new WeakHashMap<>(2, 1);
+    private static final ClassValue<Map<String, Optional<ModelElement>>> MODEL_ELEMENTS = new ClassValue<>() {
+
+        @Override
+        protected Map<String, Optional<ModelElement>> computeValue(Class<?> modelObjectClass) {
+            return new ConcurrentHashMap<>(4);
+        }
+
+    };
+
     private final Supplier<?> modelObjectSupplier;
     private final Supplier<Class<?>> modelObjectClassSupplier;
     private final String modelAttribute;
 
+    @CheckForNull
+    private final CachingPropertyBehaviorProvider cycleProvider;
+
+    @CheckForNull
+    private ValueSetSnapshot valueSetSnapshot;
+
     /**
      * @deprecated Use
      *             {@link #IpsPropertyDispatcher(Supplier, Supplier, String, PropertyDispatcher)}
@@ -70,10 +95,25 @@ public class IpsPropertyDispatcher extends AbstractPropertyDispatcherDecorator {
     public IpsPropertyDispatcher(Supplier<?> modelObjectSupplier, Supplier<Class<?>> modelObjectClassSupplier,
             String modelAttribute,
             PropertyDispatcher wrappedDispatcher) {
+        this(modelObjectSupplier, modelObjectClassSupplier, modelAttribute, wrappedDispatcher, null);
+    }
+
+    /**
+     * Creates an {@link IpsPropertyDispatcher} that evaluates the {@link ValueSet} at most once per
+     * cycle of the given {@link CachingPropertyBehaviorProvider}. Without a provider, the value set
+     * is evaluated for every aspect.
+     * 
+     * @since 2.11.0
+     */
+    public IpsPropertyDispatcher(Supplier<?> modelObjectSupplier, Supplier<Class<?>> modelObjectClassSupplier,
+            String modelAttribute,
+            PropertyDispatcher wrappedDispatcher,
+            @CheckForNull CachingPropertyBehaviorProvider cycleProvider) {
         super(wrappedDispatcher);
         this.modelObjectSupplier = modelObjectSupplier;
         this.modelObjectClassSupplier = modelObjectClassSupplier;
         this.modelAttribute = modelAttribute;
+        this.cycleProvider = cycleProvider;
     }
 
     @Override
@@ -164,12 +204,19 @@ public class IpsPropertyDispatcher extends AbstractPropertyDispatcherDecorator {
     }
 
     private ValueSet<?> getValueSet(ModelElement modelElement) {
-        if (modelElement instanceof PolicyAttribute) {
-            Object modelObject = modelObjectSupplier.get();
-            if (modelObject instanceof IModelObject) {
-                PolicyAttribute policyAttribute = (PolicyAttribute)modelElement;
-                return policyAttribute.getValueSet((IModelObject)modelObject);
+        if (modelElement instanceof PolicyAttribute policyAttribute
+                && modelObjectSupplier.get() instanceof IModelObject modelObject) {
+            if (cycleProvider == null) {
+                return policyAttribute.getValueSet(modelObject);
             }
+            int cycle = cycleProvider.getCycle();
+            ValueSetSnapshot snapshot = valueSetSnapshot;
+            if (snapshot == null || !snapshot.isValidFor(modelObject, policyAttribute, cycle)) {
+                snapshot = new ValueSetSnapshot(modelObject, policyAttribute, cycle,
+                        policyAttribute.getValueSet(modelObject));
+                valueSetSnapshot = snapshot;
+            }
+            return snapshot.valueSet();
         }
         return new UnrestrictedValueSet<>();
     }
@@ -179,13 +226,14 @@ public class IpsPropertyDispatcher extends AbstractPropertyDispatcherDecorator {
         Class<?> modelObjectClass = modelObject != null ? modelObject.getClass() : modelObjectClassSupplier.get();
 
         if (modelObjectClass != null) {
-            return modelElementCache.computeIfAbsent(modelObjectClass, this::findModelElement);
+            return MODEL_ELEMENTS.get(modelObjectClass)
+                    .computeIfAbsent(modelAttribute, attribute -> findModelElement(modelObjectClass, attribute));
         } else {
             return Optional.empty();
         }
     }
 
-    private Optional<ModelElement> findModelElement(Class<?> modelObjectClass) {
+    private static Optional<ModelElement> findModelElement(Class<?> modelObjectClass, String modelAttribute) {
         if (IpsModel.isPolicyCmptType(modelObjectClass) || IpsModel.isProductCmptType(modelObjectClass)) {
             Type type = IpsModel.getType(modelObjectClass);
             if (modelAttribute.isEmpty()) {
@@ -212,15 +260,54 @@ public class IpsPropertyDispatcher extends AbstractPropertyDispatcherDecorator {
     public static PropertyDispatcher createIpsPropertyDispatcher(Object pmo,
             BoundProperty boundProperty,
             PropertyDispatcher standardDispatchers) {
+        return createIpsPropertyDispatcher(pmo, boundProperty, standardDispatchers, null);
+    }
+
+    /**
+     * Returns an {@link IpsPropertyDispatcher} wrapping the given standard dispatchers if the given
+     * PMO is a Faktor-IPS object and returns the standard dispatchers unchanged otherwise. If the
+     * given {@link PropertyBehaviorProvider} is a {@link CachingPropertyBehaviorProvider}, the
+     * {@link ValueSet} is evaluated at most once per cycle of the provider.
+     * 
+     * @param pmo a presentation model object
+     * @param boundProperty a {@link BoundProperty} of the PMO
+     * @param standardDispatchers a standard dispatcher chain created for the PMO, for example from
+     *            {@link PropertyDispatcherFactory}
+     * @param behaviorProvider the {@link PropertyBehaviorProvider} of the binding context, may be
+     *            {@code null}
+     * @return an {@link IpsPropertyDispatcher} wrapping the given standard dispatchers or the given
+     *         standard dispatchers
+     * 
+     * @since 2.11.0
+     */
+    public static PropertyDispatcher createIpsPropertyDispatcher(Object pmo,
+            BoundProperty boundProperty,
+            PropertyDispatcher standardDispatchers,
+            @CheckForNull PropertyBehaviorProvider behaviorProvider) {
         if (ModelObjects.isAccessible(pmo, boundProperty.getModelObject())) {
             return new IpsPropertyDispatcher(
                     ModelObjects.supplierFor(pmo, boundProperty.getModelObject()),
                     ModelObjects.classSupplierFor(pmo, boundProperty.getModelObject()),
                     boundProperty.getModelAttribute(),
-                    standardDispatchers);
+                    standardDispatchers,
+                    behaviorProvider instanceof CachingPropertyBehaviorProvider cachingProvider
+                            ? cachingProvider
+                            : null);
         } else {
             return standardDispatchers;
         }
     }
 
+    /**
+     * The {@link ValueSet} of a model object and attribute, valid for one cycle.
+     */
+    private record ValueSetSnapshot(IModelObject modelObject, PolicyAttribute attribute, int cycle,
+            ValueSet<?> valueSet) {
+
+        boolean isValidFor(IModelObject otherModelObject, PolicyAttribute otherAttribute, int otherCycle) {
+            return modelObject == otherModelObject && attribute == otherAttribute && cycle == otherCycle;
+        }
+
+    }
+
 }
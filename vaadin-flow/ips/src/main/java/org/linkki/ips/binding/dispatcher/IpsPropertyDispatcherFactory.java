@@ -17,6 +17,7 @@ package org.linkki.ips.binding.dispatcher;
 import org.linkki.core.binding.descriptor.property.BoundProperty;
 import org.linkki.core.binding.dispatcher.PropertyDispatcher;
 import org.linkki.core.binding.dispatcher.PropertyDispatcherFactory;
+import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
 
 /**
  * A {@link PropertyDispatcherFactory} that wraps the standard dispatchers in an
@@ -30,4 +31,13 @@ public class IpsPropertyDispatcherFactory extends PropertyDispatcherFactory {
             PropertyDispatcher standardDispatchers) {
         return IpsPropertyDispatcher.createIpsPropertyDispatcher(pmo, boundProperty, standardDispatchers);
     }
+
+    @Override
+    protected PropertyDispatcher createCustomDispatchers(Object pmo,
+            BoundProperty boundProperty,
+            PropertyDispatcher standardDispatchers,
+            PropertyBehaviorProvider behaviorProvider) {
+        return IpsPropertyDispatcher.createIpsPropertyDispatcher(pmo, boundProperty, standardDispatchers,
+                                                                 behaviorProvider);
+    }
 }
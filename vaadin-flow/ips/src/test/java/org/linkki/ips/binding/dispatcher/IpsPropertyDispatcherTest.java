@@ -19,10 +19,14 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 
+import java.time.MonthDay;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Locale;
 
+import org.faktorips.runtime.model.annotation.IpsDocumented;
+import org.faktorips.runtime.model.annotation.IpsPolicyCmptType;
+import org.faktorips.valueset.ValueSet;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.linkki.core.binding.descriptor.aspect.Aspect;
@@ -30,6 +34,7 @@ import org.linkki.core.binding.descriptor.aspect.LinkkiAspectDefinition;
 import org.linkki.core.binding.descriptor.property.BoundProperty;
 import org.linkki.core.binding.dispatcher.PropertyDispatcher;
 import org.linkki.core.binding.dispatcher.PropertyDispatcherFactory;
+import org.linkki.core.binding.dispatcher.behavior.CachingPropertyBehaviorProvider;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
 import org.linkki.core.binding.validation.message.MessageList;
 import org.linkki.core.defaults.ui.aspects.EnabledAspectDefinition;
@@ -361,6 +366,63 @@ class IpsPropertyDispatcherTest {
         assertThat(string, is("Foo in English"));
     }
 
+    @Test
+    void testPull_CachingProvider_ValueSetPerCycle() {
+        var ipsObject = new CountingTestIpsObject();
+        pmo.setIpsObject(ipsObject);
+        var cycleProvider = new CachingPropertyBehaviorProvider(PropertyBehaviorProvider.NO_BEHAVIOR_PROVIDER);
+        var ipsPropertyDispatcher = new IpsPropertyDispatcher(
+                pmo::getIpsObject,
+                () -> pmo.getIpsObject().getClass(),
+                TestIpsObject.PROPERTY_EMPTYVALUESET,
+                new NoOpPropertyDispatcher(),
+                cycleProvider);
+
+        assertThat(ipsPropertyDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME, true)), is(false));
+        assertThat(ipsPropertyDispatcher.pull(Aspect.of(EnabledAspectDefinition.NAME, true)), is(false));
+        assertThat(ipsPropertyDispatcher.pull(Aspect.of(RequiredAspectDefinition.NAME, false)), is(false));
+        assertThat(ipsPropertyDispatcher
+                .pull(Aspect.of(AvailableValuesAspectDefinition.NAME, Collections.emptyList())), is(empty()));
+
+        assertThat(ipsObject.getValueSetEvaluations(), is(1));
+
+        cycleProvider.startCycle();
+
+        assertThat(ipsPropertyDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME, true)), is(false));
+        assertThat(ipsPropertyDispatcher.pull(Aspect.of(EnabledAspectDefinition.NAME, true)), is(false));
+
+        assertThat(ipsObject.getValueSetEvaluations(), is(2));
+    }
+
+    @Test
+    void testPull_CachingProvider_ValueSetPerModelObject() {
+        var cycleProvider = new CachingPropertyBehaviorProvider(PropertyBehaviorProvider.NO_BEHAVIOR_PROVIDER);
+        var ipsPropertyDispatcher = new IpsPropertyDispatcher(
+                pmo::getIpsObject,
+                () -> pmo.getIpsObject().getClass(),
+                TestIpsObject.PROPERTY_EMPTYVALUESET,
+                new NoOpPropertyDispatcher(),
+                cycleProvider);
+        assertThat(ipsPropertyDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME, true)), is(false));
+
+        var ipsObject = new CountingTestIpsObject();
+        pmo.setIpsObject(ipsObject);
+
+        assertThat(ipsPropertyDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME, true)), is(false));
+        assertThat(ipsObject.getValueSetEvaluations(), is(1));
+    }
+
+    @Test
+    void testCreateIpsPropertyDispatcher_CachingProvider() {
+        var cycleProvider = new CachingPropertyBehaviorProvider(PropertyBehaviorProvider.NO_BEHAVIOR_PROVIDER);
+
+        var dispatcher = new IpsPropertyDispatcherFactory()
+                .createDispatcherChain(pmo, BoundProperty.of("bar").withModelAttribute(TestIpsObject.PROPERTY_FOO),
+                                       cycleProvider);
+
+        assertThat(dispatcher.pull(Aspect.of(RequiredAspectDefinition.NAME, false)), is(false));
+    }
+
     private IpsPropertyDispatcher ipsDispatcherChain(String modelAttribute) {
         return new IpsPropertyDispatcher(
                 pmo::getIpsObject,
@@ -425,6 +487,29 @@ class IpsPropertyDispatcherTest {
 
     }
 
+    /**
+     * Counts how often the value set of {@link TestIpsObject#PROPERTY_EMPTYVALUESET} is evaluated.
+     * Like the generated {@link TestIpsObject2}, it needs its own {@link IpsPolicyCmptType}
+     * annotation to be recognized as a policy component type.
+     */
+    @IpsPolicyCmptType(name = "CountingTestIpsObject")
+    @IpsDocumented(bundleName = "org.linkki.ips.test.model.testmodel-label-and-descriptions", defaultLocale = "en")
+    public static class CountingTestIpsObject extends TestIpsObject {
+
+        private int valueSetEvaluations;
+
+        @Override
+        public ValueSet<MonthDay> getAllowedValuesForEmptyValueSet() {
+            valueSetEvaluations++;
+            return super.getAllowedValuesForEmptyValueSet();
+        }
+
+        public int getValueSetEvaluations() {
+            return valueSetEvaluations;
+        }
+
+    }
+
     public static class NoOpPropertyDispatcher implements PropertyDispatcher {
 
         @Override
@@ -22,14 +22,18 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.linkki.core.binding.BindingContext;
 import org.linkki.core.ui.creation.VaadinUiCreator;
 import org.linkki.search.model.SearchController;
+import org.linkki.search.model.StreamedSearchResult;
+import org.linkki.search.pmo.LazySearchResultTablePmo;
 import org.linkki.search.pmo.SearchInputPmo;
 import org.linkki.search.pmo.SearchLayoutPmo;
 import org.linkki.search.pmo.SearchResultPmo;
 import org.linkki.search.pmo.SearchResultTablePmo;
+import org.linkki.util.handler.Handler;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 
@@ -74,6 +78,8 @@ public class SearchLayoutBuilder<PARAM, RESULT, MODEL_OBJECT, ROW> {
     private Consumer<MODEL_OBJECT> primaryAction;
     @CheckForNull
     private Function<RESULT, List<? extends MODEL_OBJECT>> toResultList;
+    @CheckForNull
+    private Function<RESULT, Stream<? extends MODEL_OBJECT>> toResultStream;
     private Optional<Integer> maxResult = Optional.empty();
     private Optional<Integer> pageSize = Optional.empty();
 
@@ -116,6 +122,28 @@ public class SearchLayoutBuilder<PARAM, RESULT, MODEL_OBJECT, ROW> {
             Function<RESULT, List<? extends MODEL_OBJECT>> toResultList) {
         this.searchController = searchController;
         this.toResultList = toResultList;
+        this.toResultStream = null;
+        return this;
+    }
+
+    /**
+     * Defines the {@link SearchController} that should be used, with a search result that provides
+     * the model objects as a {@link Stream}.
+     * <p>
+     * The stream is only read as far as the results are displayed: the first page is displayed as
+     * soon as it has been read, further results are read while the user scrolls. At most one result
+     * more than the {@link #maxResult(int) maximum number of results} is read. The results are
+     * displayed in the order of the stream.
+     * 
+     * @see StreamedSearchResult
+     * @since 2.11.0
+     */
+    public SearchLayoutBuilder<PARAM, RESULT, MODEL_OBJECT, ROW> streamingSearchController(
+            SearchController<PARAM, RESULT> searchController,
+            Function<RESULT, Stream<? extends MODEL_OBJECT>> toResultStream) {
+        this.searchController = searchController;
+        this.toResultStream = toResultStream;
+        this.toResultList = null;
         return this;
     }
 
@@ -154,18 +182,32 @@ public class SearchLayoutBuilder<PARAM, RESULT, MODEL_OBJECT, ROW> {
         var rowTypeChecked = requireNonNull(rowType, "rowType must not be null");
         var searchControllerChecked = requireNonNull(searchController, "searchController must not be null");
         var primaryActionChecked = requireNonNull(primaryAction, "primaryAction must not be null");
-        var toResultListChecked = requireNonNull(toResultList, "toResultList must not be null");
-        return new SearchLayoutPmo<>(Optional.ofNullable(caption),
-                createSearchInputPmo(parametersPmoChecked, searchControllerChecked),
-                createSearchResultPmo(resultRowPmoChecked, rowTypeChecked, rowToResultChecked, primaryActionChecked,
-                                      searchControllerChecked, toResultListChecked));
+        if (toResultStream != null) {
+            var streamedResult = new StreamedResultSupplier(searchControllerChecked, toResultStream);
+            return new SearchLayoutPmo<>(Optional.ofNullable(caption),
+                    createSearchInputPmo(parametersPmoChecked, searchControllerChecked,
+                                         () -> {
+                                             searchControllerChecked.reset();
+                                             streamedResult.close();
+                                         }),
+                    createStreamingSearchResultPmo(resultRowPmoChecked, rowTypeChecked, rowToResultChecked,
+                                                   primaryActionChecked, searchControllerChecked, streamedResult));
+        } else {
+            return new SearchLayoutPmo<>(Optional.ofNullable(caption),
+                    createSearchInputPmo(parametersPmoChecked, searchControllerChecked,
+                                         searchControllerChecked::reset),
+                    createSearchResultPmo(resultRowPmoChecked, rowTypeChecked, rowToResultChecked,
+                                          primaryActionChecked, searchControllerChecked,
+                                          requireNonNull(toResultList, "toResultList must not be null")));
+        }
     }
 
     private SearchInputPmo createSearchInputPmo(Function<Supplier<PARAM>, Object> parametersPmo,
-            SearchController<PARAM, RESULT> searchController) {
+            SearchController<PARAM, RESULT> searchController,
+            Handler reset) {
         return new SearchInputPmo(parametersPmo.apply(searchController::getParameters),
                 searchController::search,
-                searchController::reset);
+                reset);
     }
 
     private SearchResultPmo<MODEL_OBJECT, ROW> createSearchResultPmo(Function<MODEL_OBJECT, ROW> resultRowPmo,
@@ -182,9 +224,34 @@ public class SearchLayoutBuilder<PARAM, RESULT, MODEL_OBJECT, ROW> {
                 pageSize);
         return new SearchResultPmo<>(
                 searchResultTablePmo,
-                () -> getResult(searchController, toResultList),
+                () -> getResult(searchController, toResultList).size(),
+                () -> false,
+                searchController::getMessages,
+                maxResult,
+                searchController::isSearching);
+    }
+
+    private SearchResultPmo<MODEL_OBJECT, ROW> createStreamingSearchResultPmo(
+            Function<MODEL_OBJECT, ROW> resultRowPmo,
+            Class<? extends ROW> rowType,
+            Function<ROW, MODEL_OBJECT> rowToResult,
+            Consumer<MODEL_OBJECT> primaryAction,
+            SearchController<PARAM, RESULT> searchController,
+            StreamedResultSupplier streamedResult) {
+        var searchResultTablePmo = new LazySearchResultTablePmo<>(
+                streamedResult,
+                resultRowPmo,
+                rowType,
+                r -> primaryAction.accept(rowToResult.apply(r)),
+                pageSize);
+        return new SearchResultPmo<>(
+                searchResultTablePmo,
+                () -> streamedResult.get().getLoadedCount(),
+                () -> !streamedResult.get().isComplete(),
                 searchController::getMessages,
-                maxResult);
+                maxResult,
+                searchController::isSearching,
+                streamedResult::close);
     }
 
     /**
@@ -206,4 +273,52 @@ public class SearchLayoutBuilder<PARAM, RESULT, MODEL_OBJECT, ROW> {
         }
         return results;
     }
+
+    /**
+     * Creates a {@link StreamedSearchResult} for every new result of the search controller and
+     * reads its first page, so that the number of results is known as far as displayed.
+     */
+    private class StreamedResultSupplier implements Supplier<StreamedSearchResult<? extends MODEL_OBJECT>> {
+
+        private static final int DEFAULT_FIRST_PAGE_SIZE = 50;
+
+        private final SearchController<PARAM, RESULT> searchController;
+        private final Function<RESULT, Stream<? extends MODEL_OBJECT>> toResultStream;
+
+        @CheckForNull
+        private RESULT result;
+        private StreamedSearchResult<? extends MODEL_OBJECT> streamedResult = StreamedSearchResult.empty();
+
+        StreamedResultSupplier(SearchController<PARAM, RESULT> searchController,
+                Function<RESULT, Stream<? extends MODEL_OBJECT>> toResultStream) {
+            this.searchController = searchController;
+            this.toResultStream = toResultStream;
+        }
+
+        @Override
+        public StreamedSearchResult<? extends MODEL_OBJECT> get() {
+            RESULT currentResult = searchController.get().orElse(null);
+            if (currentResult != result) {
+                streamedResult.close();
+                result = currentResult;
+                streamedResult = currentResult == null
+                        ? StreamedSearchResult.empty()
+                        : new StreamedSearchResult<>(toResultStream.apply(currentResult), maxResult);
+                streamedResult.get(0, pageSize.filter(size -> size > 0).orElse(DEFAULT_FIRST_PAGE_SIZE));
+            }
+            return streamedResult;
+        }
+
+        /**
+         * Closes the current {@link StreamedSearchResult} and thereby its underlying stream. The
+         * next call of {@link #get()} opens a new stream for the result of the search controller,
+         * for example when the result layout is attached again.
+         */
+        void close() {
+            streamedResult.close();
+            streamedResult = StreamedSearchResult.empty();
+            result = null;
+        }
+
+    }
 }
\ No newline at end of file
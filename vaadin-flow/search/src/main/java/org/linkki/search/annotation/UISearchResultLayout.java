@@ -21,12 +21,15 @@ import org.linkki.core.uicreation.ComponentDefinitionCreator;
 import org.linkki.core.uicreation.LinkkiPositioned;
 import org.linkki.core.uicreation.layout.LinkkiLayout;
 import org.linkki.search.component.SearchResultLayout;
+import org.linkki.search.pmo.SearchResultPmo;
+import org.linkki.util.reflection.accessor.MemberAccessors;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
 
 /**
  * Creates a {@link SearchResultLayout} from the annotated PMO.
@@ -47,7 +50,13 @@ public @interface UISearchResultLayout {
     class SearchResultComponentDefinitionCreator implements ComponentDefinitionCreator<UISearchResultLayout> {
         @Override
         public LinkkiComponentDefinition create(UISearchResultLayout annotation, AnnotatedElement annotatedElement) {
-            return pmo -> new SearchResultLayout();
+            return pmo -> {
+                var layout = new SearchResultLayout();
+                if (MemberAccessors.getValue(pmo, (Member)annotatedElement) instanceof SearchResultPmo<?, ?> resultPmo) {
+                    layout.addDetachListener(e -> resultPmo.close());
+                }
+                return layout;
+            };
         }
     }
 }
@@ -40,11 +40,14 @@ import org.linkki.core.binding.uicreation.LinkkiComponentDefinition;
 import org.linkki.core.binding.wrapper.ComponentWrapper;
 import org.linkki.core.binding.wrapper.WrapperType;
 import org.linkki.core.defaults.columnbased.aspects.ColumnBasedComponentFooterAspectDefinition;
+import org.linkki.core.defaults.columnbased.pmo.LazyContainerPmo;
 import org.linkki.core.defaults.columnbased.pmo.TableFooterPmo;
 import org.linkki.core.ui.creation.table.AbstractGridComponentWrapper;
 import org.linkki.core.ui.creation.table.GridComponentDefinition;
 import org.linkki.core.ui.creation.table.GridComponentWrapper;
 import org.linkki.core.ui.creation.table.GridLayoutDefinition;
+import org.linkki.core.ui.creation.table.LazyGridComponentWrapper;
+import org.linkki.core.ui.creation.table.SortKeyListDataProvider;
 import org.linkki.core.ui.table.aspects.GridSelectionAspectDefinition;
 import org.linkki.core.uicreation.ComponentDefinitionCreator;
 import org.linkki.core.uicreation.layout.LayoutDefinitionCreator;
@@ -139,12 +142,19 @@ public @interface UISearchTable {
         public static final String NAME = "items";
 
         /**
-         * Copied from {@link GridComponentWrapper#setItems(List)}
+         * Copied from {@link GridComponentWrapper#setItems(List)}. Items of a
+         * {@link LazyContainerPmo} are fetched lazily as in {@link LazyGridComponentWrapper}.
          */
         @SuppressWarnings("unchecked")
         @Override
         public Handler createUiUpdater(PropertyDispatcher propertyDispatcher, ComponentWrapper componentWrapper) {
-            ((Grid<Object>)componentWrapper.getComponent()).setItems(new ListDataProvider<>(new ArrayList<>()));
+            if (propertyDispatcher.getBoundObject() instanceof LazyContainerPmo<?> lazyContainerPmo) {
+                var lazyGridWrapper = new LazyGridComponentWrapper<>((Grid<Object>)componentWrapper.getComponent(),
+                        (LazyContainerPmo<Object>)lazyContainerPmo);
+                return () -> lazyGridWrapper.setItems(List.of());
+            }
+            var grid = (Grid<Object>)componentWrapper.getComponent();
+            grid.setItems(new SortKeyListDataProvider<>(new ArrayList<>(), grid::getSortOrder));
             return () -> {
                 Collection<?> newItems = propertyDispatcher.pull(Aspect.of(NAME));
                 var listDataProvider = (ListDataProvider<Object>)((Grid<Object>)componentWrapper
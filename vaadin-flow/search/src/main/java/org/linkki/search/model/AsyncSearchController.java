@@ -0,0 +1,207 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.search.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.linkki.core.binding.BindingContext;
+import org.linkki.core.binding.validation.message.MessageList;
+import org.linkki.util.handler.Handler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * A {@link SearchController} that calls the search function in the background, so that a slow
+ * search service does not block the UI.
+ * <p>
+ * While the search is running, {@link #isSearching()} returns <code>true</code> and there is no
+ * result. When the search has finished, the result is set using
+ * {@link UI#access(com.vaadin.flow.server.Command) UI#access} and the given
+ * <code>afterSearch</code> handler is called to update the UI, for example
+ * {@link BindingContext#modelChanged()}. Server push must be enabled to display the result without
+ * further user interaction.
+ * <p>
+ * Triggering a new search or resetting the controller cancels a running search. Its thread is
+ * interrupted and its result is discarded.
+ * <p>
+ * Note that the search function is called in another thread. It must not depend on state that is
+ * bound to the request thread, like the current UI or session. The search parameters should not be
+ * modified while the search is running.
+ *
+ * @since 2.11.0
+ */
+public class AsyncSearchController<PARAM, RESULT> implements SearchController<PARAM, RESULT> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncSearchController.class);
+
+    private static final ExecutorService VIRTUAL_THREAD_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Supplier<PARAM> parameterCreator;
+    private final Function<PARAM, RESULT> searchFunction;
+    private final Function<RESULT, MessageList> messages;
+    private final Handler afterSearch;
+    private final ExecutorService executor;
+    private PARAM parameters;
+    @CheckForNull
+    private RESULT result;
+    @CheckForNull
+    private Future<?> runningSearch;
+    private int searchId;
+
+    /**
+     * Creates an {@link AsyncSearchController} that calls the search function in a virtual thread.
+     *
+     * @param parameterCreator Is triggered to get a new parameter object, either for a new search
+     *            or when {@link #reset()} is called
+     * @param searchFunction A function that calls the search service. It is called in the
+     *            background whenever a search is triggered
+     * @param messages Optional messages that are returned by the search service. If there is no
+     *            search result for the given parameters, there must be at least on message to
+     *            explain that fact.
+     * @param afterSearch Is called in the UI when a search has finished, to update the UI
+     */
+    public AsyncSearchController(Supplier<PARAM> parameterCreator,
+            Function<PARAM, RESULT> searchFunction,
+            Function<RESULT, MessageList> messages,
+            Handler afterSearch) {
+        this(parameterCreator, searchFunction, messages, afterSearch, VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    /**
+     * Creates an {@link AsyncSearchController} that calls the search function using the given
+     * {@link ExecutorService}.
+     *
+     * @see #AsyncSearchController(Supplier, Function, Function, Handler)
+     */
+    public AsyncSearchController(Supplier<PARAM> parameterCreator,
+            Function<PARAM, RESULT> searchFunction,
+            Function<RESULT, MessageList> messages,
+            Handler afterSearch,
+            ExecutorService executor) {
+        this.parameterCreator = requireNonNull(parameterCreator, "parameterCreator must not be null");
+        this.searchFunction = requireNonNull(searchFunction, "searchFunction must not be null");
+        this.messages = requireNonNull(messages, "messages must not be null");
+        this.afterSearch = requireNonNull(afterSearch, "afterSearch must not be null");
+        this.executor = requireNonNull(executor, "executor must not be null");
+        this.parameters = parameterCreator.get();
+    }
+
+    @Override
+    public Optional<RESULT> get() {
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Starts the search in the background and cancels the running search, if there is one.
+     */
+    @Override
+    public void search() {
+        UI ui = requireNonNull(UI.getCurrent(), "There is no current UI");
+        if (!ui.getPushConfiguration().getPushMode().isEnabled() && LOGGER.isWarnEnabled()) {
+            LOGGER.warn("""
+                    AsyncSearchController is used although server push is not enabled.
+
+                    Search results will not be displayed in the UI immediately.""");
+        }
+        cancel();
+        int id = searchId;
+        PARAM searchParameters = parameters;
+        runningSearch = executor.submit(() -> runSearch(ui, id, searchParameters));
+    }
+
+    private void runSearch(UI ui, int id, PARAM searchParameters) {
+        Runnable completion;
+        try {
+            RESULT searchResult = searchFunction.apply(searchParameters);
+            completion = () -> result = searchResult;
+            // CSOFF: IllegalCatch
+        } catch (RuntimeException e) {
+            completion = () -> {
+                throw e;
+            };
+        }
+        // CSON: IllegalCatch
+        if (!Thread.currentThread().isInterrupted()) {
+            complete(ui, id, completion);
+        }
+    }
+
+    private void complete(UI ui, int id, Runnable completion) {
+        try {
+            ui.access(() -> {
+                if (id == searchId) {
+                    runningSearch = null;
+                    try {
+                        completion.run();
+                    } finally {
+                        afterSearch.apply();
+                    }
+                }
+            });
+        } catch (UIDetachedException e) {
+            LOGGER.debug("Search result is ignored as the UI has been detached", e);
+        }
+    }
+
+    /**
+     * Returns whether a search has been started that has not finished yet.
+     */
+    @Override
+    public boolean isSearching() {
+        return runningSearch != null;
+    }
+
+    @Override
+    public MessageList getMessages() {
+        return get().map(messages).orElse(new MessageList());
+    }
+
+    /**
+     * Cancels the running search and resets the current result and search parameters.
+     */
+    @Override
+    public void reset() {
+        cancel();
+        parameters = parameterCreator.get();
+    }
+
+    private void cancel() {
+        searchId++;
+        result = null;
+        Future<?> search = runningSearch;
+        if (search != null) {
+            search.cancel(true);
+            runningSearch = null;
+        }
+    }
+
+    @Override
+    public PARAM getParameters() {
+        return parameters;
+    }
+
+}
@@ -60,6 +60,8 @@ public class RoutingSearchController<PARAM, RESULT> implements SearchController<
     private final Function<RESULT, MessageList> messages;
     @CheckForNull
     private RESULT result;
+    @CheckForNull
+    private final SearchResultCache<RESULT> resultCache;
 
     /**
      * Creates a RoutingSearchController.
@@ -74,11 +76,35 @@ public class RoutingSearchController<PARAM, RESULT> implements SearchController<
             Function<PARAM, RESULT> searchFunction,
             SearchParameterMapper<PARAM> parameterMapper,
             Function<RESULT, MessageList> messages) {
+        this(viewPath, searchFunction, parameterMapper, messages, null);
+    }
+
+    /**
+     * Creates a RoutingSearchController that caches the search results in the given
+     * {@link SearchResultCache}. The search function is only called if there is no cached result
+     * for the {@link SearchParameterMapper#toQueryParameters(Object) query parameters} of the
+     * search parameters.
+     * 
+     * @param viewPath the {@link UI#navigate(String, QueryParameters) location} of the search view,
+     *            most likely the value defined in the {@link Route} annotation
+     * @param searchFunction a function that returns a search result for the given search parameters
+     * @param parameterMapper a {@link SearchParameterMapper}
+     * @param messages a function to retrieve a {@link MessageList} from a result
+     * @param resultCache the cache for the search results, <code>null</code> to not cache results
+     * 
+     * @since 2.11.0
+     */
+    public RoutingSearchController(String viewPath,
+            Function<PARAM, RESULT> searchFunction,
+            SearchParameterMapper<PARAM> parameterMapper,
+            Function<RESULT, MessageList> messages,
+            @CheckForNull SearchResultCache<RESULT> resultCache) {
         this.viewPath = viewPath;
         this.searchFunction = searchFunction;
         this.parameterMapper = parameterMapper;
         this.parameters = parameterMapper.toSearchParameters(Collections.emptyMap());
         this.messages = messages;
+        this.resultCache = resultCache;
     }
 
     /**
@@ -130,13 +156,23 @@ public class RoutingSearchController<PARAM, RESULT> implements SearchController<
         if (queryParams.containsKey(SUBMIT_PARAMETER)) {
             queryParams.remove(SUBMIT_PARAMETER);
             parameters = parameterMapper.toSearchParameters(queryParams);
-            result = searchFunction.apply(parameters);
+            result = search(parameters);
         } else {
             parameters = parameterMapper.toSearchParameters(queryParams);
             result = null;
         }
     }
 
+    @CheckForNull
+    private RESULT search(PARAM searchParameters) {
+        if (resultCache == null) {
+            return searchFunction.apply(searchParameters);
+        } else {
+            return resultCache.get(parameterMapper.toQueryParameters(searchParameters),
+                                   () -> searchFunction.apply(searchParameters));
+        }
+    }
+
     @Override
     public Optional<RESULT> get() {
         return Optional.ofNullable(result);
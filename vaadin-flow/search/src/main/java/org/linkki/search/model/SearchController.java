@@ -68,6 +68,20 @@ public interface SearchController<PARAM, RESULT> extends Supplier<Optional<RESUL
      */
     MessageList getMessages();
 
+    /**
+     * Returns whether a search is currently running in the background. While a search is running,
+     * a hint is displayed instead of the result.
+     * <p>
+     * The default implementation returns <code>false</code>, as the search is usually performed
+     * synchronously in {@link #search()}.
+     *
+     * @see AsyncSearchController
+     * @since 2.11.0
+     */
+    default boolean isSearching() {
+        return false;
+    }
+
     /**
      * Returns the currently active parameters.
      * <p>
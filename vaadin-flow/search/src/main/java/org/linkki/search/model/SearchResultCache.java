@@ -0,0 +1,244 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.search.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.linkki.search.util.ParamsUtil;
+
+import com.vaadin.flow.server.VaadinSession;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * A bounded cache for search results that can be used by a {@link RoutingSearchController} to avoid
+ * running the same search again, for example when the user navigates back to the search view or
+ * reloads the page.
+ * <p>
+ * The results are cached by their query parameters, {@link ParamsUtil#removeEmptyValues(Map)
+ * without empty values} and regardless of the order of the parameters. Results expire after the
+ * given time to live. If the cache contains more than the given maximum number of results, the
+ * least recently used result is removed.
+ * <p>
+ * A cache can be shared by all sessions, for example by storing it in a static field, or be
+ * {@link #forCurrentSession(String, Duration, int) scoped to a session}. <em>A shared cache must
+ * only be used for results that are the same for every user.</em> If the result depends on the user,
+ * for example on their permissions or their data, a shared cache would show the results of one user
+ * to all other users that search with the same parameters. In this case, the cache must be scoped
+ * to the session. Cached results can be
+ * removed explicitly using {@link #invalidate(Map)}, {@link #invalidateIf(Predicate)} and
+ * {@link #invalidateAll()}, for example after the searched data has been changed.
+ * <p>
+ * The cache is {@link Serializable} so that it can be stored in a session that is serialized, for
+ * example for session replication. The cached results are not serialized, a deserialized cache is
+ * empty.
+ * <p>
+ * This class is thread-safe. The search itself is not run while holding the lock, so the same
+ * search may run more than once if it is requested concurrently.
+ *
+ * @param <RESULT> Type of the cached search results
+ *
+ * @since 2.11.0
+ */
+public class SearchResultCache<RESULT> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final String SESSION_ATTRIBUTE_PREFIX = SearchResultCache.class.getName() + ".";
+
+    private final Duration timeToLive;
+    private final int maxSize;
+    private final transient Clock clock;
+
+    private final transient Map<Map<String, List<String>>, Entry<RESULT>> entries;
+
+    /**
+     * Creates a new {@link SearchResultCache}.
+     *
+     * @param timeToLive the time after which a cached result expires
+     * @param maxSize the maximum number of cached results
+     */
+    public SearchResultCache(Duration timeToLive, int maxSize) {
+        this(timeToLive, maxSize, Clock.systemUTC());
+    }
+
+    /* private */ SearchResultCache(Duration timeToLive, int maxSize, Clock clock) {
+        this.timeToLive = requireNonNull(timeToLive, "timeToLive must not be null");
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("timeToLive must be positive");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.clock = requireNonNull(clock, "clock must not be null");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Map<String, List<String>>, Entry<RESULT>> eldest) {
+                return size() > SearchResultCache.this.maxSize;
+            }
+
+        };
+    }
+
+    /**
+     * Replaces the deserialized cache by an empty cache with the same time to live and maximum
+     * size, as neither the cached results nor the clock are serialized.
+     */
+    @Serial
+    private Object readResolve() {
+        return new SearchResultCache<>(timeToLive, maxSize);
+    }
+
+    /**
+     * Returns the {@link SearchResultCache} with the given name that is stored in the current
+     * {@link VaadinSession}. If there is none, a new cache is created with the given time to live
+     * and maximum size.
+     *
+     * @param name the name that identifies the cache within the session, for example the path of
+     *            the search view
+     * @param timeToLive the time after which a cached result expires
+     * @param maxSize the maximum number of cached results
+     * @throws IllegalArgumentException if there already is a cache with the given name that has a
+     *             different time to live or maximum size
+     */
+    @SuppressWarnings("unchecked")
+    public static <RESULT> SearchResultCache<RESULT> forCurrentSession(String name,
+            Duration timeToLive,
+            int maxSize) {
+        VaadinSession session = requireNonNull(VaadinSession.getCurrent(), "There is no current VaadinSession");
+        String attribute = SESSION_ATTRIBUTE_PREFIX + requireNonNull(name, "name must not be null");
+        var cache = (SearchResultCache<RESULT>)session.getAttribute(attribute);
+        if (cache == null) {
+            cache = new SearchResultCache<>(timeToLive, maxSize);
+            session.setAttribute(attribute, cache);
+        } else if (!cache.timeToLive.equals(timeToLive) || cache.maxSize != maxSize) {
+            throw new IllegalArgumentException("The " + SearchResultCache.class.getSimpleName() + " " + name
+                    + " of the current session has a time to live of " + cache.timeToLive
+                    + " and a maximum size of " + cache.maxSize + ", not " + timeToLive + " and " + maxSize);
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the cached result for the given query parameters. If there is no result that has not
+     * expired yet, the given search is called and its result is cached.
+     *
+     * @param queryParams the query parameters of the search
+     * @param search calls the search for the query parameters
+     */
+    @CheckForNull
+    public RESULT get(Map<String, List<String>> queryParams, Supplier<RESULT> search) {
+        var key = normalize(queryParams);
+        Optional<RESULT> cachedResult = getCached(key);
+        if (cachedResult.isPresent()) {
+            return cachedResult.get();
+        }
+        RESULT result = search.get();
+        if (result != null) {
+            Instant expiration = clock.instant().plus(timeToLive);
+            synchronized (entries) {
+                entries.put(key, new Entry<>(result, expiration));
+            }
+        }
+        return result;
+    }
+
+    private Optional<RESULT> getCached(Map<String, List<String>> key) {
+        synchronized (entries) {
+            Entry<RESULT> entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            } else if (entry.isExpired(clock.instant())) {
+                entries.remove(key);
+                return Optional.empty();
+            } else {
+                return Optional.of(entry.result());
+            }
+        }
+    }
+
+    /**
+     * Removes the cached result for the given query parameters.
+     */
+    public void invalidate(Map<String, List<String>> queryParams) {
+        var key = normalize(queryParams);
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes all cached results that match the given predicate.
+     */
+    public void invalidateIf(Predicate<? super RESULT> predicate) {
+        requireNonNull(predicate, "predicate must not be null");
+        synchronized (entries) {
+            entries.values().removeIf(entry -> predicate.test(entry.result()));
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached results, including results that have expired but were not
+     * removed yet.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static Map<String, List<String>> normalize(Map<String, List<String>> queryParams) {
+        var normalized = new TreeMap<String, List<String>>();
+        ParamsUtil.removeEmptyValues(requireNonNull(queryParams, "queryParams must not be null"))
+                .forEach((key, values) -> normalized.put(key, List.copyOf(values)));
+        return normalized;
+    }
+
+    private record Entry<RESULT>(RESULT result, Instant expiration) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiration);
+        }
+
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.search.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * The result of a search that is read from a {@link Stream} as it is displayed. Instead of reading
+ * all results before displaying the first one, only the results that are requested using
+ * {@link #get(int, int)} are read from the stream.
+ * <p>
+ * If a maximum number of results is given, at most one result more than the maximum is read from
+ * the stream, which indicates that there are more results than displayed.
+ * <p>
+ * The stream is closed as soon as it has been read completely or the maximum number of results has
+ * been reached. As the stream is read over multiple requests, it must not depend on resources that
+ * are bound to a single request. A result that is no longer needed should be {@link #close()
+ * closed}.
+ *
+ * @param <T> Type of a single result
+ *
+ * @since 2.11.0
+ */
+public class StreamedSearchResult<T> implements AutoCloseable {
+
+    private final Stream<? extends T> stream;
+    private final Iterator<? extends T> iterator;
+    private final Optional<Integer> maxResult;
+    private final int maxLoadedCount;
+    private final List<T> loaded = new ArrayList<>();
+    private boolean complete;
+
+    /**
+     * Creates a {@link StreamedSearchResult} that reads the given stream.
+     *
+     * @param stream the stream of results
+     * @param maxResult the maximum number of results that are displayed
+     */
+    public StreamedSearchResult(Stream<? extends T> stream, Optional<Integer> maxResult) {
+        this.stream = requireNonNull(stream, "stream must not be null");
+        this.maxResult = requireNonNull(maxResult, "maxResult must not be null");
+        this.iterator = stream.iterator();
+        this.maxLoadedCount = maxResult.map(max -> max + 1).orElse(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns an empty {@link StreamedSearchResult}.
+     */
+    public static <T> StreamedSearchResult<T> empty() {
+        return new StreamedSearchResult<>(Stream.empty(), Optional.empty());
+    }
+
+    /**
+     * Returns the results in the given range. Results that have not been read yet are read from the
+     * stream, including one more result to know whether there are further results. Results
+     * exceeding the maximum number of results are never returned.
+     *
+     * @param offset the index of the first result to return
+     * @param limit the maximum number of results to return
+     */
+    public List<T> get(int offset, int limit) {
+        load(offset + (long)limit + 1);
+        int end = (int)Math.min(offset + (long)limit, getDisplayableCount());
+        if (offset >= end) {
+            return List.of();
+        } else {
+            return List.copyOf(loaded.subList(offset, end));
+        }
+    }
+
+    private void load(long count) {
+        long target = Math.min(count, maxLoadedCount);
+        while (!complete && loaded.size() < target) {
+            if (iterator.hasNext()) {
+                loaded.add(iterator.next());
+            } else {
+                close();
+            }
+        }
+        if (loaded.size() >= maxLoadedCount) {
+            close();
+        }
+    }
+
+    /**
+     * Returns the number of results that have been read from the stream so far. This may be one
+     * more than the maximum number of results.
+     */
+    public int getLoadedCount() {
+        return loaded.size();
+    }
+
+    /**
+     * Returns the number of results that have been read and may be displayed, which does not
+     * exceed the maximum number of results.
+     */
+    public int getDisplayableCount() {
+        return maxResult.map(max -> Math.min(max, loaded.size())).orElse(loaded.size());
+    }
+
+    /**
+     * Returns whether the stream has been read completely or the maximum number of results has been
+     * reached, so that {@link #getLoadedCount()} is final.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Closes the stream. No further results are read.
+     */
+    @Override
+    public void close() {
+        if (!complete) {
+            complete = true;
+            stream.close();
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.search.pmo;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.linkki.core.defaults.columnbased.pmo.LazyContainerPmo;
+import org.linkki.search.annotation.UISearchTable;
+import org.linkki.search.model.StreamedSearchResult;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * PMO for displaying a {@link StreamedSearchResult} in a table. The rows are only created for the
+ * results that are displayed, further results are read from the stream while the user scrolls.
+ * <p>
+ * The results are displayed in the order of the stream, sorting by columns is not supported.
+ *
+ * @since 2.11.0
+ */
+@UISearchTable
+public class LazySearchResultTablePmo<T, ROW> extends SearchResultTablePmo<T, ROW> implements LazyContainerPmo<ROW> {
+
+    private final Supplier<StreamedSearchResult<? extends T>> resultSupplier;
+    private final List<ROW> rows = new ArrayList<>();
+
+    @CheckForNull
+    private StreamedSearchResult<? extends T> currentResult;
+
+    public LazySearchResultTablePmo(Supplier<StreamedSearchResult<? extends T>> resultSupplier,
+            Function<T, ROW> rowCreator,
+            Class<? extends ROW> rowClass,
+            Consumer<ROW> primaryAction,
+            Optional<Integer> pageSize) {
+        super(List::of, rowCreator, rowClass, primaryAction, pageSize);
+        this.resultSupplier = requireNonNull(resultSupplier, "resultSupplier must not be null");
+    }
+
+    private StreamedSearchResult<? extends T> getResult() {
+        StreamedSearchResult<? extends T> result = resultSupplier.get();
+        if (result != currentResult) {
+            rows.clear();
+            currentResult = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of results that have been read so far.
+     */
+    @Override
+    public int getItemCount() {
+        return getResult().getDisplayableCount();
+    }
+
+    /**
+     * The number of results is only known once the stream has been read completely.
+     */
+    @Override
+    public boolean isItemCountExact() {
+        return false;
+    }
+
+    /**
+     * Returns the rows in the given range. The sort hints are ignored as the results are displayed in
+     * the order of the stream.
+     */
+    @Override
+    public List<ROW> getItems(int offset, int limit, List<SortHint> sortHints) {
+        StreamedSearchResult<? extends T> result = getResult();
+        int end = offset + result.get(offset, limit).size();
+        if (rows.size() < end) {
+            result.get(rows.size(), end - rows.size()).forEach(modelObject -> rows.add(createRow(modelObject)));
+        }
+        return offset < end ? List.copyOf(rows.subList(offset, end)) : List.of();
+    }
+
+    /**
+     * Returns the rows that have been created so far.
+     */
+    @Override
+    public List<ROW> getItems() {
+        getResult();
+        return Collections.unmodifiableList(rows);
+    }
+
+    /**
+     * The rows are fetched again when a new result is displayed.
+     */
+    @Override
+    public Object getItemsVersion() {
+        return getResult();
+    }
+
+}
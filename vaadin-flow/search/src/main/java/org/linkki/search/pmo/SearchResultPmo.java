@@ -15,6 +15,8 @@ package org.linkki.search.pmo;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import org.linkki.core.binding.validation.message.Message;
@@ -25,6 +27,7 @@ import org.linkki.core.ui.element.annotation.UILabel;
 import org.linkki.core.ui.nested.annotation.UINestedComponent;
 
 import org.linkki.search.util.NlsSearch;
+import org.linkki.util.handler.Handler;
 
 /**
  * PMO to display a search result.
@@ -37,15 +40,20 @@ public class SearchResultPmo<MODEL_OBJECT, ROW> {
 
     private static final String RESULT_COUNT_TEMPLATE_PLURAL = "SearchResultPmo.resultCount";
     private static final String RESULT_COUNT_LIMITED_TEMPLATE_PLURAL = "SearchResultPmo.resultCountLimited";
+    private static final String RESULT_COUNT_AT_LEAST_TEMPLATE_PLURAL = "SearchResultPmo.resultCountAtLeast";
     private static final String RESULT_COUNT_TEMPLATE_SINGULAR = "SearchResultPmo.oneResult";
     private static final String INITIAL_SEARCH_HINT_TEMPLATE = "SearchResultPmo.initialSearchHint";
     private static final String EMPTY_SEARCH_RESULT_HINT_TEMPLATE = "SearchResultPmo.emptySearchResultHint";
+    private static final String SEARCHING_HINT_TEMPLATE = "SearchResultPmo.searchingHint";
 
     private final SearchResultTablePmo<MODEL_OBJECT, ROW> searchResultTablePmo;
     private final Optional<Integer> maxResult;
 
     private final Supplier<MessageList> messages;
-    private final Supplier<List<? extends MODEL_OBJECT>> modelSupplier;
+    private final IntSupplier resultCount;
+    private final BooleanSupplier moreResults;
+    private final BooleanSupplier searching;
+    private final Handler closeHandler;
 
     /**
      * Creates a result pmo containing a {@link SearchResultTablePmo result table} and optional some
@@ -63,10 +71,74 @@ public class SearchResultPmo<MODEL_OBJECT, ROW> {
             Supplier<List<? extends MODEL_OBJECT>> modelSupplier,
             Supplier<MessageList> messages,
             Optional<Integer> maxResult) {
+        this(searchResultTablePmo, () -> modelSupplier.get().size(), () -> false, messages, maxResult, () -> false);
+    }
+
+    /**
+     * Creates a result pmo containing a {@link SearchResultTablePmo result table} and optional some
+     * messages.
+     * 
+     * @param searchResultTablePmo The result table that should be visible if there is any result to
+     *            be selected.
+     * @param resultCount The number of results, or the number of results read so far if there are
+     *            more results.
+     * @param moreResults Whether there are more results than given by <code>resultCount</code>,
+     *            for example because the results are read from a stream.
+     * @param messages The optional messages to give some information to the user. If the search was
+     *            triggered but there is no result for the search criteria, an appropriate message
+     *            should exist.
+     * @param maxResult The maximum count of possibly returned results, if exists it is given as an
+     *            extra hint to the user.
+     * @param searching Whether a search is running in the background. While it is running, a hint
+     *            is displayed instead of the other hints.
+     * 
+     * @since 2.11.0
+     */
+    public SearchResultPmo(SearchResultTablePmo<MODEL_OBJECT, ROW> searchResultTablePmo,
+            IntSupplier resultCount,
+            BooleanSupplier moreResults,
+            Supplier<MessageList> messages,
+            Optional<Integer> maxResult,
+            BooleanSupplier searching) {
+        this(searchResultTablePmo, resultCount, moreResults, messages, maxResult, searching, Handler.NOP_HANDLER);
+    }
+
+    /**
+     * Creates a result pmo containing a {@link SearchResultTablePmo result table} and optional some
+     * messages.
+     * 
+     * @param searchResultTablePmo The result table that should be visible if there is any result to
+     *            be selected.
+     * @param resultCount The number of results, or the number of results read so far if there are
+     *            more results.
+     * @param moreResults Whether there are more results than given by <code>resultCount</code>,
+     *            for example because the results are read from a stream.
+     * @param messages The optional messages to give some information to the user. If the search was
+     *            triggered but there is no result for the search criteria, an appropriate message
+     *            should exist.
+     * @param maxResult The maximum count of possibly returned results, if exists it is given as an
+     *            extra hint to the user.
+     * @param searching Whether a search is running in the background. While it is running, a hint
+     *            is displayed instead of the other hints.
+     * @param closeHandler Releases the resources held by the result, for example an open result
+     *            stream. It is called by {@link #close()}.
+     * 
+     * @since 2.11.0
+     */
+    public SearchResultPmo(SearchResultTablePmo<MODEL_OBJECT, ROW> searchResultTablePmo,
+            IntSupplier resultCount,
+            BooleanSupplier moreResults,
+            Supplier<MessageList> messages,
+            Optional<Integer> maxResult,
+            BooleanSupplier searching,
+            Handler closeHandler) {
         this.searchResultTablePmo = searchResultTablePmo;
-        this.modelSupplier = modelSupplier;
+        this.resultCount = resultCount;
+        this.moreResults = moreResults;
         this.messages = messages;
         this.maxResult = maxResult;
+        this.searching = searching;
+        this.closeHandler = closeHandler;
     }
 
     @BindVisible
@@ -76,7 +148,7 @@ public class SearchResultPmo<MODEL_OBJECT, ROW> {
     }
 
     public boolean isInitialSearchHintVisible() {
-        return messages.get().isEmpty() && getResultCount() <= 0;
+        return !searching.getAsBoolean() && messages.get().isEmpty() && getResultCount() <= 0;
     }
 
     @UILabel(position = 20, visible = VisibleType.DYNAMIC)
@@ -88,6 +160,15 @@ public class SearchResultPmo<MODEL_OBJECT, ROW> {
         return getResultCount() <= 0 && isMostSevereMessageVisible();
     }
 
+    @UILabel(position = 30, visible = VisibleType.DYNAMIC)
+    public String getSearchingHint() {
+        return NlsSearch.getString(SEARCHING_HINT_TEMPLATE);
+    }
+
+    public boolean isSearchingHintVisible() {
+        return searching.getAsBoolean();
+    }
+
     @BindVisible
     @UILabel(position = 40)
     public String getMostSevereMessage() {
@@ -108,6 +189,9 @@ public class SearchResultPmo<MODEL_OBJECT, ROW> {
         } else if (maxResult.isPresent() && count > maxResult.get()) {
             return NlsSearch.format(RESULT_COUNT_LIMITED_TEMPLATE_PLURAL,
                                     Integer.toString(maxResult.get()));
+        } else if (moreResults.getAsBoolean()) {
+            return NlsSearch.format(RESULT_COUNT_AT_LEAST_TEMPLATE_PLURAL,
+                                    Integer.toString(count));
         } else {
             return NlsSearch.format(RESULT_COUNT_TEMPLATE_PLURAL,
                                     Integer.toString(count));
@@ -129,13 +213,23 @@ public class SearchResultPmo<MODEL_OBJECT, ROW> {
     }
 
     private int getResultCount() {
-        return modelSupplier.get().size();
+        return resultCount.getAsInt();
     }
 
     private boolean isResultPresent() {
         return getResultCount() > 0;
     }
 
+    /**
+     * Releases the resources held by the current result. This is called when the component
+     * displaying this PMO is detached.
+     * 
+     * @since 2.11.0
+     */
+    public void close() {
+        closeHandler.apply();
+    }
+
     public Optional<ROW> getSelectedRow() {
         if (isResultPresent()) {
             return Optional.ofNullable(getSearchResultTable().getSelection());
@@ -11,7 +11,9 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -32,9 +34,11 @@ import org.linkki.framework.ui.component.Headline;
 import org.linkki.search.component.SearchInputLayout;
 import org.linkki.search.component.SearchResultLayout;
 import org.linkki.search.model.SimpleSearchController;
+import org.linkki.search.pmo.SearchLayoutPmo;
 
 import com.github.mvysny.kaributesting.v10.mock.MockNpmTemplateParser;
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.html.H2;
@@ -187,6 +191,143 @@ class SearchLayoutIntegrationTest {
                 .containsExactly("something else-3 suffix", "something else-4 suffix");
     }
 
+    @Test
+    void testSearch_Streaming() {
+        var closed = new AtomicBoolean();
+        var searchController = new SimpleSearchController<>(
+                TestSearchParameters::new,
+                s -> new TestSearchResult(IntStream.rangeClosed(1, 5)
+                        .mapToObj(i -> new TestModelObject(s.name + i))
+                        .toList(),
+                        new MessageList()),
+                TestSearchResult::messages);
+
+        var searchLayoutPmo = SearchLayoutBuilder
+                .<TestSearchParameters, TestSearchResult, TestModelObject, TestSearchResultRowPmo> with()
+                .searchParametersPmo(TestSearchParametersPmo::new)
+                .searchResultRowPmo(TestSearchResultRowPmo::new,
+                                    TestSearchResultRowPmo::modelObject,
+                                    TestSearchResultRowPmo.class)
+                .streamingSearchController(searchController,
+                                           r -> r.result().stream().onClose(() -> closed.set(true)))
+                .primaryAction(o -> searchController.search())
+                .maxResult(3)
+                .build();
+        var bindingContext = new BindingContext();
+        var layout = VaadinUiCreator.createComponent(searchLayoutPmo, bindingContext);
+
+        var nameField = getWithId(layout, TextField.class, "name");
+        setValue(nameField, SEARCH_ENTRY);
+        getWithId(layout, Button.class, "search").click();
+
+        assertThat(layout)
+                .withRepresentation(new ComponentTreeRepresentation())
+                .as("The limited result count should be displayed")
+                .has(exactlyOneVisibleChildOfType(LinkkiText.class,
+                                                  spec -> spec.withText("Only the first 3 results are displayed.")))
+                .as("The table of results should be displayed")
+                .has(exactlyOneVisibleChildOfType(Grid.class, spec -> spec.withId("LazySearchResultTablePmo")));
+        assertThat(closed)
+                .as("The stream should be closed as soon as the maximum number of results is read")
+                .isTrue();
+        assertThat(Grids.getTextContentsInColumn(Grids.get(layout), "column"))
+                .containsExactly(SEARCH_ENTRY + "1 suffix",
+                                 SEARCH_ENTRY + "2 suffix",
+                                 SEARCH_ENTRY + "3 suffix");
+    }
+
+    @Test
+    void testSearch_Streaming_ClosedOnDetach() {
+        var closed = new AtomicBoolean();
+        var searchController = new SimpleSearchController<>(
+                TestSearchParameters::new,
+                s -> new TestSearchResult(IntStream.rangeClosed(1, 5)
+                        .mapToObj(i -> new TestModelObject(s.name + i))
+                        .toList(),
+                        new MessageList()),
+                TestSearchResult::messages);
+        var searchLayoutPmo = createStreamingSearchLayoutPmo(searchController, closed);
+        var layout = VaadinUiCreator.createComponent(searchLayoutPmo, new BindingContext());
+        UI.getCurrent().add(layout);
+
+        setValue(getWithId(layout, TextField.class, "name"), SEARCH_ENTRY);
+        getWithId(layout, Button.class, "search").click();
+        assertThat(closed)
+                .as("The stream should stay open as long as there are more results to read")
+                .isFalse();
+
+        UI.getCurrent().remove(layout);
+
+        assertThat(closed)
+                .as("The stream should be closed when the result layout is detached")
+                .isTrue();
+    }
+
+    @Test
+    void testSearch_Streaming_ReopenedOnReattach() {
+        var searchController = new SimpleSearchController<>(
+                TestSearchParameters::new,
+                s -> new TestSearchResult(IntStream.rangeClosed(1, 5)
+                        .mapToObj(i -> new TestModelObject(s.name + i))
+                        .toList(),
+                        new MessageList()),
+                TestSearchResult::messages);
+        var searchLayoutPmo = createStreamingSearchLayoutPmo(searchController, new AtomicBoolean());
+        var bindingContext = new BindingContext();
+        var layout = VaadinUiCreator.createComponent(searchLayoutPmo, bindingContext);
+        UI.getCurrent().add(layout);
+        setValue(getWithId(layout, TextField.class, "name"), SEARCH_ENTRY);
+        getWithId(layout, Button.class, "search").click();
+
+        UI.getCurrent().remove(layout);
+        UI.getCurrent().add(layout);
+        bindingContext.updateUi();
+
+        assertThat(getWithId(layout, LinkkiText.class, "searchResultCount").getText())
+                .as("The result should be read again after the layout is attached again")
+                .startsWith("At least");
+    }
+
+    @Test
+    void testReset_Streaming_ClosesResult() {
+        var closed = new AtomicBoolean();
+        var searchController = new SimpleSearchController<>(
+                TestSearchParameters::new,
+                s -> new TestSearchResult(IntStream.rangeClosed(1, 5)
+                        .mapToObj(i -> new TestModelObject(s.name + i))
+                        .toList(),
+                        new MessageList()),
+                TestSearchResult::messages);
+        var searchLayoutPmo = createStreamingSearchLayoutPmo(searchController, closed);
+        var layout = VaadinUiCreator.createComponent(searchLayoutPmo, new BindingContext());
+
+        setValue(getWithId(layout, TextField.class, "name"), SEARCH_ENTRY);
+        getWithId(layout, Button.class, "search").click();
+        assertThat(closed).isFalse();
+
+        getWithId(layout, Button.class, "reset").click();
+
+        assertThat(closed)
+                .as("The stream should be closed on reset")
+                .isTrue();
+    }
+
+    private SearchLayoutPmo<TestSearchResultRowPmo> createStreamingSearchLayoutPmo(
+            SimpleSearchController<TestSearchParameters, TestSearchResult> searchController,
+            AtomicBoolean closed) {
+        return SearchLayoutBuilder
+                .<TestSearchParameters, TestSearchResult, TestModelObject, TestSearchResultRowPmo> with()
+                .searchParametersPmo(TestSearchParametersPmo::new)
+                .searchResultRowPmo(TestSearchResultRowPmo::new,
+                                    TestSearchResultRowPmo::modelObject,
+                                    TestSearchResultRowPmo.class)
+                .streamingSearchController(searchController,
+                                           r -> r.result().stream().onClose(() -> closed.set(true)))
+                .primaryAction(o -> searchController.search())
+                .pageSize(2)
+                .build();
+    }
+
     @Test
     void testSearch_NoResult() {
         var searchController = new SimpleSearchController<>(
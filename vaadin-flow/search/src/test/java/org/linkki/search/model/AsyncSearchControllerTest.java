@@ -0,0 +1,172 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.search.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.validation.message.Message;
+import org.linkki.core.binding.validation.message.MessageList;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.Command;
+import com.vaadin.flow.shared.communication.PushMode;
+
+class AsyncSearchControllerTest {
+
+    private final BlockingQueue<Command> uiCommands = new LinkedBlockingQueue<>();
+    private final AtomicInteger afterSearchCount = new AtomicInteger();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @BeforeEach
+    void mockUI() {
+        UI ui = mock(UI.class, RETURNS_DEEP_STUBS);
+        when(ui.getPushConfiguration().getPushMode()).thenReturn(PushMode.AUTOMATIC);
+        when(ui.access(any())).thenAnswer(invocation -> {
+            uiCommands.add(invocation.getArgument(0));
+            return null;
+        });
+        UI.setCurrent(ui);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        UI.setCurrent(null);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testSearch() throws InterruptedException {
+        var controller = createController(p -> "result " + p);
+
+        controller.search();
+
+        assertThat(controller.isSearching()).isTrue();
+        assertThat(controller.get()).isEmpty();
+
+        runNextUiCommand();
+
+        assertThat(controller.isSearching()).isFalse();
+        assertThat(controller.get()).hasValue("result 1");
+        assertThat(controller.getMessages()).containsExactly(Message.newInfo("result 1", "result 1"));
+        assertThat(afterSearchCount).hasValue(1);
+    }
+
+    @Test
+    void testSearch_CancelsRunningSearch() throws InterruptedException {
+        var firstSearchStarted = new CountDownLatch(1);
+        var firstSearchInterrupted = new CountDownLatch(1);
+        var controller = createController(p -> {
+            if (p == 1) {
+                firstSearchStarted.countDown();
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException e) {
+                    firstSearchInterrupted.countDown();
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "result " + p;
+        });
+
+        controller.search();
+        assertThat(firstSearchStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        controller.getParameters().incrementAndGet();
+        controller.search();
+
+        assertThat(firstSearchInterrupted.await(10, TimeUnit.SECONDS)).isTrue();
+        runNextUiCommand();
+
+        assertThat(controller.get()).hasValue("result 2");
+        assertThat(uiCommands.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void testSearch_DiscardsOutdatedResult() throws InterruptedException {
+        var controller = createController(p -> "result " + p);
+
+        controller.search();
+        Command outdatedResult = uiCommands.poll(10, TimeUnit.SECONDS);
+        controller.getParameters().incrementAndGet();
+        controller.search();
+        runNextUiCommand();
+        assertThat(outdatedResult).isNotNull();
+        outdatedResult.execute();
+
+        assertThat(controller.get()).hasValue("result 2");
+        assertThat(afterSearchCount).hasValue(1);
+    }
+
+    @Test
+    void testSearch_Exception() throws InterruptedException {
+        var controller = createController(p -> {
+            throw new IllegalStateException("search failed");
+        });
+
+        controller.search();
+
+        assertThatThrownBy(this::runNextUiCommand).isInstanceOf(IllegalStateException.class);
+        assertThat(controller.isSearching()).isFalse();
+        assertThat(controller.get()).isEmpty();
+        assertThat(afterSearchCount).hasValue(1);
+    }
+
+    @Test
+    void testReset_CancelsRunningSearch() throws InterruptedException {
+        var controller = createController(p -> "result " + p);
+
+        controller.search();
+        controller.reset();
+
+        assertThat(controller.isSearching()).isFalse();
+        Command outdatedResult = uiCommands.poll(10, TimeUnit.SECONDS);
+        if (outdatedResult != null) {
+            outdatedResult.execute();
+        }
+        assertThat(controller.get()).isEmpty();
+        assertThat(afterSearchCount).hasValue(0);
+    }
+
+    private AsyncSearchController<AtomicInteger, String> createController(Function<Integer, String> search) {
+        return new AsyncSearchController<>(() -> new AtomicInteger(1),
+                p -> search.apply(p.get()),
+                r -> new MessageList(Message.newInfo(r, r)),
+                afterSearchCount::incrementAndGet,
+                executor);
+    }
+
+    private void runNextUiCommand() throws InterruptedException {
+        Command command = uiCommands.poll(10, TimeUnit.SECONDS);
+        assertThat(command).isNotNull();
+        command.execute();
+    }
+
+}
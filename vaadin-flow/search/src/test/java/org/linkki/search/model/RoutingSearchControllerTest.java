@@ -17,11 +17,13 @@ package org.linkki.search.model;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -86,6 +88,34 @@ class RoutingSearchControllerTest {
         assertThat(result).isPresent();
     }
 
+    @Test
+    void testInitialize_WithResultCache() {
+        var searchCount = new AtomicInteger();
+        var cachingController = new RoutingSearchController<>("search", p -> {
+            searchCount.incrementAndGet();
+            return new SearchResult();
+        }, new SearchParamsMapper(), p -> new MessageList(),
+                new SearchResultCache<SearchResult>(Duration.ofMinutes(1), 10));
+        Map<String, List<String>> queryParams = new HashMap<>();
+        queryParams.put("someList", Arrays.asList("1", "2", "3"));
+        queryParams.put("empty", Arrays.asList(""));
+        queryParams.put("submit", Arrays.asList("true"));
+
+        cachingController.initialize(new Location("search", new QueryParameters(queryParams)));
+        var firstResult = cachingController.get();
+        queryParams.remove("empty");
+        cachingController.initialize(new Location("search", new QueryParameters(queryParams)));
+
+        assertThat(cachingController.get()).isEqualTo(firstResult).isPresent();
+        assertThat(searchCount).hasValue(1);
+
+        queryParams.put("someList", Arrays.asList("4"));
+        cachingController.initialize(new Location("search", new QueryParameters(queryParams)));
+
+        assertThat(cachingController.get()).isNotEqualTo(firstResult);
+        assertThat(searchCount).hasValue(2);
+    }
+
     private static class SearchParams {
 
         // the queryParams are only testing purposes
@@ -109,7 +139,7 @@ class RoutingSearchControllerTest {
 
         @Override
         public Map<String, List<String>> toQueryParameters(SearchParams searchParams) {
-            return Collections.emptyMap();
+            return searchParams.queryParams;
         }
 
     }
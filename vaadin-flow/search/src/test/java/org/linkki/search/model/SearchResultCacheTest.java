@@ -0,0 +1,223 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.linkki.search.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.linkki.core.ui.test.KaribuUIExtension;
+
+class SearchResultCacheTest {
+
+    private final TestClock clock = new TestClock();
+    private final AtomicInteger searchCount = new AtomicInteger();
+    private final SearchResultCache<String> cache = new SearchResultCache<>(Duration.ofMinutes(5), 2, clock);
+
+    @Test
+    void testConstructor_InvalidArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SearchResultCache<>(Duration.ZERO, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new SearchResultCache<>(Duration.ofMinutes(1), 0));
+    }
+
+    @Test
+    void testSerialization() throws IOException, ClassNotFoundException {
+        cache.get(Map.of("a", List.of("1")), this::search);
+
+        var deserializedCache = serializeAndDeserialize(cache);
+
+        assertThat(deserializedCache.size()).isZero();
+        assertThat(deserializedCache.get(Map.of("a", List.of("1")), this::search)).isEqualTo("result 2");
+        assertThat(deserializedCache.get(Map.of("a", List.of("1")), this::search)).isEqualTo("result 2");
+        deserializedCache.get(Map.of("a", List.of("2")), this::search);
+        deserializedCache.get(Map.of("a", List.of("3")), this::search);
+        assertThat(deserializedCache.size())
+                .as("The maximum size should be preserved")
+                .isEqualTo(2);
+    }
+
+    @Test
+    void testGet_CachedForSameParameters() {
+        assertThat(cache.get(Map.of("a", List.of("1")), this::search)).isEqualTo("result 1");
+        assertThat(cache.get(Map.of("a", List.of("1")), this::search)).isEqualTo("result 1");
+
+        assertThat(searchCount).hasValue(1);
+    }
+
+    @Test
+    void testGet_ParametersNormalized() {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        params.put("a", List.of("1"));
+        params.put("b", List.of("2"));
+        Map<String, List<String>> sameParams = new LinkedHashMap<>();
+        sameParams.put("empty", Arrays.asList("", null));
+        sameParams.put("b", List.of("2"));
+        sameParams.put("a", List.of("1"));
+
+        cache.get(params, this::search);
+
+        assertThat(cache.get(sameParams, this::search)).isEqualTo("result 1");
+        assertThat(cache.get(Map.of("a", List.of("2")), this::search)).isEqualTo("result 2");
+    }
+
+    @Test
+    void testGet_Expired() {
+        cache.get(Map.of(), this::search);
+
+        clock.advance(Duration.ofMinutes(4));
+        assertThat(cache.get(Map.of(), this::search)).isEqualTo("result 1");
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(cache.get(Map.of(), this::search)).isEqualTo("result 2");
+    }
+
+    @Test
+    void testGet_LeastRecentlyUsedRemoved() {
+        cache.get(Map.of("a", List.of("1")), this::search);
+        cache.get(Map.of("a", List.of("2")), this::search);
+        cache.get(Map.of("a", List.of("1")), this::search);
+        cache.get(Map.of("a", List.of("3")), this::search);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(Map.of("a", List.of("1")), this::search)).isEqualTo("result 1");
+        assertThat(cache.get(Map.of("a", List.of("2")), this::search)).isEqualTo("result 4");
+    }
+
+    @Test
+    void testGet_NullNotCached() {
+        assertThat(cache.get(Map.of(), () -> null)).isNull();
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testInvalidate() {
+        cache.get(Map.of("a", List.of("1")), this::search);
+        cache.get(Map.of("a", List.of("2")), this::search);
+
+        cache.invalidate(Map.of("a", List.of("1"), "empty", List.of("")));
+
+        assertThat(cache.get(Map.of("a", List.of("1")), this::search)).isEqualTo("result 3");
+        assertThat(cache.get(Map.of("a", List.of("2")), this::search)).isEqualTo("result 2");
+    }
+
+    @Test
+    void testInvalidateIf() {
+        cache.get(Map.of("a", List.of("1")), this::search);
+        cache.get(Map.of("a", List.of("2")), this::search);
+
+        cache.invalidateIf("result 2"::equals);
+
+        assertThat(cache.get(Map.of("a", List.of("1")), this::search)).isEqualTo("result 1");
+        assertThat(cache.get(Map.of("a", List.of("2")), this::search)).isEqualTo("result 3");
+    }
+
+    @Test
+    void testInvalidateAll() {
+        cache.get(Map.of("a", List.of("1")), this::search);
+        cache.get(Map.of("a", List.of("2")), this::search);
+
+        cache.invalidateAll();
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> SearchResultCache<T> serializeAndDeserialize(SearchResultCache<T> cache)
+            throws IOException, ClassNotFoundException {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(cache);
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (SearchResultCache<T>)in.readObject();
+        }
+    }
+
+    private String search() {
+        return "result " + searchCount.incrementAndGet();
+    }
+
+    private static class TestClock extends Clock {
+
+        private Instant instant = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+    }
+
+    @Nested
+    @ExtendWith(KaribuUIExtension.class)
+    class ForCurrentSession {
+
+        @Test
+        void testForCurrentSession() {
+            SearchResultCache<String> sessionCache = SearchResultCache
+                    .forCurrentSession("search", Duration.ofMinutes(5), 2);
+
+            assertThat(SearchResultCache.<String> forCurrentSession("search", Duration.ofMinutes(5), 2))
+                    .isSameAs(sessionCache);
+            assertThat(SearchResultCache.<String> forCurrentSession("other", Duration.ofMinutes(5), 2))
+                    .isNotSameAs(sessionCache);
+        }
+
+        @Test
+        void testForCurrentSession_DifferentConfiguration() {
+            SearchResultCache.forCurrentSession("search", Duration.ofMinutes(5), 2);
+
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> SearchResultCache.forCurrentSession("search", Duration.ofMinutes(1), 2));
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> SearchResultCache.forCurrentSession("search", Duration.ofMinutes(5), 3));
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.linkki.search.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class StreamedSearchResultTest {
+
+    private final AtomicInteger readCount = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private Stream<Integer> stream(int size) {
+        return IntStream.range(0, size).boxed()
+                .peek(i -> readCount.incrementAndGet())
+                .onClose(() -> closed.set(true));
+    }
+
+    @Test
+    void testGet_ReadsOnlyRequestedResults() {
+        var result = new StreamedSearchResult<>(stream(100), Optional.empty());
+
+        assertThat(result.get(0, 10)).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(readCount).hasValue(11);
+        assertThat(result.getLoadedCount()).isEqualTo(11);
+        assertThat(result.isComplete()).isFalse();
+
+        assertThat(result.get(5, 3)).containsExactly(5, 6, 7);
+        assertThat(readCount).hasValue(11);
+
+        assertThat(result.get(20, 2)).containsExactly(20, 21);
+        assertThat(readCount).hasValue(23);
+        assertThat(closed).isFalse();
+    }
+
+    @Test
+    void testGet_EndOfStream() {
+        var result = new StreamedSearchResult<>(stream(5), Optional.empty());
+
+        assertThat(result.get(3, 10)).containsExactly(3, 4);
+        assertThat(result.get(10, 10)).isEmpty();
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.getLoadedCount()).isEqualTo(5);
+        assertThat(result.getDisplayableCount()).isEqualTo(5);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void testGet_MaxResult() {
+        var result = new StreamedSearchResult<>(stream(100), Optional.of(5));
+
+        assertThat(result.get(0, 10)).containsExactly(0, 1, 2, 3, 4);
+        assertThat(readCount).hasValue(6);
+        assertThat(result.getLoadedCount()).isEqualTo(6);
+        assertThat(result.getDisplayableCount()).isEqualTo(5);
+        assertThat(result.isComplete()).isTrue();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void testGet_MaxResultNotReached() {
+        var result = new StreamedSearchResult<>(stream(5), Optional.of(5));
+
+        assertThat(result.get(0, 2)).containsExactly(0, 1);
+        assertThat(result.isComplete()).isFalse();
+
+        assertThat(result.get(0, 10)).containsExactly(0, 1, 2, 3, 4);
+        assertThat(result.getLoadedCount()).isEqualTo(5);
+        assertThat(result.isComplete()).isTrue();
+    }
+
+    @Test
+    void testClose() {
+        var result = new StreamedSearchResult<>(stream(100), Optional.empty());
+        result.get(0, 2);
+
+        result.close();
+
+        assertThat(closed).isTrue();
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.get(0, 10)).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void testEmpty() {
+        var result = StreamedSearchResult.empty();
+
+        assertThat(result.get(0, 10)).isEmpty();
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.getLoadedCount()).isZero();
+    }
+
+}